@@ -1,8 +1,10 @@
 package com.unicorn.tripgen.ai;
 
+import com.unicorn.tripgen.common.config.VirtualThreadPinningMonitor;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -14,6 +16,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableFeignClients
 @EnableAsync
 @EnableScheduling
+@Import(VirtualThreadPinningMonitor.class)
 public class AIServiceApplication {
     
     public static void main(String[] args) {
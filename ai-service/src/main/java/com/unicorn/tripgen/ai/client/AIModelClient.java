@@ -4,6 +4,7 @@ import com.unicorn.tripgen.ai.entity.AIModelType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -19,6 +20,7 @@ public class AIModelClient {
     
     private final OpenAIClient openAIClient;
     private final ClaudeClient claudeClient;
+    private final ModelHealthRegistry modelHealthRegistry;
     
     /**
      * AI 모델을 통한 일정 생성
@@ -27,14 +29,38 @@ public class AIModelClient {
         log.debug("AI 일정 생성 요청: modelType={}", modelType);
         
         if (modelType.isOpenAI()) {
-            return openAIClient.generateSchedule(modelType.getModelId(), prompt, context);
+            return track(modelType, openAIClient.generateSchedule(modelType.getModelId(), prompt, context));
         } else if (modelType.isClaude()) {
-            return claudeClient.generateSchedule(modelType.getModelId(), prompt, context);
+            return track(modelType, claudeClient.generateSchedule(modelType.getModelId(), prompt, context));
         } else {
             return Mono.error(new IllegalArgumentException("지원하지 않는 AI 모델 타입: " + modelType));
         }
     }
     
+    /**
+     * AI 모델을 통한 일정 생성 (스트리밍)
+     * 응답 텍스트 조각을 도착 순서대로 방출
+     */
+    public Flux<String> streamSchedule(AIModelType modelType, String prompt) {
+        log.debug("AI 일정 스트리밍 생성 요청: modelType={}", modelType);
+        
+        Flux<String> stream;
+        if (modelType.isOpenAI()) {
+            stream = openAIClient.streamSchedule(modelType.getModelId(), prompt);
+        } else if (modelType.isClaude()) {
+            stream = claudeClient.streamSchedule(modelType.getModelId(), prompt);
+        } else {
+            return Flux.error(new IllegalArgumentException("지원하지 않는 AI 모델 타입: " + modelType));
+        }
+        
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return stream
+                    .doOnComplete(() -> modelHealthRegistry.recordSuccess(modelType, System.nanoTime() - start))
+                    .doOnError(error -> modelHealthRegistry.recordFailure(modelType, error, System.nanoTime() - start));
+        });
+    }
+    
     /**
      * AI 모델을 통한 추천 생성
      */
@@ -42,29 +68,38 @@ public class AIModelClient {
         log.debug("AI 추천 생성 요청: modelType={}", modelType);
         
         if (modelType.isOpenAI()) {
-            return openAIClient.generateRecommendation(modelType.getModelId(), prompt, context);
+            return track(modelType, openAIClient.generateRecommendation(modelType.getModelId(), prompt, context));
         } else if (modelType.isClaude()) {
-            return claudeClient.generateRecommendation(modelType.getModelId(), prompt, context);
+            return track(modelType, claudeClient.generateRecommendation(modelType.getModelId(), prompt, context));
         } else {
             return Mono.error(new IllegalArgumentException("지원하지 않는 AI 모델 타입: " + modelType));
         }
     }
     
     /**
-     * AI 모델 사용 가능 여부 확인
+     * AI 모델을 통한 추천 생성 (최대 출력 토큰 지정 - 여러 장소를 묶은 배치용)
      */
-    public Mono<Boolean> isModelAvailable(AIModelType modelType) {
-        log.debug("AI 모델 사용가능 여부 확인: modelType={}", modelType);
+    public Mono<String> generateRecommendation(AIModelType modelType, String prompt, Map<String, Object> context,
+                                               int maxTokens) {
+        log.debug("AI 추천 생성 요청: modelType={}, maxTokens={}", modelType, maxTokens);
         
         if (modelType.isOpenAI()) {
-            return openAIClient.isModelAvailable(modelType.getModelId());
+            return track(modelType, openAIClient.generateRecommendation(modelType.getModelId(), prompt, context, maxTokens));
         } else if (modelType.isClaude()) {
-            return claudeClient.isModelAvailable(modelType.getModelId());
+            return track(modelType, claudeClient.generateRecommendation(modelType.getModelId(), prompt, context, maxTokens));
         } else {
-            return Mono.just(false);
+            return Mono.error(new IllegalArgumentException("지원하지 않는 AI 모델 타입: " + modelType));
         }
     }
     
+    /**
+     * AI 모델 사용 가능 여부 확인
+     * 외부 API를 호출하지 않고 모델 상태 레지스트리에서 조회
+     */
+    public Mono<Boolean> isModelAvailable(AIModelType modelType) {
+        return Mono.just(modelHealthRegistry.isAvailable(modelType));
+    }
+    
     /**
      * 최적 모델 선택
      * 사용 가능한 모델 중에서 성능과 비용을 고려하여 선택
@@ -96,4 +131,16 @@ public class AIModelClient {
                 .map(available -> modelType)
                 .doOnNext(selected -> log.debug("AI 모델 선택됨: {}", selected));
     }
+    
+    /**
+     * 실제 호출 결과(지연 시간, 성공/실패 원인)를 모델 상태 레지스트리에 기록
+     */
+    private Mono<String> track(AIModelType modelType, Mono<String> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> modelHealthRegistry.recordSuccess(modelType, System.nanoTime() - start))
+                    .doOnError(error -> modelHealthRegistry.recordFailure(modelType, error, System.nanoTime() - start));
+        });
+    }
 }
\ No newline at end of file
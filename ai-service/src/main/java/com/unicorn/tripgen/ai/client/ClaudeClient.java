@@ -1,12 +1,17 @@
 package com.unicorn.tripgen.ai.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -22,7 +27,13 @@ import java.util.Map;
 @Slf4j
 public class ClaudeClient {
     
+    /**
+     * 단일 장소 추천 최대 출력 토큰
+     */
+    private static final int RECOMMENDATION_MAX_TOKENS = 2000;
+    
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
     
     @Value("${ai.claude.api-key}")
     private String apiKey;
@@ -56,9 +67,8 @@ public class ClaudeClient {
         
         return webClient.post()
                 .uri(baseUrl + "/messages")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .headers(this::applyAuthHeaders)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .header("anthropic-version", apiVersion)
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(Map.class)
@@ -68,15 +78,58 @@ public class ClaudeClient {
                 .doOnError(error -> log.error("Claude 일정 생성 실패", error));
     }
     
+    /**
+     * Claude를 통한 여행 일정 생성 (스트리밍)
+     * SSE content_block_delta 이벤트의 텍스트 조각을 순서대로 방출
+     * 타임아웃은 조각 간 최대 대기 시간으로 적용
+     */
+    public Flux<String> streamSchedule(String model, String prompt) {
+        log.debug("Claude 일정 스트리밍 생성 요청: model={}, promptLength={}", model, prompt.length());
+        
+        var requestBody = Map.of(
+            "model", model,
+            "max_tokens", 4000,
+            "temperature", 0.7,
+            "stream", true,
+            "messages", List.of(
+                Map.of(
+                    "role", "user", 
+                    "content", buildSchedulePrompt(prompt)
+                )
+            )
+        );
+        
+        return webClient.post()
+                .uri(baseUrl + "/messages")
+                .headers(this::applyAuthHeaders)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .filter(event -> "content_block_delta".equals(event.event()) && event.data() != null)
+                .mapNotNull(event -> extractDeltaText(event.data()))
+                .doOnComplete(() -> log.debug("Claude 일정 스트리밍 생성 완료"))
+                .doOnError(error -> log.error("Claude 일정 스트리밍 생성 실패", error));
+    }
+    
     /**
      * Claude를 통한 장소 추천 생성
      */
     public Mono<String> generateRecommendation(String model, String prompt, Map<String, Object> context) {
-        log.debug("Claude 추천 생성 요청: model={}, promptLength={}", model, prompt.length());
+        return generateRecommendation(model, prompt, context, RECOMMENDATION_MAX_TOKENS);
+    }
+    
+    /**
+     * Claude를 통한 장소 추천 생성 (최대 출력 토큰 지정 - 여러 장소를 묶은 배치용)
+     */
+    public Mono<String> generateRecommendation(String model, String prompt, Map<String, Object> context, int maxTokens) {
+        log.debug("Claude 추천 생성 요청: model={}, promptLength={}, maxTokens={}", model, prompt.length(), maxTokens);
         
         var requestBody = Map.of(
             "model", model,
-            "max_tokens", 2000,
+            "max_tokens", maxTokens,
             "temperature", 0.6,
             "messages", List.of(
                 Map.of(
@@ -88,9 +141,8 @@ public class ClaudeClient {
         
         return webClient.post()
                 .uri(baseUrl + "/messages")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .headers(this::applyAuthHeaders)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .header("anthropic-version", apiVersion)
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(Map.class)
@@ -101,30 +153,28 @@ public class ClaudeClient {
     }
     
     /**
-     * 모델 사용 가능 여부 확인 (Claude의 경우 단순히 API 키 유효성 확인)
+     * 모델 사용 가능 여부 확인
+     * 토큰을 소모하는 메시지 요청 대신 모델 조회 API 사용
      */
     public Mono<Boolean> isModelAvailable(String model) {
-        var testRequestBody = Map.of(
-            "model", model,
-            "max_tokens", 1,
-            "messages", List.of(
-                Map.of("role", "user", "content", "test")
-            )
-        );
-        
-        return webClient.post()
-                .uri(baseUrl + "/messages")
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .header("anthropic-version", apiVersion)
-                .bodyValue(testRequestBody)
+        return webClient.get()
+                .uri(baseUrl + "/models/" + model)
+                .headers(this::applyAuthHeaders)
                 .retrieve()
                 .bodyToMono(Map.class)
-                .map(response -> response.containsKey("content") || response.containsKey("id"))
+                .map(response -> response.containsKey("id"))
                 .onErrorReturn(false)
                 .doOnNext(available -> log.debug("Claude 모델 사용가능 여부: {}={}", model, available));
     }
     
+    /**
+     * 인증/버전 헤더 설정 (생성 요청과 모델 확인 요청이 같은 인증 방식을 사용하도록 공통화)
+     */
+    private void applyAuthHeaders(HttpHeaders headers) {
+        headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey);
+        headers.set("anthropic-version", apiVersion);
+    }
+    
     /**
      * 응답에서 콘텐츠 추출
      */
@@ -145,6 +195,19 @@ public class ClaudeClient {
         }
     }
     
+    /**
+     * 스트리밍 이벤트에서 텍스트 조각 추출
+     */
+    private String extractDeltaText(String data) {
+        try {
+            JsonNode delta = objectMapper.readTree(data).path("delta");
+            return "text_delta".equals(delta.path("type").asText()) ? delta.path("text").asText() : null;
+        } catch (Exception e) {
+            log.warn("Claude 스트리밍 이벤트 파싱 오류: {}", data, e);
+            return null;
+        }
+    }
+    
     /**
      * 일정 생성용 프롬프트 구성
      */
@@ -0,0 +1,257 @@
+package com.unicorn.tripgen.ai.client;
+
+import com.unicorn.tripgen.ai.entity.AIModelType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI 모델 상태 레지스트리
+ * 모델 선택 시 외부 API를 호출하지 않고 메모리의 상태로 응답
+ * - 능동: 주기적으로 모델 조회 API를 호출하여 상태 갱신 (최근 실제 호출 결과가 있으면 생략)
+ * - 수동: 실제 생성 호출의 성공/429/5xx/타임아웃 결과로 즉시 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ModelHealthRegistry {
+    
+    private final OpenAIClient openAIClient;
+    private final ClaudeClient claudeClient;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<AIModelType, ModelHealth> healthByModel = new ConcurrentHashMap<>();
+    
+    @Value("${ai.model-health.failure-threshold:3}")
+    private int failureThreshold;
+    
+    @Value("${ai.model-health.rate-limit-cooldown-ms:30000}")
+    private long rateLimitCooldownMs;
+    
+    @Value("${ai.model-health.refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+    
+    @Value("${ai.model-health.probe-timeout-ms:5000}")
+    private long probeTimeoutMs;
+    
+    /**
+     * 모델 사용 가능 여부 (메모리 조회)
+     * 아직 확인되지 않은 모델은 사용 가능으로 간주
+     */
+    public boolean isAvailable(AIModelType modelType) {
+        ModelHealth health = healthByModel.get(modelType);
+        return health == null || health.isAvailable(Instant.now());
+    }
+    
+    /**
+     * 실제 호출 성공 기록
+     */
+    public void recordSuccess(AIModelType modelType, long latencyNanos) {
+        latencyTimer(modelType).record(latencyNanos, TimeUnit.NANOSECONDS);
+        health(modelType).markSuccess();
+        meterRegistry.counter("ai.model.calls", "model", modelType.name(), "result", "success").increment();
+    }
+    
+    /**
+     * 실제 호출 실패 기록
+     * 429는 즉시 냉각 기간 적용, 인증 오류는 즉시 사용 불가, 5xx/타임아웃은 연속 실패 임계값 도달 시 사용 불가
+     * 그 외 4xx(요청 오류)는 모델 상태와 무관하므로 상태를 바꾸지 않음
+     */
+    public void recordFailure(AIModelType modelType, Throwable error, long latencyNanos) {
+        latencyTimer(modelType).record(latencyNanos, TimeUnit.NANOSECONDS);
+        String reason = classify(error);
+        meterRegistry.counter("ai.model.calls", "model", modelType.name(), "result", reason).increment();
+        
+        ModelHealth health = health(modelType);
+        switch (reason) {
+            case "rate_limited" -> health.markCoolingDown(reason, error, Instant.now().plusMillis(rateLimitCooldownMs));
+            case "auth_error" -> health.markDown(reason, error);
+            case "server_error", "timeout", "connection_error" -> health.markFailure(reason, error, failureThreshold);
+            default -> health.recordReason(reason, error);
+        }
+        log.debug("AI 모델 호출 실패 기록: model={}, reason={}, available={}", modelType, reason, isAvailable(modelType));
+    }
+    
+    /**
+     * 백그라운드 상태 갱신
+     * 갱신 주기 내에 실제 호출 결과가 있었던 모델은 확인 호출을 생략
+     */
+    @Scheduled(fixedDelayString = "${ai.model-health.refresh-interval-ms:60000}", initialDelay = 0)
+    public void refresh() {
+        Instant freshSince = Instant.now().minusMillis(refreshIntervalMs);
+        for (AIModelType modelType : AIModelType.values()) {
+            ModelHealth health = health(modelType);
+            if (health.lastObservedAfter(freshSince)) {
+                continue;
+            }
+            long start = System.nanoTime();
+            probe(modelType)
+                    .timeout(Duration.ofMillis(probeTimeoutMs))
+                    .onErrorReturn(false)
+                    .subscribe(available -> {
+                        if (available) {
+                            health.markProbeSuccess();
+                        } else {
+                            health.markDown("probe_failed", null);
+                        }
+                        log.debug("AI 모델 상태 확인: model={}, available={}, {}ms",
+                                modelType, available, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    });
+        }
+    }
+    
+    /**
+     * 모델별 상태 스냅샷 (actuator 노출용)
+     */
+    public Map<AIModelType, Map<String, Object>> snapshot() {
+        Map<AIModelType, Map<String, Object>> snapshot = new EnumMap<>(AIModelType.class);
+        Instant now = Instant.now();
+        for (AIModelType modelType : AIModelType.values()) {
+            ModelHealth health = health(modelType);
+            Map<String, Object> detail = new LinkedHashMap<>(health.describe(now));
+            
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (ValueAtPercentile value : latencyTimer(modelType).takeSnapshot().percentileValues()) {
+                percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+            }
+            detail.put("latencyMs", percentiles);
+            snapshot.put(modelType, detail);
+        }
+        return snapshot;
+    }
+    
+    private Mono<Boolean> probe(AIModelType modelType) {
+        if (modelType.isOpenAI()) {
+            return openAIClient.isModelAvailable(modelType.getModelId());
+        } else if (modelType.isClaude()) {
+            return claudeClient.isModelAvailable(modelType.getModelId());
+        }
+        return Mono.just(false);
+    }
+    
+    private ModelHealth health(AIModelType modelType) {
+        return healthByModel.computeIfAbsent(modelType, type -> new ModelHealth());
+    }
+    
+    private Timer latencyTimer(AIModelType modelType) {
+        return Timer.builder("ai.model.latency")
+                .description("AI 모델 호출 지연 시간")
+                .tag("model", modelType.name())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+    
+    private String classify(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            if (status == 429) {
+                return "rate_limited";
+            }
+            if (status == 401 || status == 403) {
+                return "auth_error";
+            }
+            if (status >= 500) {
+                return "server_error";
+            }
+            return "client_error";
+        }
+        if (error instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (error instanceof WebClientRequestException) {
+            return "connection_error";
+        }
+        return "error";
+    }
+    
+    /**
+     * 단일 모델 상태
+     */
+    private static final class ModelHealth {
+        
+        private boolean available = true;
+        private int consecutiveFailures;
+        private Instant unavailableUntil;
+        private Instant lastSuccessAt;
+        private Instant lastFailureAt;
+        private Instant lastObservedAt;
+        private String lastFailureReason;
+        
+        synchronized boolean isAvailable(Instant now) {
+            if (unavailableUntil != null && now.isBefore(unavailableUntil)) {
+                return false;
+            }
+            return available;
+        }
+        
+        synchronized boolean lastObservedAfter(Instant since) {
+            return lastObservedAt != null && lastObservedAt.isAfter(since);
+        }
+        
+        synchronized void markSuccess() {
+            available = true;
+            consecutiveFailures = 0;
+            unavailableUntil = null;
+            lastSuccessAt = Instant.now();
+            lastObservedAt = lastSuccessAt;
+        }
+        
+        synchronized void markProbeSuccess() {
+            // 냉각 기간(429)은 확인 호출 성공으로 해제하지 않음
+            available = true;
+            consecutiveFailures = 0;
+        }
+        
+        synchronized void markFailure(String reason, Throwable error, int threshold) {
+            recordReason(reason, error);
+            if (++consecutiveFailures >= threshold) {
+                available = false;
+            }
+        }
+        
+        synchronized void markCoolingDown(String reason, Throwable error, Instant until) {
+            recordReason(reason, error);
+            unavailableUntil = until;
+        }
+        
+        synchronized void markDown(String reason, Throwable error) {
+            recordReason(reason, error);
+            available = false;
+        }
+        
+        synchronized void recordReason(String reason, Throwable error) {
+            lastFailureAt = Instant.now();
+            lastObservedAt = lastFailureAt;
+            lastFailureReason = error != null && error.getMessage() != null
+                    ? reason + ": " + error.getMessage() : reason;
+        }
+        
+        synchronized Map<String, Object> describe(Instant now) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("available", isAvailable(now));
+            detail.put("consecutiveFailures", consecutiveFailures);
+            detail.put("unavailableUntil", unavailableUntil);
+            detail.put("lastSuccessAt", lastSuccessAt);
+            detail.put("lastFailureAt", lastFailureAt);
+            detail.put("lastFailureReason", lastFailureReason);
+            return detail;
+        }
+    }
+}
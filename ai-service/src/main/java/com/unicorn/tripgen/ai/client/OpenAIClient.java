@@ -1,12 +1,17 @@
 package com.unicorn.tripgen.ai.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -22,7 +27,13 @@ import java.util.Map;
 @Slf4j
 public class OpenAIClient {
     
+    /**
+     * 단일 장소 추천 최대 출력 토큰
+     */
+    private static final int RECOMMENDATION_MAX_TOKENS = 2000;
+    
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
     
     @Value("${ai.openai.api-key}")
     private String apiKey;
@@ -63,11 +74,54 @@ public class OpenAIClient {
                 .doOnError(error -> log.error("OpenAI 일정 생성 실패", error));
     }
     
+    /**
+     * GPT를 통한 여행 일정 생성 (스트리밍)
+     * SSE 청크의 delta.content 텍스트 조각을 순서대로 방출하고 [DONE]에서 종료
+     * 타임아웃은 조각 간 최대 대기 시간으로 적용
+     */
+    public Flux<String> streamSchedule(String model, String prompt) {
+        log.debug("OpenAI 일정 스트리밍 생성 요청: model={}, promptLength={}", model, prompt.length());
+        
+        var requestBody = Map.of(
+            "model", model,
+            "messages", List.of(
+                Map.of("role", "system", "content", buildSystemPrompt()),
+                Map.of("role", "user", "content", prompt)
+            ),
+            "max_tokens", 4000,
+            "temperature", 0.7,
+            "stream", true,
+            "response_format", Map.of("type", "json_object")
+        );
+        
+        return webClient.post()
+                .uri(baseUrl + "/chat/completions")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .map(ServerSentEvent::data)
+                .takeWhile(data -> !"[DONE]".equals(data))
+                .mapNotNull(this::extractDeltaContent)
+                .doOnComplete(() -> log.debug("OpenAI 일정 스트리밍 생성 완료"))
+                .doOnError(error -> log.error("OpenAI 일정 스트리밍 생성 실패", error));
+    }
+    
     /**
      * GPT를 통한 장소 추천 생성
      */
     public Mono<String> generateRecommendation(String model, String prompt, Map<String, Object> context) {
-        log.debug("OpenAI 추천 생성 요청: model={}, promptLength={}", model, prompt.length());
+        return generateRecommendation(model, prompt, context, RECOMMENDATION_MAX_TOKENS);
+    }
+    
+    /**
+     * GPT를 통한 장소 추천 생성 (최대 출력 토큰 지정 - 여러 장소를 묶은 배치용)
+     */
+    public Mono<String> generateRecommendation(String model, String prompt, Map<String, Object> context, int maxTokens) {
+        log.debug("OpenAI 추천 생성 요청: model={}, promptLength={}, maxTokens={}", model, prompt.length(), maxTokens);
         
         var requestBody = Map.of(
             "model", model,
@@ -75,7 +129,7 @@ public class OpenAIClient {
                 Map.of("role", "system", "content", buildRecommendationSystemPrompt()),
                 Map.of("role", "user", "content", prompt)
             ),
-            "max_tokens", 2000,
+            "max_tokens", maxTokens,
             "temperature", 0.6,
             "response_format", Map.of("type", "json_object")
         );
@@ -127,6 +181,19 @@ public class OpenAIClient {
         }
     }
     
+    /**
+     * 스트리밍 청크에서 텍스트 조각 추출
+     */
+    private String extractDeltaContent(String data) {
+        try {
+            JsonNode content = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.asText() : null;
+        } catch (Exception e) {
+            log.warn("OpenAI 스트리밍 청크 파싱 오류: {}", data, e);
+            return null;
+        }
+    }
+    
     /**
      * 일정 생성용 시스템 프롬프트
      */
@@ -0,0 +1,26 @@
+package com.unicorn.tripgen.ai.config;
+
+import com.unicorn.tripgen.ai.service.AIJobProgressStore;
+import com.unicorn.tripgen.ai.service.AIJobStatusStreamer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정
+ * 작업 상태 변경 알림을 모든 Pod가 구독하여 각 Pod에 연결된 상태 스트림 구독자에게 전달
+ */
+@Configuration
+public class RedisMessageConfig {
+    
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       AIJobStatusStreamer statusStreamer) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(statusStreamer, new ChannelTopic(AIJobProgressStore.STATUS_CHANNEL));
+        return container;
+    }
+}
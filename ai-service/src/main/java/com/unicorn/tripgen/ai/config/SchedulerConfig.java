@@ -0,0 +1,37 @@
+package com.unicorn.tripgen.ai.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Reactor 스케줄러 설정
+ * 블로킹 Feign 호출을 요청 스레드나 이벤트 루프가 아닌 전용 스케줄러에서 실행
+ */
+@Configuration
+@Slf4j
+public class SchedulerConfig {
+    
+    /**
+     * 일정 생성 컨텍스트(위치/날씨) 수집용 스케줄러
+     * 가상 스레드 모드에서는 작업당 가상 스레드, 그 외에는 스레드 수 제한이 있는 boundedElastic 사용
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler contextCollectionScheduler(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${ai.job.schedule-generation.context.thread-cap:32}") int threadCap,
+            @Value("${ai.job.schedule-generation.context.queue-cap:1000}") int queueCap) {
+        log.info("Context collection scheduler: virtualThreads={}, threadCap={}", virtualThreadsEnabled, threadCap);
+        if (virtualThreadsEnabled) {
+            return Schedulers.fromExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("context-collection-", 0).factory()),
+                "context-collection");
+        }
+        return Schedulers.newBoundedElastic(threadCap, queueCap, "context-collection");
+    }
+}
@@ -0,0 +1,66 @@
+package com.unicorn.tripgen.ai.controller;
+
+import com.unicorn.tripgen.ai.dto.GenerateScheduleRequest;
+import com.unicorn.tripgen.ai.dto.GenerateScheduleResponse;
+import com.unicorn.tripgen.ai.dto.GeneratedScheduleResponse;
+import com.unicorn.tripgen.ai.dto.GenerationStatusResponse;
+import com.unicorn.tripgen.ai.dto.RegenerateScheduleRequest;
+import com.unicorn.tripgen.ai.service.AIJobStatusStreamer;
+import com.unicorn.tripgen.ai.service.AIScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/schedules")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Schedule", description = "AI 일정 생성 API")
+public class AIScheduleController {
+    
+    private final AIScheduleService aiScheduleService;
+    private final AIJobStatusStreamer statusStreamer;
+    
+    @PostMapping("/generate")
+    @Operation(summary = "AI 일정 생성 요청", description = "일정 생성 작업을 대기열에 등록하고 요청 ID를 반환합니다")
+    public Mono<GenerateScheduleResponse> generateSchedule(@Valid @RequestBody GenerateScheduleRequest request) {
+        log.info("일정 생성 요청: tripId={}", request.getTripId());
+        return aiScheduleService.generateSchedule(request);
+    }
+    
+    @GetMapping("/{requestId}")
+    @Operation(summary = "생성된 일정 조회", description = "완료된 일정 생성 작업의 결과를 조회합니다")
+    public Mono<GeneratedScheduleResponse> getGeneratedSchedule(
+            @Parameter(description = "생성 요청 ID", required = true) @PathVariable String requestId) {
+        return aiScheduleService.getGeneratedSchedule(requestId);
+    }
+    
+    @PostMapping("/regenerate")
+    @Operation(summary = "일자별 일정 재생성 요청", description = "지정한 일차의 일정 재생성 작업을 대기열에 등록하고 요청 ID를 반환합니다")
+    public Mono<GenerateScheduleResponse> regenerateDaySchedule(@Valid @RequestBody RegenerateScheduleRequest request) {
+        log.info("일정 재생성 요청: tripId={}, day={}", request.getTripId(), request.getDay());
+        return aiScheduleService.regenerateDaySchedule(request);
+    }
+    
+    @GetMapping("/status/{requestId}")
+    @Operation(summary = "일정 생성 상태 조회", description = "일정 생성 작업의 진행 상태를 조회합니다 (상태 스트림을 사용할 수 없는 경우의 폴링용)")
+    public Mono<GenerationStatusResponse> getGenerationStatus(
+            @Parameter(description = "생성 요청 ID", required = true) @PathVariable String requestId) {
+        return aiScheduleService.getGenerationStatus(requestId);
+    }
+    
+    @GetMapping(value = "/status/{requestId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "일정 생성 상태 스트림", description = "진행률, 현재 단계, 예상 시간이 바뀔 때마다 status 이벤트로 전송하고 작업이 종료되면 스트림을 닫습니다")
+    public SseEmitter streamGenerationStatus(
+            @Parameter(description = "생성 요청 ID", required = true) @PathVariable String requestId) {
+        log.debug("일정 생성 상태 스트림 구독 요청: requestId={}", requestId);
+        return statusStreamer.subscribe(requestId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.unicorn.tripgen.ai.endpoint;
+
+import com.unicorn.tripgen.ai.client.ModelHealthRegistry;
+import com.unicorn.tripgen.ai.entity.AIModelType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * AI 모델 상태 actuator 엔드포인트 (/actuator/aimodels)
+ * 모델별 사용 가능 여부, 지연 시간 백분위수, 마지막 실패 원인 제공
+ */
+@Component
+@Endpoint(id = "aimodels")
+@RequiredArgsConstructor
+public class AIModelHealthEndpoint {
+    
+    private final ModelHealthRegistry modelHealthRegistry;
+    
+    @ReadOperation
+    public Map<AIModelType, Map<String, Object>> models() {
+        return modelHealthRegistry.snapshot();
+    }
+}
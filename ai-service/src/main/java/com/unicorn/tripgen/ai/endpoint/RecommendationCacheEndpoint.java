@@ -0,0 +1,26 @@
+package com.unicorn.tripgen.ai.endpoint;
+
+import com.unicorn.tripgen.ai.service.RecommendationHotIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 추천 캐시 현황 actuator 엔드포인트 (/actuator/recommendationcache)
+ * 장소 타입별 캐시 적중률, 핫 인덱스 적중 수, 절감된 LLM 호출 수 제공
+ */
+@Component
+@Endpoint(id = "recommendationcache")
+@RequiredArgsConstructor
+public class RecommendationCacheEndpoint {
+    
+    private final RecommendationHotIndex recommendationHotIndex;
+    
+    @ReadOperation
+    public Map<String, Object> cache() {
+        return recommendationHotIndex.snapshot();
+    }
+}
@@ -73,6 +73,12 @@ public class AIJob extends BaseAuditEntity {
     @Builder.Default
     private Integer maxRetry = 3;
     
+    /**
+     * 마지막 heartbeat 시간 (작업을 보유한 Pod가 주기적으로 갱신, 끊기면 다른 Pod가 재시작)
+     */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+    
     /**
      * 작업 시작
      */
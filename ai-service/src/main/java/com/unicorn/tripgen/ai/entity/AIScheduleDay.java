@@ -0,0 +1,34 @@
+package com.unicorn.tripgen.ai.entity;
+
+import com.unicorn.tripgen.common.entity.BaseAuditEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AI 생성 일정 일자별 정보 엔티티
+ * 스트리밍 생성 중 완성된 일자를 즉시 저장하여 전체 생성 완료 전에도 조회 가능
+ */
+@Entity
+@Table(name = "ai_schedule_days", indexes = {
+    @Index(name = "idx_ai_schedule_days_request", columnList = "request_id, day_number")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AIScheduleDay extends BaseAuditEntity {
+    
+    @Column(name = "request_id", nullable = false, length = 100)
+    private String requestId;
+    
+    @Column(name = "day_number", nullable = false)
+    private Integer dayNumber;
+    
+    @Column(name = "day_data", nullable = false, columnDefinition = "TEXT")
+    private String dayData;
+}
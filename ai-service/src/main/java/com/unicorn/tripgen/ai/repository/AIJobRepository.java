@@ -3,9 +3,11 @@ package com.unicorn.tripgen.ai.repository;
 import com.unicorn.tripgen.ai.entity.AIJob;
 import com.unicorn.tripgen.ai.entity.JobStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -66,4 +68,42 @@ public interface AIJobRepository extends JpaRepository<AIJob, Long> {
      */
     @Query("SELECT j FROM AIJob j WHERE j.tripId = :tripId AND j.jobType = :jobType ORDER BY j.createdAt DESC LIMIT 1")
     Optional<AIJob> findLatestByTripIdAndJobType(@Param("tripId") String tripId, @Param("jobType") String jobType);
+    
+    /**
+     * heartbeat가 끊긴 대기/처리 중 작업 조회 (heartbeat가 없으면 생성 시간 기준)
+     */
+    @Query("SELECT j FROM AIJob j WHERE j.status IN ('QUEUED', 'PROCESSING') " +
+           "AND COALESCE(j.heartbeatAt, j.createdAt) < :cutoff ORDER BY j.createdAt ASC")
+    List<AIJob> findOrphanedJobs(@Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * 보유 중인 작업의 heartbeat 갱신
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AIJob j SET j.heartbeatAt = :now WHERE j.requestId IN :requestIds AND j.status IN ('QUEUED', 'PROCESSING')")
+    int touchHeartbeat(@Param("requestIds") List<String> requestIds, @Param("now") LocalDateTime now);
+    
+    /**
+     * heartbeat가 끊긴 작업 선점 (조건부 갱신에 성공한 Pod만 재제출)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AIJob j SET j.status = :queued, j.heartbeatAt = :now, j.retryCount = j.retryCount + 1, " +
+           "j.progress = 0, j.currentStep = '재시작 대기 중' WHERE j.requestId = :requestId " +
+           "AND j.status IN ('QUEUED', 'PROCESSING') AND COALESCE(j.heartbeatAt, j.createdAt) < :cutoff")
+    int claimOrphanedJob(@Param("requestId") String requestId, @Param("queued") JobStatus queued,
+                         @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+    
+    /**
+     * 재시작할 수 없는 중단 작업 실패 처리
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AIJob j SET j.status = :failed, j.errorMessage = :message, j.currentStep = '실패', j.completedAt = :now " +
+           "WHERE j.requestId = :requestId AND j.status IN ('QUEUED', 'PROCESSING') " +
+           "AND COALESCE(j.heartbeatAt, j.createdAt) < :cutoff")
+    int failOrphanedJob(@Param("requestId") String requestId, @Param("failed") JobStatus failed,
+                        @Param("message") String message, @Param("cutoff") LocalDateTime cutoff,
+                        @Param("now") LocalDateTime now);
 }
\ No newline at end of file
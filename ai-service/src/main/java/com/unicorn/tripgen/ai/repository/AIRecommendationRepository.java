@@ -3,6 +3,7 @@ package com.unicorn.tripgen.ai.repository;
 import com.unicorn.tripgen.ai.entity.AIModelType;
 import com.unicorn.tripgen.ai.entity.AIRecommendation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -91,4 +92,11 @@ public interface AIRecommendationRepository extends JpaRepository<AIRecommendati
      */
     @Query("SELECT r FROM AIRecommendation r WHERE r.lastAccessedAt IS NOT NULL ORDER BY r.lastAccessedAt DESC")
     List<AIRecommendation> findRecentlyAccessed();
+    
+    /**
+     * 접근 횟수 누적 반영 (핫 인덱스 적중분 일괄 반영용)
+     */
+    @Modifying
+    @Query("UPDATE AIRecommendation r SET r.accessCount = r.accessCount + :delta, r.lastAccessedAt = :now WHERE r.id = :id")
+    int incrementAccessCount(@Param("id") String id, @Param("delta") int delta, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.unicorn.tripgen.ai.repository;
+
+import com.unicorn.tripgen.ai.entity.AIScheduleDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * AI 일정 일자별 Repository
+ */
+@Repository
+public interface AIScheduleDayRepository extends JpaRepository<AIScheduleDay, String> {
+    
+    /**
+     * 요청 ID로 저장된 일자 목록 조회 (일차순)
+     */
+    List<AIScheduleDay> findByRequestIdOrderByDayNumber(String requestId);
+    
+    /**
+     * 요청 ID의 저장된 일자 수 조회
+     */
+    long countByRequestId(String requestId);
+    
+    /**
+     * 요청 ID의 저장된 일자 삭제 (중단된 작업 재시작 시 부분 결과 제거)
+     */
+    @Transactional
+    long deleteByRequestId(String requestId);
+}
\ No newline at end of file
@@ -0,0 +1,254 @@
+package com.unicorn.tripgen.ai.service;
+
+import com.unicorn.tripgen.ai.entity.AIJob;
+import com.unicorn.tripgen.ai.entity.JobStatus;
+import com.unicorn.tripgen.common.exception.BusinessException;
+import com.unicorn.tripgen.common.exception.ErrorCodes;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * AI 작업 진행 상황 저장소 (Redis 해시)
+ * 단계별 진행률은 Redis에만 기록하고 상태 조회도 Redis에서 바로 응답
+ * ai_jobs 행은 상태 전이(생성/시작/완료/실패/취소) 시에만 갱신
+ *
+ * 상태를 기록할 때마다 상태 채널(ai:job:status)에 변경을 알려 모든 Pod의 상태 스트림 구독자에게 전달
+ * (조회 경로에서 DB 값을 다시 채우는 경우는 알리지 않음)
+ *
+ * Redis를 사용할 수 없으면 호출자가 기존 DB 경로로 대체하도록 false/empty 반환
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AIJobProgressStore {
+    
+    /**
+     * 상태 변경 알림 채널 (메시지: requestId|발행 시각 epoch millis)
+     */
+    public static final String STATUS_CHANNEL = "ai:job:status";
+    
+    private static final String KEY_PREFIX = "ai:job:progress:";
+    
+    private static final String STATUS = "status";
+    private static final String PROGRESS = "progress";
+    private static final String CURRENT_STEP = "currentStep";
+    private static final String ESTIMATED_TIME = "estimatedTime";
+    private static final String STARTED_AT = "startedAt";
+    private static final String ERROR_MESSAGE = "errorMessage";
+    private static final String TRIP_ID = "tripId";
+    private static final String JOB_TYPE = "jobType";
+    
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${ai.job.progress.active-ttl-minutes:360}")
+    private long activeTtlMinutes;
+    
+    @Value("${ai.job.progress.final-ttl-minutes:60}")
+    private long finalTtlMinutes;
+    
+    /**
+     * 상태 전이 시 작업 전체 상태 기록 후 상태 변경 알림 발행
+     */
+    public void save(AIJob job) {
+        if (write(job)) {
+            publishChange(job.getRequestId());
+        }
+    }
+    
+    /**
+     * DB에서 읽은 작업 상태를 저장소에 다시 채움 (조회 경로용 - 상태가 바뀐 것이 아니므로 알림 없음)
+     */
+    public void cache(AIJob job) {
+        write(job);
+    }
+    
+    /**
+     * 작업 상태 해시를 통째로 교체 (MULTI/EXEC로 DEL + HSET + EXPIRE를 원자적으로 실행)
+     * 재시작된 작업에 이전 실행의 오류/단계/예상 시간 필드가 남지 않도록 기존 필드를 지우고 기록
+     *
+     * @return 기록했으면 true
+     */
+    private boolean write(AIJob job) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(STATUS, job.getStatus().name());
+        fields.put(PROGRESS, String.valueOf(job.getProgress() != null ? job.getProgress() : 0));
+        fields.put(TRIP_ID, job.getTripId());
+        fields.put(JOB_TYPE, job.getJobType());
+        if (job.getCurrentStep() != null) {
+            fields.put(CURRENT_STEP, job.getCurrentStep());
+        }
+        if (job.getEstimatedTime() != null) {
+            fields.put(ESTIMATED_TIME, String.valueOf(job.getEstimatedTime()));
+        }
+        if (job.getStartedAt() != null) {
+            fields.put(STARTED_AT, String.valueOf(toEpochMillis(job.getStartedAt())));
+        }
+        if (job.getErrorMessage() != null) {
+            fields.put(ERROR_MESSAGE, job.getErrorMessage());
+        }
+        
+        String key = KEY_PREFIX + job.getRequestId();
+        Duration ttl = Duration.ofMinutes(job.getStatus().isFinal() ? finalTtlMinutes : activeTtlMinutes);
+        try {
+            redisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.multi();
+                    ops.delete(key);
+                    ops.opsForHash().putAll(key, fields);
+                    ops.expire(key, ttl);
+                    return ops.exec();
+                }
+            });
+            return true;
+        } catch (Exception e) {
+            // 다음 조회는 DB에서 응답
+            log.warn("AI 작업 상태 Redis 기록 실패: requestId={}, reason={}", job.getRequestId(), e.getMessage());
+            evict(job.getRequestId());
+            return false;
+        }
+    }
+    
+    /**
+     * 진행 상황 기록 (DB 조회/저장 없음)
+     *
+     * @return Redis에 기록했으면 true, 작업 상태가 없거나 Redis 장애이면 false (DB 경로로 대체)
+     * @throws BusinessException 진행 중인 작업이 아닌 경우 (취소 등)
+     */
+    public boolean updateProgress(String requestId, int progress, String currentStep) {
+        String key = KEY_PREFIX + requestId;
+        List<Object> current;
+        try {
+            current = redisTemplate.opsForHash().multiGet(key, List.of(STATUS, STARTED_AT));
+        } catch (Exception e) {
+            log.warn("AI 작업 진행 상황 Redis 조회 실패: requestId={}, reason={}", requestId, e.getMessage());
+            return false;
+        }
+        
+        Object status = current.get(0);
+        if (status == null) {
+            return false;
+        }
+        if (!JobStatus.PROCESSING.name().equals(status)) {
+            throw new BusinessException(
+                ErrorCodes.AI_JOB_FAILED,
+                "진행 중인 작업이 아닙니다"
+            );
+        }
+        
+        int clamped = Math.min(Math.max(progress, 0), 100);
+        Map<String, String> fields = new HashMap<>();
+        fields.put(PROGRESS, String.valueOf(clamped));
+        fields.put(CURRENT_STEP, currentStep);
+        
+        // 예상 시간 업데이트 (경과 시간 기준 비례 추정)
+        Object startedAt = current.get(1);
+        if (clamped > 0 && startedAt != null) {
+            long elapsedSeconds = (System.currentTimeMillis() - Long.parseLong(startedAt.toString())) / 1000;
+            fields.put(ESTIMATED_TIME, String.valueOf((elapsedSeconds * (100 - clamped)) / clamped));
+        }
+        
+        try {
+            redisTemplate.opsForHash().putAll(key, fields);
+            meterRegistry.counter("ai.job.progress.writes", "target", "redis").increment();
+        } catch (Exception e) {
+            log.warn("AI 작업 진행 상황 Redis 기록 실패: requestId={}, reason={}", requestId, e.getMessage());
+            return false;
+        }
+        publishChange(requestId);
+        return true;
+    }
+    
+    /**
+     * 상태 변경 알림 발행 (실패해도 기록은 유지 - 구독자는 폴링으로 대체)
+     */
+    private void publishChange(String requestId) {
+        try {
+            redisTemplate.convertAndSend(STATUS_CHANNEL, requestId + "|" + System.currentTimeMillis());
+        } catch (Exception e) {
+            log.debug("AI 작업 상태 변경 알림 발행 실패: requestId={}, reason={}", requestId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 작업 상태 조회 (저장되지 않는 조회용 AIJob으로 반환)
+     */
+    public Optional<AIJob> find(String requestId) {
+        Map<Object, Object> fields;
+        try {
+            fields = redisTemplate.opsForHash().entries(KEY_PREFIX + requestId);
+        } catch (Exception e) {
+            log.warn("AI 작업 상태 Redis 조회 실패: requestId={}, reason={}", requestId, e.getMessage());
+            return Optional.empty();
+        }
+        if (fields == null || fields.get(STATUS) == null) {
+            return Optional.empty();
+        }
+        
+        return Optional.of(AIJob.builder()
+                .requestId(requestId)
+                .tripId((String) fields.get(TRIP_ID))
+                .jobType((String) fields.get(JOB_TYPE))
+                .status(JobStatus.valueOf((String) fields.get(STATUS)))
+                .progress(parseInt(fields.get(PROGRESS), 0))
+                .currentStep((String) fields.get(CURRENT_STEP))
+                .estimatedTime(fields.get(ESTIMATED_TIME) != null ? parseInt(fields.get(ESTIMATED_TIME), 0) : null)
+                .startedAt(fields.get(STARTED_AT) != null
+                        ? toLocalDateTime(Long.parseLong(fields.get(STARTED_AT).toString())) : null)
+                .errorMessage((String) fields.get(ERROR_MESSAGE))
+                .build());
+    }
+    
+    /**
+     * 마지막으로 기록된 진행률/단계 (상태 전이 시 DB 행에 함께 반영)
+     */
+    public Optional<AIJob> findProgress(String requestId) {
+        return find(requestId).filter(job -> job.getCurrentStep() != null);
+    }
+    
+    /**
+     * 작업 상태 제거 (DB에서 직접 상태를 바꾼 경우 다음 조회를 DB에서 응답하도록 함)
+     */
+    public void evict(String requestId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + requestId);
+        } catch (Exception e) {
+            log.debug("AI 작업 상태 Redis 삭제 실패: requestId={}", requestId);
+        }
+    }
+    
+    private int parseInt(Object value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value.toString()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+    
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,652 @@
+package com.unicorn.tripgen.ai.service;
+
+import com.unicorn.tripgen.ai.entity.AIJob;
+import com.unicorn.tripgen.ai.entity.AIModelType;
+import com.unicorn.tripgen.ai.entity.JobStatus;
+import com.unicorn.tripgen.ai.repository.AIJobRepository;
+import com.unicorn.tripgen.common.exception.BusinessException;
+import com.unicorn.tripgen.common.exception.ErrorCodes;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * AI 작업 스케줄러
+ * 작업 행 저장 직후 요청 스레드를 반환하고, 대기 작업을 우선순위와 모델별 한도에 따라 고정 크기 워커에 배정
+ * - 우선순위: 일자 재생성 > 장소 추천 > 전체 일정 생성 (비싼 전체 생성이 몰려도 짧은 재생성이 밀리지 않도록 함)
+ * - 작업 행이 없는 장소 추천 LLM 호출(단일/배치)은 추천 우선순위 대기열에서 모델별 한도만 거쳐 논블로킹으로 실행
+ *   (워커를 점유하지 않고 대기열 한도도 별도이므로 몇 분씩 걸리는 전체 생성과 서로 막지 않음)
+ * - 같은 우선순위 안에서는 사용자별 라운드 로빈으로 공정하게 배정
+ * - AIModelType별 동시 실행 수와 분당 토큰 예산을 넘는 작업은 대기열에 남겨 두고 다른 작업을 먼저 배정
+ * - 실행 중/대기 중 작업의 heartbeat를 주기적으로 기록하고, heartbeat가 끊긴 작업(Pod 재시작 등)을 다시 대기열에 넣음
+ *
+ * 지표: ai.job.queue.depth (priority), ai.job.queue.wait (priority), ai.job.rejected (reason),
+ *       ai.job.admission.deferred (model, reason), ai.job.model.running (model), ai.job.orphans (result)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AIJobScheduler {
+    
+    private final MeterRegistry meterRegistry;
+    private final AIJobRepository aiJobRepository;
+    private final AIJobProgressStore progressStore;
+    private final Environment environment;
+    
+    @Value("${ai.job.worker.count:4}")
+    private int workerCount;
+    
+    @Value("${ai.job.worker.queue-capacity:100}")
+    private int queueCapacity;
+    
+    @Value("${ai.job.scheduler.max-queued-per-user:10}")
+    private int maxQueuedPerUser;
+    
+    @Value("${ai.job.scheduler.recommendation-queue-capacity:100}")
+    private int recommendationQueueCapacity;
+    
+    @Value("${ai.job.scheduler.orphan-timeout-ms:120000}")
+    private long orphanTimeoutMs;
+    
+    private final Object lock = new Object();
+    private final Map<JobPriority, FairQueue> queues = new EnumMap<>(JobPriority.class);
+    private final Map<AIModelType, ModelBudget> budgets = new EnumMap<>(AIModelType.class);
+    private final Map<String, Integer> queuedByUser = new HashMap<>();
+    private final Map<String, Integer> queuedRecommendationsByUser = new HashMap<>();
+    private final Map<String, QueuedJob> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<AIJob>> recoveryHandlers = new ConcurrentHashMap<>();
+    private int queuedCount;
+    private int queuedRecommendations;
+    private int runningCount;
+    
+    private ThreadPoolExecutor executor;
+    
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        // 배정은 runningCount로 제한하므로 실행기 큐에는 작업이 거의 쌓이지 않음
+        executor = new ThreadPoolExecutor(
+            workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ai-job-worker-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        
+        for (JobPriority priority : JobPriority.values()) {
+            queues.put(priority, new FairQueue());
+            Gauge.builder("ai.job.queue.depth", this, scheduler -> scheduler.queueDepth(priority))
+                .description("우선순위별 대기 중인 AI 작업 수")
+                .tag("priority", priority.name())
+                .register(meterRegistry);
+        }
+        
+        int defaultConcurrency = environment.getProperty("ai.job.scheduler.models.default-max-concurrency", Integer.class, 3);
+        int defaultTokensPerMinute = environment.getProperty("ai.job.scheduler.models.default-tokens-per-minute", Integer.class, 60000);
+        for (AIModelType modelType : AIModelType.values()) {
+            String prefix = "ai.job.scheduler.models." + modelType.name();
+            ModelBudget budget = new ModelBudget(
+                environment.getProperty(prefix + ".max-concurrency", Integer.class, defaultConcurrency),
+                environment.getProperty(prefix + ".tokens-per-minute", Integer.class, defaultTokensPerMinute)
+            );
+            budgets.put(modelType, budget);
+            Gauge.builder("ai.job.model.running", this, scheduler -> scheduler.runningFor(modelType))
+                .description("모델별 실행 중인 AI 작업 수")
+                .tag("model", modelType.name())
+                .register(meterRegistry);
+        }
+        
+        Gauge.builder("ai.job.workers.active", this, scheduler -> scheduler.runningFor(null))
+            .description("실행 중인 AI 작업 수")
+            .register(meterRegistry);
+        
+        log.info("AI 작업 스케줄러 초기화: workers={}, queueCapacity={}, recommendationQueueCapacity={}, maxQueuedPerUser={}",
+                workerCount, queueCapacity, recommendationQueueCapacity, maxQueuedPerUser);
+    }
+    
+    /**
+     * 작업 유형별 재시작 처리기 등록 (heartbeat가 끊긴 작업을 요청 데이터로 다시 제출)
+     */
+    public void registerRecoveryHandler(String jobType, Consumer<AIJob> handler) {
+        recoveryHandlers.put(jobType, handler);
+    }
+    
+    /**
+     * AI 작업 제출
+     *
+     * @param job 저장된 작업 (작업 유형으로 우선순위, 모델로 동시 실행/토큰 한도 결정)
+     * @param fairShareKey 공정 배분 기준 (사용자 ID, 없으면 여행 ID)
+     * @param task 워커에서 실행할 작업
+     * @throws BusinessException 전체 대기열 또는 사용자별 대기 한도를 초과한 경우 (503)
+     */
+    public void submit(AIJob job, String fairShareKey, Runnable task) {
+        JobPriority priority = JobPriority.of(job.getJobType());
+        String userKey = fairShareKey != null ? fairShareKey : job.getTripId();
+        QueuedJob queued = new QueuedJob(job.getRequestId(), priority, job.getAiModelType(), userKey,
+                estimatedTokens(priority), task, System.nanoTime());
+        
+        enqueue(queued, true);
+        dispatch();
+    }
+    
+    /**
+     * 장소 추천 LLM 호출 배정 (작업 행 없음 - heartbeat/복구 대상 아님)
+     * 추천 우선순위 대기열에서 모델별 동시 실행 수와 분당 토큰 예산 안에 배정되며,
+     * 워커를 점유하지 않고 호출을 구독만 하므로 실행 중인 생성 작업이 있어도 바로 시작됨
+     * 구독이 취소되면 대기 중인 호출은 대기열에서 빠지고, 실행 중인 호출은 중단됨
+     *
+     * @param fairShareKey 공정 배분 기준 사용자 ID (여러 사용자를 묶은 배치 등 없으면 호출마다 별도 키)
+     * @param estimatedTokens 예상 토큰 (없으면 추천 기본값)
+     * @return 호출 결과, 추천 대기열 한도를 초과하면 거절 예외 (503)
+     */
+    public <T> Mono<T> submitRecommendation(AIModelType modelType, String fairShareKey, Integer estimatedTokens,
+                                            Supplier<Mono<T>> call) {
+        return Mono.create(sink -> {
+            String callId = "recommendation-" + UUID.randomUUID();
+            int tokens = estimatedTokens != null ? estimatedTokens : estimatedTokens(JobPriority.RECOMMENDATION);
+            QueuedJob queued = new QueuedJob(callId, JobPriority.RECOMMENDATION, modelType,
+                    fairShareKey != null ? fairShareKey : callId, tokens, null, System.nanoTime());
+            queued.asyncCall = onDone -> subscribeCall(call, sink, onDone);
+            sink.onCancel(() -> cancel(queued));
+            try {
+                enqueue(queued, false);
+            } catch (BusinessException e) {
+                sink.error(e);
+                return;
+            }
+            dispatch();
+        });
+    }
+    
+    /**
+     * 추천 호출 구독 (완료/오류/취소 어느 경우든 onDone으로 모델 한도 반환)
+     */
+    private <T> Disposable subscribeCall(Supplier<Mono<T>> call, MonoSink<T> sink, Runnable onDone) {
+        try {
+            return call.get()
+                .doFinally(signal -> onDone.run())
+                .subscribe(value -> sink.success(value), sink::error, () -> sink.success());
+        } catch (Throwable e) {
+            onDone.run();
+            sink.error(e);
+            return null;
+        }
+    }
+    
+    /**
+     * 토큰 예산 창이 지나면서 배정 가능해진 작업 처리
+     */
+    @Scheduled(fixedDelayString = "${ai.job.scheduler.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        List<QueuedJob> ready = new ArrayList<>();
+        synchronized (lock) {
+            long now = System.currentTimeMillis();
+            while (true) {
+                QueuedJob next = selectNext(now);
+                if (next == null) {
+                    break;
+                }
+                releaseQueueSlot(next);
+                if (!next.isAsync()) {
+                    runningCount++;
+                }
+                budgetOf(next.modelType).acquire(next.estimatedTokens, now);
+                ready.add(next);
+            }
+        }
+        ready.forEach(job -> {
+            if (job.isAsync()) {
+                start(job);
+            } else {
+                executor.execute(() -> run(job));
+            }
+        });
+    }
+    
+    /**
+     * heartbeat 기록 및 heartbeat가 끊긴 작업 복구
+     */
+    @Scheduled(fixedDelayString = "${ai.job.scheduler.heartbeat-interval-ms:30000}",
+               initialDelayString = "${ai.job.scheduler.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<String> requestIds = new ArrayList<>(inFlight.keySet());
+            if (!requestIds.isEmpty()) {
+                aiJobRepository.touchHeartbeat(requestIds, now);
+            }
+            recoverOrphanedJobs(now);
+        } catch (Exception e) {
+            log.warn("AI 작업 heartbeat 처리 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 기동 직후 이전 실행에서 남은 작업 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        try {
+            recoverOrphanedJobs(LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("기동 시 AI 작업 복구 실패: {}", e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    /**
+     * 대기열 등록 (전체/사용자별 한도 초과 시 거절)
+     *
+     * @param tracked 작업 행이 있어 heartbeat와 복구 대상에 포함할지 여부
+     */
+    private void enqueue(QueuedJob queued, boolean tracked) {
+        synchronized (lock) {
+            // 추천 호출과 작업 행이 있는 작업은 대기열 한도를 따로 사용 (한쪽이 몰려도 다른 쪽은 거절되지 않음)
+            boolean async = queued.isAsync();
+            if (async ? queuedRecommendations >= recommendationQueueCapacity : queuedCount >= queueCapacity) {
+                reject(queued.requestId, "queue_full", "AI 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요");
+            }
+            Map<String, Integer> byUser = async ? queuedRecommendationsByUser : queuedByUser;
+            if (byUser.getOrDefault(queued.userKey, 0) >= maxQueuedPerUser) {
+                reject(queued.requestId, "user_limit", "대기 중인 AI 작업이 너무 많습니다. 진행 중인 작업 완료 후 다시 시도해주세요");
+            }
+            queues.get(queued.priority).add(queued);
+            byUser.merge(queued.userKey, 1, Integer::sum);
+            if (async) {
+                queuedRecommendations++;
+            } else {
+                queuedCount++;
+            }
+            if (tracked) {
+                inFlight.put(queued.requestId, queued);
+            }
+        }
+        log.debug("AI 작업 대기열 등록: requestId={}, priority={}, model={}, user={}",
+                queued.requestId, queued.priority, queued.modelType, queued.userKey);
+    }
+    
+    /**
+     * 대기열에서 꺼낸 작업의 대기 수 반환 (lock 보유 상태에서 호출)
+     */
+    private void releaseQueueSlot(QueuedJob job) {
+        if (job.isAsync()) {
+            queuedRecommendations--;
+            queuedRecommendationsByUser.computeIfPresent(job.userKey, (key, count) -> count > 1 ? count - 1 : null);
+        } else {
+            queuedCount--;
+            queuedByUser.computeIfPresent(job.userKey, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+    
+    /**
+     * 추천 호출 시작 (워커 없이 구독만 하고, 종료 시 모델 한도 반환 후 재배정)
+     */
+    private void start(QueuedJob job) {
+        recordQueueWait(job);
+        Disposable subscription = job.asyncCall.start(() -> {
+            if (job.finished.compareAndSet(false, true)) {
+                synchronized (lock) {
+                    budgetOf(job.modelType).release();
+                }
+                dispatch();
+            }
+        });
+        job.subscription = subscription;
+        // 시작 직전에 취소된 경우 방금 시작한 호출도 중단
+        if (job.cancelled && subscription != null) {
+            subscription.dispose();
+        }
+    }
+    
+    /**
+     * 구독이 취소된 추천 호출 정리 (대기 중이면 대기열에서 제거, 실행 중이면 호출 중단)
+     */
+    private void cancel(QueuedJob job) {
+        job.cancelled = true;
+        synchronized (lock) {
+            if (queues.get(job.priority).remove(job)) {
+                releaseQueueSlot(job);
+                return;
+            }
+        }
+        Disposable subscription = job.subscription;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+    
+    private void recordQueueWait(QueuedJob job) {
+        Timer.builder("ai.job.queue.wait")
+            .description("AI 작업 제출부터 워커 실행 시작까지 대기 시간")
+            .tag("priority", job.priority.name())
+            .register(meterRegistry)
+            .record(System.nanoTime() - job.enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+    
+    private void run(QueuedJob job) {
+        recordQueueWait(job);
+        try {
+            job.task.run();
+        } catch (Exception e) {
+            log.error("AI 작업 실행 중 처리되지 않은 오류: requestId=" + job.requestId, e);
+        } finally {
+            synchronized (lock) {
+                runningCount--;
+                budgetOf(job.modelType).release();
+            }
+            inFlight.remove(job.requestId);
+            dispatch();
+        }
+    }
+    
+    /**
+     * 우선순위가 높은 대기열부터, 모델 한도 안에서 실행 가능한 첫 작업 선택
+     * 워커가 모두 사용 중이면 워커가 필요 없는 추천 호출만 선택
+     */
+    private QueuedJob selectNext(long now) {
+        boolean workerAvailable = runningCount < workerCount;
+        for (JobPriority priority : JobPriority.values()) {
+            QueuedJob next = queues.get(priority).poll(job -> (job.isAsync() || workerAvailable) && admits(job, now));
+            if (next != null) {
+                return next;
+            }
+        }
+        return null;
+    }
+    
+    private boolean admits(QueuedJob job, long now) {
+        String reason = budgetOf(job.modelType).check(job.estimatedTokens, now);
+        if (reason == null) {
+            return true;
+        }
+        if (!job.deferred) {
+            job.deferred = true;
+            meterRegistry.counter("ai.job.admission.deferred", "model", String.valueOf(job.modelType), "reason", reason).increment();
+        }
+        return false;
+    }
+    
+    /**
+     * heartbeat가 끊긴 QUEUED/PROCESSING 작업을 조건부 갱신으로 선점한 뒤 재제출
+     * 여러 Pod가 동시에 실행해도 조건부 갱신에 성공한 Pod만 재제출
+     */
+    private void recoverOrphanedJobs(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(Duration.ofMillis(orphanTimeoutMs));
+        for (AIJob orphan : aiJobRepository.findOrphanedJobs(cutoff)) {
+            String requestId = orphan.getRequestId();
+            if (inFlight.containsKey(requestId)) {
+                continue;
+            }
+            
+            Consumer<AIJob> handler = recoveryHandlers.get(orphan.getJobType());
+            if (handler == null || orphan.getRetryCount() >= orphan.getMaxRetry()) {
+                String message = handler == null ? "재시작할 수 없는 작업 유형입니다" : "작업 재시도 횟수를 초과했습니다";
+                if (aiJobRepository.failOrphanedJob(requestId, JobStatus.FAILED, message, cutoff, now) > 0) {
+                    progressStore.evict(requestId);
+                    meterRegistry.counter("ai.job.orphans", "result", "failed").increment();
+                    log.warn("중단된 AI 작업 실패 처리: requestId={}, reason={}", requestId, message);
+                }
+                continue;
+            }
+            
+            if (aiJobRepository.claimOrphanedJob(requestId, JobStatus.QUEUED, cutoff, now) == 0) {
+                // 다른 Pod가 먼저 선점
+                continue;
+            }
+            progressStore.evict(requestId);
+            meterRegistry.counter("ai.job.orphans", "result", "requeued").increment();
+            log.info("중단된 AI 작업 재제출: requestId={}, jobType={}, retry={}",
+                    requestId, orphan.getJobType(), orphan.getRetryCount() + 1);
+            
+            try {
+                aiJobRepository.findByRequestId(requestId).ifPresent(handler);
+            } catch (Exception e) {
+                log.warn("중단된 AI 작업 재제출 실패: requestId={}, reason={}", requestId, e.getMessage());
+            }
+        }
+    }
+    
+    private void reject(String requestId, String reason, String message) {
+        meterRegistry.counter("ai.job.rejected", "reason", reason).increment();
+        log.warn("AI 작업 거절: requestId={}, reason={}, queued={}", requestId, reason, queuedCount);
+        throw new BusinessException(ErrorCodes.AI_JOB_QUEUE_FULL, message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    
+    private int estimatedTokens(JobPriority priority) {
+        return environment.getProperty("ai.job.scheduler.estimated-tokens." + priority.propertyKey, Integer.class, 4000);
+    }
+    
+    private ModelBudget budgetOf(AIModelType modelType) {
+        return budgets.getOrDefault(modelType, budgets.get(AIModelType.OPENAI_GPT35));
+    }
+    
+    private int queueDepth(JobPriority priority) {
+        synchronized (lock) {
+            return queues.get(priority).size();
+        }
+    }
+    
+    private int runningFor(AIModelType modelType) {
+        synchronized (lock) {
+            return modelType == null ? runningCount : budgetOf(modelType).running;
+        }
+    }
+    
+    /**
+     * 작업 우선순위 (선언 순서가 배정 순서)
+     */
+    enum JobPriority {
+        DAY_REGENERATION("day-regeneration"),
+        RECOMMENDATION("recommendation"),
+        FULL_GENERATION("full-generation");
+        
+        private final String propertyKey;
+        
+        JobPriority(String propertyKey) {
+            this.propertyKey = propertyKey;
+        }
+        
+        static JobPriority of(String jobType) {
+            if ("DAY_SCHEDULE_REGENERATION".equals(jobType)) {
+                return DAY_REGENERATION;
+            }
+            if (jobType != null && jobType.startsWith("RECOMMENDATION")) {
+                return RECOMMENDATION;
+            }
+            return FULL_GENERATION;
+        }
+    }
+    
+    /**
+     * 사용자별 라운드 로빈 대기열
+     * 배정된 사용자는 순환 순서의 맨 뒤로 이동하며, 사용자 내부에서는 제출 순서 유지
+     */
+    private static final class FairQueue {
+        
+        private final Map<String, ArrayDeque<QueuedJob>> byUser = new HashMap<>();
+        private final ArrayDeque<String> rotation = new ArrayDeque<>();
+        private int size;
+        
+        void add(QueuedJob job) {
+            byUser.computeIfAbsent(job.userKey, key -> {
+                rotation.addLast(key);
+                return new ArrayDeque<>();
+            }).addLast(job);
+            size++;
+        }
+        
+        QueuedJob poll(Predicate<QueuedJob> admissible) {
+            int users = rotation.size();
+            for (int i = 0; i < users; i++) {
+                String userKey = rotation.pollFirst();
+                ArrayDeque<QueuedJob> jobs = byUser.get(userKey);
+                QueuedJob head = jobs.peekFirst();
+                if (admissible.test(head)) {
+                    jobs.pollFirst();
+                    size--;
+                    if (jobs.isEmpty()) {
+                        byUser.remove(userKey);
+                    } else {
+                        rotation.addLast(userKey);
+                    }
+                    return head;
+                }
+                rotation.addLast(userKey);
+            }
+            return null;
+        }
+        
+        /**
+         * 대기 중인 작업 제거
+         *
+         * @return 대기열에 있어서 제거했으면 true
+         */
+        boolean remove(QueuedJob job) {
+            ArrayDeque<QueuedJob> jobs = byUser.get(job.userKey);
+            if (jobs == null || !jobs.remove(job)) {
+                return false;
+            }
+            size--;
+            if (jobs.isEmpty()) {
+                byUser.remove(job.userKey);
+                rotation.remove(job.userKey);
+            }
+            return true;
+        }
+        
+        int size() {
+            return size;
+        }
+    }
+    
+    /**
+     * 모델별 동시 실행 수와 분당 토큰 예산 (최근 60초 배정분 합계)
+     */
+    private static final class ModelBudget {
+        
+        private static final long WINDOW_MS = 60_000L;
+        
+        private final int maxConcurrency;
+        private final int tokensPerMinute;
+        private final ArrayDeque<long[]> window = new ArrayDeque<>();
+        private long windowTokens;
+        private int running;
+        
+        ModelBudget(int maxConcurrency, int tokensPerMinute) {
+            this.maxConcurrency = maxConcurrency;
+            this.tokensPerMinute = tokensPerMinute;
+        }
+        
+        /**
+         * @return 배정 불가 사유, 배정 가능하면 null
+         */
+        String check(int tokens, long now) {
+            if (running >= maxConcurrency) {
+                return "concurrency";
+            }
+            prune(now);
+            // 예산보다 큰 단일 작업도 창이 비어 있으면 배정
+            if (windowTokens > 0 && windowTokens + tokens > tokensPerMinute) {
+                return "tokens_per_minute";
+            }
+            return null;
+        }
+        
+        void acquire(int tokens, long now) {
+            running++;
+            window.addLast(new long[]{now, tokens});
+            windowTokens += tokens;
+        }
+        
+        void release() {
+            running--;
+        }
+        
+        private void prune(long now) {
+            while (!window.isEmpty() && now - window.peekFirst()[0] >= WINDOW_MS) {
+                windowTokens -= window.pollFirst()[1];
+            }
+        }
+    }
+    
+    /**
+     * 워커 없이 실행하는 호출 (onDone은 호출 종료 시 한 번 실행)
+     */
+    @FunctionalInterface
+    private interface AsyncCall {
+        Disposable start(Runnable onDone);
+    }
+    
+    /**
+     * 대기/실행 중인 작업
+     */
+    private static final class QueuedJob {
+        
+        private final String requestId;
+        private final JobPriority priority;
+        private final AIModelType modelType;
+        private final String userKey;
+        private final int estimatedTokens;
+        private final Runnable task;
+        private final long enqueuedAt;
+        private boolean deferred;
+        private AsyncCall asyncCall;
+        private volatile Disposable subscription;
+        private volatile boolean cancelled;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        
+        QueuedJob(String requestId, JobPriority priority, AIModelType modelType, String userKey,
+                  int estimatedTokens, Runnable task, long enqueuedAt) {
+            this.requestId = requestId;
+            this.priority = priority;
+            this.modelType = modelType;
+            this.userKey = userKey;
+            this.estimatedTokens = estimatedTokens;
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+        
+        boolean isAsync() {
+            return asyncCall != null;
+        }
+    }
+}
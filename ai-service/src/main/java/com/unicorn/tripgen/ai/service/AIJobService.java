@@ -38,9 +38,15 @@ public interface AIJobService {
     AIJob cancelJob(String requestId);
     
     /**
-     * 작업 진행 상황 업데이트
+     * 작업 진행 상황 업데이트 (진행 상황 저장소에 기록, 저장소를 사용할 수 없으면 DB에 기록)
      */
-    AIJob updateProgress(String requestId, int progress, String currentStep);
+    void updateProgress(String requestId, int progress, String currentStep);
+    
+    /**
+     * 작업 상태 조회 (진행 상황 저장소 우선, 없으면 DB)
+     * 저장소에서 조회한 경우 상태/진행률 필드만 채워진 조회용 객체를 반환
+     */
+    Optional<AIJob> getJobStatus(String requestId);
     
     /**
      * 요청 ID로 작업 조회
@@ -7,10 +7,14 @@ import com.unicorn.tripgen.ai.repository.AIJobRepository;
 import com.unicorn.tripgen.common.exception.ErrorCodes;
 import com.unicorn.tripgen.common.exception.BusinessException;
 import com.unicorn.tripgen.common.exception.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +23,8 @@ import java.util.UUID;
 
 /**
  * AI 작업 관리 서비스 구현체
+ * 상태 전이는 ai_jobs 행에 저장하고 커밋 후 진행 상황 저장소(Redis)에 반영
+ * 단계별 진행률은 진행 상황 저장소에만 기록 (저장소를 사용할 수 없으면 DB에 기록)
  */
 @Service
 @RequiredArgsConstructor
@@ -27,6 +33,8 @@ import java.util.UUID;
 public class AIJobServiceImpl implements AIJobService {
     
     private final AIJobRepository aiJobRepository;
+    private final AIJobProgressStore progressStore;
+    private final MeterRegistry meterRegistry;
     
     @Override
     public AIJob createJob(String tripId, String jobType, AIModelType aiModelType, String requestData) {
@@ -48,6 +56,7 @@ public class AIJobServiceImpl implements AIJobService {
                 .build();
         
         AIJob savedJob = aiJobRepository.save(job);
+        publishAfterCommit(savedJob);
         log.info("AI 작업 생성 완료: requestId={}", requestId);
         
         return savedJob;
@@ -68,6 +77,7 @@ public class AIJobServiceImpl implements AIJobService {
         
         job.start();
         AIJob savedJob = aiJobRepository.save(job);
+        publishAfterCommit(savedJob);
         
         log.info("AI 작업 시작됨: requestId={}", requestId);
         return savedJob;
@@ -88,6 +98,7 @@ public class AIJobServiceImpl implements AIJobService {
         
         job.complete(resultData);
         AIJob savedJob = aiJobRepository.save(job);
+        publishAfterCommit(savedJob);
         
         log.info("AI 작업 완료됨: requestId={}", requestId);
         return savedJob;
@@ -106,8 +117,10 @@ public class AIJobServiceImpl implements AIJobService {
             );
         }
         
+        applyLastProgress(job);
         job.fail(errorMessage);
         AIJob savedJob = aiJobRepository.save(job);
+        publishAfterCommit(savedJob);
         
         log.warn("AI 작업 실패됨: requestId={}, error={}", requestId, errorMessage);
         return savedJob;
@@ -126,18 +139,26 @@ public class AIJobServiceImpl implements AIJobService {
             );
         }
         
+        applyLastProgress(job);
         job.cancel();
         AIJob savedJob = aiJobRepository.save(job);
+        publishAfterCommit(savedJob);
         
         log.info("AI 작업 취소됨: requestId={}", requestId);
         return savedJob;
     }
     
     @Override
-    public AIJob updateProgress(String requestId, int progress, String currentStep) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateProgress(String requestId, int progress, String currentStep) {
         log.debug("AI 작업 진행 상황 업데이트: requestId={}, progress={}%, step={}", 
                 requestId, progress, currentStep);
         
+        // 진행 상황 저장소에 기록되면 DB 왕복 없이 종료
+        if (progressStore.updateProgress(requestId, progress, currentStep)) {
+            return;
+        }
+        
         AIJob job = getJobByRequestIdOrThrow(requestId);
         
         if (job.getStatus() != JobStatus.PROCESSING) {
@@ -156,7 +177,24 @@ public class AIJobServiceImpl implements AIJobService {
             job.setEstimatedTime(estimatedTime);
         }
         
-        return aiJobRepository.save(job);
+        aiJobRepository.save(job);
+        meterRegistry.counter("ai.job.progress.writes", "target", "db").increment();
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<AIJob> getJobStatus(String requestId) {
+        Optional<AIJob> cached = progressStore.find(requestId);
+        if (cached.isPresent()) {
+            meterRegistry.counter("ai.job.status.reads", "source", "redis").increment();
+            return cached;
+        }
+        
+        meterRegistry.counter("ai.job.status.reads", "source", "db").increment();
+        Optional<AIJob> job = aiJobRepository.findByRequestId(requestId);
+        // 저장소에서 빠진 작업(만료/장애 복구)은 다음 조회부터 저장소에서 응답
+        job.ifPresent(progressStore::cache);
+        return job;
     }
     
     @Override
@@ -206,6 +244,7 @@ public class AIJobServiceImpl implements AIJobService {
         job.setCompletedAt(null);
         
         AIJob savedJob = aiJobRepository.save(job);
+        publishAfterCommit(savedJob);
         log.info("AI 작업 재시도 설정 완료: requestId={}, retryCount={}", requestId, job.getRetryCount());
         
         return savedJob;
@@ -243,6 +282,35 @@ public class AIJobServiceImpl implements AIJobService {
                 ));
     }
     
+    /**
+     * 진행 상황 저장소에만 기록된 마지막 진행률/단계를 DB 행에 반영
+     */
+    private void applyLastProgress(AIJob job) {
+        progressStore.findProgress(job.getRequestId())
+                .filter(last -> last.getStatus() == JobStatus.PROCESSING)
+                .ifPresent(last -> {
+                    job.updateProgress(last.getProgress(), last.getCurrentStep());
+                    job.setEstimatedTime(last.getEstimatedTime());
+                });
+    }
+    
+    /**
+     * 트랜잭션 커밋 후 작업 상태를 진행 상황 저장소에 기록
+     * 롤백된 상태 전이가 저장소에 남지 않도록 커밋 이후에 반영
+     */
+    private void publishAfterCommit(AIJob job) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            progressStore.save(job);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                progressStore.save(job);
+            }
+        });
+    }
+    
     /**
      * 고유한 요청 ID 생성
      */
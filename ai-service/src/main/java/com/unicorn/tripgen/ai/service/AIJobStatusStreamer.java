@@ -0,0 +1,181 @@
+package com.unicorn.tripgen.ai.service;
+
+import com.unicorn.tripgen.ai.dto.GenerationStatusResponse;
+import com.unicorn.tripgen.ai.entity.AIJob;
+import com.unicorn.tripgen.common.exception.ErrorCodes;
+import com.unicorn.tripgen.common.exception.NotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 작업 상태 스트림 (SSE)
+ * 구독자는 요청 ID별로 이 Pod에 연결되고, 상태 변경은 Redis 상태 채널로 모든 Pod에 전달
+ * 변경 알림을 받은 Pod는 구독자가 있는 요청만 진행 상황 저장소에서 한 번 조회하여 모든 구독자에게 전송
+ * 스트림을 사용할 수 없는 클라이언트는 기존 상태 조회 API로 폴링
+ *
+ * 지표: ai.job.status.subscribers (현재 구독자 수), ai.job.status.push.latency (발행부터 전송까지 지연)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AIJobStatusStreamer implements MessageListener {
+    
+    private static final String STATUS_EVENT = "status";
+    
+    private final AIJobService aiJobService;
+    private final AIScheduleService aiScheduleService;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${ai.job.status-stream.timeout-ms:600000}")
+    private long timeoutMs;
+    
+    @Value("${ai.job.status-stream.max-subscribers:1000}")
+    private int maxSubscribers;
+    
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    
+    private Timer pushLatencyTimer;
+    
+    @PostConstruct
+    public void init() {
+        Gauge.builder("ai.job.status.subscribers", subscriberCount, AtomicInteger::get)
+            .description("현재 Pod에 연결된 작업 상태 스트림 구독자 수")
+            .register(meterRegistry);
+        pushLatencyTimer = Timer.builder("ai.job.status.push.latency")
+            .description("상태 변경 발행부터 구독자 전송까지 걸린 시간")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 요청 ID의 상태 스트림 구독
+     * 현재 상태를 즉시 전송하고, 이미 종료된 작업이면 바로 스트림을 닫음
+     */
+    public SseEmitter subscribe(String requestId) {
+        AIJob job = aiJobService.getJobStatus(requestId)
+                .orElseThrow(() -> new NotFoundException(
+                    ErrorCodes.AI_JOB_NOT_FOUND,
+                    "요청 ID를 찾을 수 없습니다: " + requestId
+                ));
+        
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        if (!send(emitter, aiScheduleService.toStatusResponse(job)) || job.getStatus().isFinal()) {
+            emitter.complete();
+            return emitter;
+        }
+        
+        if (subscriberCount.get() >= maxSubscribers) {
+            // 구독자 한도 초과 시 현재 상태만 전송하고 종료 (클라이언트는 폴링으로 대체)
+            log.warn("작업 상태 스트림 구독자 한도 초과: requestId={}, subscribers={}", requestId, subscriberCount.get());
+            emitter.complete();
+            return emitter;
+        }
+        
+        subscribers.computeIfAbsent(requestId, key -> new CopyOnWriteArrayList<>()).add(emitter);
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(() -> remove(requestId, emitter));
+        emitter.onTimeout(() -> remove(requestId, emitter));
+        emitter.onError(error -> remove(requestId, emitter));
+        log.debug("작업 상태 스트림 구독: requestId={}, subscribers={}", requestId, subscriberCount.get());
+        
+        // 구독 등록 전에 발행된 변경을 놓치지 않도록 등록 후 한 번 더 전송
+        aiJobService.getJobStatus(requestId).ifPresent(latest -> push(requestId, latest));
+        return emitter;
+    }
+    
+    /**
+     * 상태 채널 메시지 수신 (requestId|발행 시각)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('|');
+        String requestId = separator > 0 ? body.substring(0, separator) : body;
+        
+        if (!subscribers.containsKey(requestId)) {
+            return;
+        }
+        
+        Optional<AIJob> job = aiJobService.getJobStatus(requestId);
+        if (job.isEmpty()) {
+            return;
+        }
+        push(requestId, job.get());
+        
+        if (separator > 0) {
+            try {
+                long publishedAt = Long.parseLong(body.substring(separator + 1));
+                pushLatencyTimer.record(Math.max(System.currentTimeMillis() - publishedAt, 0), TimeUnit.MILLISECONDS);
+            } catch (NumberFormatException e) {
+                log.debug("상태 채널 메시지 형식 오류: {}", body);
+            }
+        }
+    }
+    
+    /**
+     * 연결 유지용 주석 이벤트 전송 (프록시 유휴 타임아웃 방지 및 끊긴 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${ai.job.status-stream.keepalive-interval-ms:15000}")
+    public void keepAlive() {
+        subscribers.forEach((requestId, emitters) -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+            }
+        }));
+    }
+    
+    private void push(String requestId, AIJob job) {
+        List<SseEmitter> emitters = subscribers.get(requestId);
+        if (emitters == null) {
+            return;
+        }
+        
+        GenerationStatusResponse status = aiScheduleService.toStatusResponse(job);
+        for (SseEmitter emitter : emitters) {
+            if (send(emitter, status) && job.getStatus().isFinal()) {
+                emitter.complete();
+            }
+        }
+    }
+    
+    private boolean send(SseEmitter emitter, GenerationStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event().name(STATUS_EVENT).data(status));
+            return true;
+        } catch (Exception e) {
+            log.debug("작업 상태 전송 실패: requestId={}, reason={}", status.getRequestId(), e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+    
+    private void remove(String requestId, SseEmitter emitter) {
+        subscribers.computeIfPresent(requestId, (key, emitters) -> {
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
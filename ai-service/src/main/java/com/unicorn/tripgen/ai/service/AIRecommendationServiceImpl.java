@@ -7,17 +7,17 @@ import com.unicorn.tripgen.ai.dto.RecommendationRequest;
 import com.unicorn.tripgen.ai.dto.RecommendationResponse;
 import com.unicorn.tripgen.ai.entity.AIRecommendation;
 import com.unicorn.tripgen.ai.repository.AIRecommendationRepository;
+import com.unicorn.tripgen.ai.service.RecommendationFeatureKeyFactory.RecommendationFeatureKey;
 import com.unicorn.tripgen.common.exception.ErrorCodes;
 import com.unicorn.tripgen.common.exception.InternalServerException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -34,34 +34,74 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
     private final AIRecommendationRepository aiRecommendationRepository;
     private final AIModelClient aiModelClient;
     private final ObjectMapper objectMapper;
+    private final RecommendationFeatureKeyFactory featureKeyFactory;
+    private final RecommendationHotIndex hotIndex;
+    private final RecommendationPromptBuilder promptBuilder;
+    private final RecommendationBatcher recommendationBatcher;
+    private final AIJobScheduler aiJobScheduler;
+    
+    @Value("${ai.recommendation.cache.ttl-days:7}")
+    private int cacheTtlDays;
     
     @Override
     public Mono<RecommendationResponse> generatePlaceRecommendations(String placeId, RecommendationRequest request) {
         log.info("AI 추천 정보 생성: placeId={}, placeName={}", placeId, request.getPlaceName());
         
-        String userProfileHash = generateUserProfileHash(request.getUserProfile());
+        // 이름 등 추천과 무관한 차이를 제거한 정규화 특성 키로 캐시 조회
+        RecommendationFeatureKey featureKey = featureKeyFactory.create(placeId, request);
+        log.debug("추천 캐시 키: {}", featureKey);
         
-        // 캐시된 추천 정보 확인
-        return getCachedRecommendation(placeId, userProfileHash)
-                .switchIfEmpty(generateNewRecommendation(placeId, request, userProfileHash))
-                .doOnNext(recommendation -> recordRecommendationAccess(placeId, userProfileHash));
+        return lookupCachedRecommendation(featureKey)
+                .switchIfEmpty(Mono.defer(() -> {
+                    hotIndex.recordLookup(featureKey.placeType(), "miss");
+                    return generateNewRecommendation(placeId, request, featureKey);
+                }));
     }
     
     @Override
-    @Transactional(readOnly = true)
     public Mono<RecommendationResponse> getCachedRecommendation(String placeId, String userProfileHash) {
         log.debug("캐시된 추천 정보 조회: placeId={}, profileHash={}", placeId, userProfileHash);
         
-        return Mono.fromCallable(() -> {
-            return aiRecommendationRepository.findValidRecommendation(placeId, userProfileHash, LocalDateTime.now())
-                    .map(this::convertToResponse)
-                    .orElse(null);
-        })
-        .doOnNext(recommendation -> {
-            if (recommendation != null) {
-                log.debug("캐시된 추천 정보 발견: placeId={}", placeId);
+        return Mono.fromCallable(() -> findCachedRecommendation(placeId, userProfileHash, null))
+                .doOnNext(recommendation -> log.debug("캐시된 추천 정보 발견: placeId={}", placeId));
+    }
+    
+    /**
+     * 정규화 특성 키로 캐시 조회 (핫 인덱스 → ai_recommendations 테이블 순)
+     */
+    private Mono<RecommendationResponse> lookupCachedRecommendation(RecommendationFeatureKey featureKey) {
+        return Mono.fromCallable(() -> findCachedRecommendation(
+                featureKey.placeId(), featureKey.featureHash(), featureKey.placeType()));
+    }
+    
+    /**
+     * 핫 인덱스에 있으면 DB 조회 없이 응답하고, 없으면 DB에서 조회하여 핫 인덱스에 등록
+     *
+     * @param placeType 지표용 장소 타입 (null이면 적중 기록 생략)
+     * @return 캐시된 추천 정보, 없으면 null
+     */
+    private RecommendationResponse findCachedRecommendation(String placeId, String featureHash, String placeType) {
+        String indexKey = placeId + ":" + featureHash;
+        
+        RecommendationHotIndex.HotEntry hotEntry = hotIndex.get(indexKey);
+        if (hotEntry != null) {
+            if (placeType != null) {
+                hotIndex.recordLookup(placeType, "hot");
             }
-        });
+            return convertToResponse(hotEntry.getPlaceId(), hotEntry.getRecommendationData(),
+                    hotEntry.getGeneratedAt(), hotEntry.getCacheExpiresAt());
+        }
+        
+        return aiRecommendationRepository.findValidRecommendation(placeId, featureHash, LocalDateTime.now())
+                .map(recommendation -> {
+                    if (placeType != null) {
+                        hotIndex.recordLookup(placeType, "db");
+                    }
+                    recordRecommendationAccess(recommendation);
+                    hotIndex.put(indexKey, recommendation);
+                    return convertToResponse(recommendation);
+                })
+                .orElse(null);
     }
     
     @Override
@@ -70,6 +110,7 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
         log.info("추천 정보 캐시 무효화: placeId={}", placeId);
         
         return Mono.fromRunnable(() -> {
+            hotIndex.invalidatePlace(placeId);
             List<AIRecommendation> recommendations = aiRecommendationRepository.findByPlaceIdOrderByGeneratedAtDesc(placeId);
             recommendations.forEach(rec -> rec.setCacheExpiresAt(LocalDateTime.now().minusHours(1)));
             aiRecommendationRepository.saveAll(recommendations);
@@ -113,156 +154,89 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
         });
     }
     
+    /**
+     * 핫 인덱스 적중으로 누적된 접근 횟수를 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${ai.recommendation.cache.hot-index.access-flush-interval-ms:30000}")
+    @Transactional
+    public void flushHotIndexAccess() {
+        Map<String, Integer> pending = hotIndex.drainPendingAccess();
+        if (pending.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        pending.forEach((recommendationId, count) ->
+                aiRecommendationRepository.incrementAccessCount(recommendationId, count, now));
+        log.debug("핫 인덱스 접근 횟수 반영: 항목 수={}", pending.size());
+    }
+    
     /**
      * 새로운 추천 정보 생성
+     * 배치가 활성화되어 있으면 다른 캐시 미스 요청과 함께 하나의 프롬프트로 생성하고,
+     * 배치 응답에서 해당 장소가 누락되면 단일 프롬프트로 다시 생성
      */
-    private Mono<RecommendationResponse> generateNewRecommendation(String placeId, RecommendationRequest request, String userProfileHash) {
+    private Mono<RecommendationResponse> generateNewRecommendation(String placeId, RecommendationRequest request,
+                                                                   RecommendationFeatureKey featureKey) {
         log.debug("새로운 추천 정보 생성: placeId={}", placeId);
         
+        Mono<RecommendationBatcher.PlaceResult> single = Mono.defer(() -> generateSingleRecommendation(placeId, featureKey, request));
+        Mono<RecommendationBatcher.PlaceResult> generation = recommendationBatcher.isEnabled()
+                ? recommendationBatcher.submit(featureKey, request).switchIfEmpty(single)
+                : single;
+        
+        return generation.map(result -> {
+            try {
+                // AI 응답을 RecommendationResponse로 파싱
+                RecommendationResponse response = parseAIResponse(result.recommendationJson(), placeId);
+                
+                // 데이터베이스에 저장 (배치 안에서 합쳐진 동일 특성 요청은 먼저 저장된 행을 공유)
+                if (!hotIndex.contains(featureKey.indexKey())) {
+                    saveRecommendation(placeId, request, featureKey, result.modelType(), result.recommendationJson());
+                }
+                
+                return response;
+                
+            } catch (Exception e) {
+                log.error("추천 정보 생성 실패: placeId=" + placeId, e);
+                throw new InternalServerException(
+                    ErrorCodes.RECOMMENDATION_GENERATION_FAILED,
+                    "추천 정보 생성 중 오류가 발생했습니다", e
+                );
+            }
+        });
+    }
+    
+    /**
+     * 단일 장소 프롬프트로 추천 생성 (작업 스케줄러의 추천 우선순위와 모델별 한도 적용)
+     */
+    private Mono<RecommendationBatcher.PlaceResult> generateSingleRecommendation(String placeId, RecommendationFeatureKey featureKey,
+                                                                                 RecommendationRequest request) {
         return aiModelClient.selectOptimalModel(false)
                 .flatMap(modelType -> {
-                    String prompt = buildRecommendationPrompt(request);
+                    String prompt = promptBuilder.buildPrompt(request);
                     Map<String, Object> context = Map.of(
                         "placeId", placeId,
-                        "userProfileHash", userProfileHash
+                        "userProfileHash", featureKey.featureHash()
                     );
                     
-                    return aiModelClient.generateRecommendation(modelType, prompt, context)
-                            .map(aiResponse -> {
-                                try {
-                                    // AI 응답을 RecommendationResponse로 파싱
-                                    RecommendationResponse response = parseAIResponse(aiResponse, placeId);
-                                    
-                                    // 데이터베이스에 저장
-                                    saveRecommendation(placeId, request, userProfileHash, modelType, aiResponse);
-                                    
-                                    return response;
-                                    
-                                } catch (Exception e) {
-                                    log.error("추천 정보 생성 실패: placeId=" + placeId, e);
-                                    throw new InternalServerException(
-                                        ErrorCodes.RECOMMENDATION_GENERATION_FAILED,
-                                        "추천 정보 생성 중 오류가 발생했습니다", e
-                                    );
-                                }
-                            });
+                    return aiJobScheduler.submitRecommendation(modelType, null, null,
+                                    () -> aiModelClient.generateRecommendation(modelType, prompt, context))
+                            .map(aiResponse -> new RecommendationBatcher.PlaceResult(modelType, aiResponse));
                 });
     }
     
     /**
      * 추천 정보 접근 기록
      */
-    private void recordRecommendationAccess(String placeId, String userProfileHash) {
+    private void recordRecommendationAccess(AIRecommendation recommendation) {
         try {
-            aiRecommendationRepository.findValidRecommendation(placeId, userProfileHash, LocalDateTime.now())
-                    .ifPresent(recommendation -> {
-                        recommendation.recordAccess();
-                        aiRecommendationRepository.save(recommendation);
-                    });
+            recommendation.recordAccess();
+            aiRecommendationRepository.save(recommendation);
         } catch (Exception e) {
-            log.warn("추천 정보 접근 기록 실패: placeId=" + placeId, e);
-        }
-    }
-    
-    /**
-     * 사용자 프로필 해시 생성
-     */
-    private String generateUserProfileHash(RecommendationRequest.UserProfile userProfile) {
-        try {
-            String profileString = String.format("%s_%s_%s_%s",
-                    userProfile.getMemberComposition(),
-                    userProfile.getHealthStatus(),
-                    userProfile.getTransportMode(),
-                    userProfile.getPreferences() != null ? String.join(",", userProfile.getPreferences()) : ""
-            );
-            
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(profileString.getBytes(StandardCharsets.UTF_8));
-            
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            
-            return hexString.toString();
-            
-        } catch (NoSuchAlgorithmException e) {
-            throw new InternalServerException(
-                ErrorCodes.INTERNAL_SERVER_ERROR,
-                "해시 생성 실패", e
-            );
+            log.warn("추천 정보 접근 기록 실패: placeId=" + recommendation.getPlaceId(), e);
         }
     }
     
-    /**
-     * 추천 프롬프트 구성
-     */
-    private String buildRecommendationPrompt(RecommendationRequest request) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("다음 장소에 대한 맞춤형 추천 정보를 JSON 형태로 제공해주세요.\n\n");
-        
-        prompt.append("장소 정보:\n");
-        prompt.append("- 장소명: ").append(request.getPlaceName()).append("\n");
-        prompt.append("- 장소 타입: ").append(request.getPlaceType()).append("\n");
-        if (request.getPlaceAddress() != null) {
-            prompt.append("- 주소: ").append(request.getPlaceAddress()).append("\n");
-        }
-        
-        prompt.append("\n사용자 프로필:\n");
-        var userProfile = request.getUserProfile();
-        if (userProfile.getMemberComposition() != null) {
-            prompt.append("- 구성원: ").append(userProfile.getMemberComposition()).append("\n");
-        }
-        if (userProfile.getHealthStatus() != null) {
-            prompt.append("- 건강 상태: ").append(userProfile.getHealthStatus()).append("\n");
-        }
-        if (userProfile.getTransportMode() != null) {
-            prompt.append("- 이동수단: ").append(userProfile.getTransportMode()).append("\n");
-        }
-        if (userProfile.getPreferences() != null && !userProfile.getPreferences().isEmpty()) {
-            prompt.append("- 선호도: ").append(String.join(", ", userProfile.getPreferences())).append("\n");
-        }
-        
-        if (request.getTripContext() != null) {
-            var tripContext = request.getTripContext();
-            prompt.append("\n여행 맥락:\n");
-            if (tripContext.getVisitDate() != null) {
-                prompt.append("- 방문 날짜: ").append(tripContext.getVisitDate()).append("\n");
-            }
-            if (tripContext.getVisitTime() != null) {
-                prompt.append("- 방문 시간: ").append(tripContext.getVisitTime()).append("\n");
-            }
-            if (tripContext.getPreviousPlace() != null) {
-                prompt.append("- 이전 장소: ").append(tripContext.getPreviousPlace()).append("\n");
-            }
-            if (tripContext.getNextPlace() != null) {
-                prompt.append("- 다음 장소: ").append(tripContext.getNextPlace()).append("\n");
-            }
-        }
-        
-        prompt.append("\n다음 형식의 JSON으로 응답해주세요:\n");
-        prompt.append("{\n");
-        prompt.append("  \"recommendations\": {\n");
-        prompt.append("    \"reasons\": [\"추천 이유들\"],\n");
-        prompt.append("    \"tips\": {\n");
-        prompt.append("      \"description\": \"장소 설명\",\n");
-        prompt.append("      \"events\": [\"특별 이벤트들\"],\n");
-        prompt.append("      \"bestVisitTime\": \"최적 방문 시간\",\n");
-        prompt.append("      \"estimatedDuration\": \"예상 소요 시간\",\n");
-        prompt.append("      \"photoSpots\": [\"포토 스팟들\"],\n");
-        prompt.append("      \"practicalTips\": [\"실용적 팁들\"],\n");
-        prompt.append("      \"alternativePlaces\": [{\"name\": \"대체 장소\", \"reason\": \"추천 이유\", \"distance\": \"거리\"}]\n");
-        prompt.append("    }\n");
-        prompt.append("  }\n");
-        prompt.append("}");
-        
-        return prompt.toString();
-    }
-    
     /**
      * AI 응답 파싱
      */
@@ -270,7 +244,7 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
         RecommendationResponse response = objectMapper.readValue(aiResponse, RecommendationResponse.class);
         response.setPlaceId(placeId);
         response.setGeneratedAt(LocalDateTime.now());
-        response.setCacheExpiry(LocalDateTime.now().plusDays(7));
+        response.setCacheExpiry(LocalDateTime.now().plusDays(cacheTtlDays));
         return response;
     }
     
@@ -278,7 +252,7 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
      * 추천 정보 저장
      */
     @Transactional
-    protected void saveRecommendation(String placeId, RecommendationRequest request, String userProfileHash, 
+    protected void saveRecommendation(String placeId, RecommendationRequest request, RecommendationFeatureKey featureKey,
                                     com.unicorn.tripgen.ai.entity.AIModelType modelType, String aiResponse) {
         try {
             AIRecommendation recommendation = AIRecommendation.builder()
@@ -286,14 +260,16 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                     .placeName(request.getPlaceName())
                     .placeType(request.getPlaceType())
                     .aiModelType(modelType)
-                    .userProfileHash(userProfileHash)
+                    .userProfileHash(featureKey.featureHash())
                     .recommendationData(aiResponse)
                     .generatedAt(LocalDateTime.now())
-                    .cacheExpiresAt(LocalDateTime.now().plusDays(7))
-                    .accessCount(0)
+                    .cacheExpiresAt(LocalDateTime.now().plusDays(cacheTtlDays))
+                    .accessCount(1)
+                    .lastAccessedAt(LocalDateTime.now())
                     .build();
             
             aiRecommendationRepository.save(recommendation);
+            hotIndex.put(featureKey.indexKey(), recommendation);
             log.debug("추천 정보 저장 완료: placeId={}", placeId);
             
         } catch (Exception e) {
@@ -306,18 +282,24 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
      * AIRecommendation 엔티티를 RecommendationResponse로 변환
      */
     private RecommendationResponse convertToResponse(AIRecommendation recommendation) {
+        return convertToResponse(recommendation.getPlaceId(), recommendation.getRecommendationData(),
+                recommendation.getGeneratedAt(), recommendation.getCacheExpiresAt());
+    }
+    
+    /**
+     * 저장된 추천 JSON을 RecommendationResponse로 변환
+     */
+    private RecommendationResponse convertToResponse(String placeId, String recommendationData,
+                                                     LocalDateTime generatedAt, LocalDateTime cacheExpiresAt) {
         try {
-            RecommendationResponse response = objectMapper.readValue(
-                recommendation.getRecommendationData(), 
-                RecommendationResponse.class
-            );
-            response.setPlaceId(recommendation.getPlaceId());
-            response.setGeneratedAt(recommendation.getGeneratedAt());
-            response.setCacheExpiry(recommendation.getCacheExpiresAt());
+            RecommendationResponse response = objectMapper.readValue(recommendationData, RecommendationResponse.class);
+            response.setPlaceId(placeId);
+            response.setGeneratedAt(generatedAt);
+            response.setCacheExpiry(cacheExpiresAt);
             return response;
             
         } catch (JsonProcessingException e) {
-            log.error("추천 정보 변환 실패: placeId=" + recommendation.getPlaceId(), e);
+            log.error("추천 정보 변환 실패: placeId=" + placeId, e);
             throw new InternalServerException(
                 ErrorCodes.AI_RESPONSE_PARSE_ERROR,
                 "추천 정보 파싱 실패", e
@@ -1,6 +1,7 @@
 package com.unicorn.tripgen.ai.service;
 
 import com.unicorn.tripgen.ai.dto.*;
+import com.unicorn.tripgen.ai.entity.AIJob;
 import reactor.core.publisher.Mono;
 
 /**
@@ -18,6 +19,11 @@ public interface AIScheduleService {
      */
     Mono<GenerationStatusResponse> getGenerationStatus(String requestId);
     
+    /**
+     * 작업 상태를 상태 응답으로 변환 (폴링 조회와 상태 스트림이 같은 응답 형식 사용)
+     */
+    GenerationStatusResponse toStatusResponse(AIJob job);
+    
     /**
      * 생성된 일정 조회
      */
@@ -9,22 +9,38 @@ import com.unicorn.tripgen.ai.dto.*;
 import com.unicorn.tripgen.ai.entity.AIJob;
 import com.unicorn.tripgen.ai.entity.AIModelType;
 import com.unicorn.tripgen.ai.entity.AISchedule;
+import com.unicorn.tripgen.ai.entity.AIScheduleDay;
 import com.unicorn.tripgen.ai.entity.JobStatus;
+import com.unicorn.tripgen.ai.repository.AIScheduleDayRepository;
 import com.unicorn.tripgen.ai.repository.AIScheduleRepository;
 import com.unicorn.tripgen.common.exception.ErrorCodes;
 import com.unicorn.tripgen.common.exception.BusinessException;
 import com.unicorn.tripgen.common.exception.InternalServerException;
 import com.unicorn.tripgen.common.exception.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -37,10 +53,44 @@ public class AIScheduleServiceImpl implements AIScheduleService {
     
     private final AIJobService aiJobService;
     private final AIScheduleRepository aiScheduleRepository;
+    private final AIScheduleDayRepository aiScheduleDayRepository;
     private final AIModelClient aiModelClient;
     private final LocationServiceClient locationServiceClient;
     private final WeatherServiceClient weatherServiceClient;
     private final ObjectMapper objectMapper;
+    private final Scheduler contextCollectionScheduler;
+    private final MeterRegistry meterRegistry;
+    private final AIJobScheduler aiJobScheduler;
+    
+    @Value("${ai.job.schedule-generation.streaming-enabled:false}")
+    private boolean streamingEnabled;
+    
+    @Value("${ai.job.schedule-generation.context.max-concurrency:8}")
+    private int contextMaxConcurrency;
+    
+    @Value("${ai.job.schedule-generation.context.location-timeout-ms:5000}")
+    private long locationTimeoutMs;
+    
+    @Value("${ai.job.schedule-generation.context.weather-timeout-ms:5000}")
+    private long weatherTimeoutMs;
+    
+    /**
+     * 중단된 작업(heartbeat 끊김)을 저장된 요청 데이터로 다시 제출하도록 등록
+     */
+    @PostConstruct
+    public void registerRecoveryHandlers() {
+        aiJobScheduler.registerRecoveryHandler("SCHEDULE_GENERATION", job -> {
+            GenerateScheduleRequest request = readRequestData(job, GenerateScheduleRequest.class);
+            aiScheduleDayRepository.deleteByRequestId(job.getRequestId());
+            submitJob(job, request.getUserId(),
+                    () -> processScheduleGeneration(job, request, job.getAiModelType()), "일정 생성");
+        });
+        aiJobScheduler.registerRecoveryHandler("DAY_SCHEDULE_REGENERATION", job -> {
+            RegenerateScheduleRequest request = readRequestData(job, RegenerateScheduleRequest.class);
+            submitJob(job, null,
+                    () -> processScheduleRegeneration(job, request, job.getAiModelType()), "일정 재생성");
+        });
+    }
     
     @Override
     public Mono<GenerateScheduleResponse> generateSchedule(GenerateScheduleRequest request) {
@@ -59,15 +109,9 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                             requestData
                         );
                         
-                        // 백그라운드에서 일정 생성 시작
-                        processScheduleGeneration(job, request, modelType)
-                                .subscribe(
-                                    result -> log.info("일정 생성 완료: requestId={}", job.getRequestId()),
-                                    error -> {
-                                        log.error("일정 생성 실패: requestId=" + job.getRequestId(), error);
-                                        aiJobService.failJob(job.getRequestId(), error.getMessage());
-                                    }
-                                );
+                        // 스케줄러에서 일정 생성 실행 (요청 스레드는 작업 저장 직후 반환)
+                        submitJob(job, request.getUserId(),
+                                () -> processScheduleGeneration(job, request, modelType), "일정 생성");
                         
                         return Mono.just(GenerateScheduleResponse.success(job.getRequestId(), "약 3-5분"));
                         
@@ -81,11 +125,10 @@ public class AIScheduleServiceImpl implements AIScheduleService {
     }
     
     @Override
-    @Transactional(readOnly = true)
     public Mono<GenerationStatusResponse> getGenerationStatus(String requestId) {
         log.debug("일정 생성 상태 조회: requestId={}", requestId);
         
-        return Mono.fromCallable(() -> aiJobService.getJobByRequestId(requestId))
+        return Mono.fromCallable(() -> aiJobService.getJobStatus(requestId))
                 .map(jobOptional -> {
                     if (jobOptional.isEmpty()) {
                         throw new NotFoundException(
@@ -94,50 +137,53 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                         );
                     }
                     
-                    AIJob job = jobOptional.get();
-                    
-                    switch (job.getStatus()) {
-                        case QUEUED:
-                            return GenerationStatusResponse.builder()
-                                    .requestId(requestId)
-                                    .status("queued")
-                                    .progress(0)
-                                    .currentStep("대기 중")
-                                    .estimatedTime(job.getEstimatedTime())
-                                    .build();
-                        
-                        case PROCESSING:
-                            return GenerationStatusResponse.processing(
-                                requestId,
-                                job.getProgress(),
-                                job.getCurrentStep(),
-                                buildStepInfo(job),
-                                job.getEstimatedTime()
-                            );
-                        
-                        case COMPLETED:
-                            return GenerationStatusResponse.completed(requestId);
-                        
-                        case FAILED:
-                            return GenerationStatusResponse.failed(requestId, job.getErrorMessage());
-                        
-                        case CANCELLED:
-                            return GenerationStatusResponse.builder()
-                                    .requestId(requestId)
-                                    .status("cancelled")
-                                    .progress(0)
-                                    .currentStep("취소됨")
-                                    .build();
-                        
-                        default:
-                            throw new BusinessException(
-                                ErrorCodes.AI_JOB_FAILED,
-                                "알 수 없는 작업 상태: " + job.getStatus()
-                            );
-                    }
+                    return toStatusResponse(jobOptional.get());
                 });
     }
     
+    @Override
+    public GenerationStatusResponse toStatusResponse(AIJob job) {
+        switch (job.getStatus()) {
+            case QUEUED:
+                return GenerationStatusResponse.builder()
+                        .requestId(job.getRequestId())
+                        .status("queued")
+                        .progress(0)
+                        .currentStep("대기 중")
+                        .estimatedTime(job.getEstimatedTime())
+                        .build();
+            
+            case PROCESSING:
+                return GenerationStatusResponse.processing(
+                    job.getRequestId(),
+                    job.getProgress(),
+                    job.getCurrentStep(),
+                    buildStepInfo(job),
+                    job.getEstimatedTime()
+                );
+            
+            case COMPLETED:
+                return GenerationStatusResponse.completed(job.getRequestId());
+            
+            case FAILED:
+                return GenerationStatusResponse.failed(job.getRequestId(), job.getErrorMessage());
+            
+            case CANCELLED:
+                return GenerationStatusResponse.builder()
+                        .requestId(job.getRequestId())
+                        .status("cancelled")
+                        .progress(0)
+                        .currentStep("취소됨")
+                        .build();
+            
+            default:
+                throw new BusinessException(
+                    ErrorCodes.AI_JOB_FAILED,
+                    "알 수 없는 작업 상태: " + job.getStatus()
+                );
+        }
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Mono<GeneratedScheduleResponse> getGeneratedSchedule(String requestId) {
@@ -198,15 +244,9 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                             requestData
                         );
                         
-                        // 백그라운드에서 재생성 시작
-                        processScheduleRegeneration(job, request, modelType)
-                                .subscribe(
-                                    result -> log.info("일정 재생성 완료: requestId={}", job.getRequestId()),
-                                    error -> {
-                                        log.error("일정 재생성 실패: requestId=" + job.getRequestId(), error);
-                                        aiJobService.failJob(job.getRequestId(), error.getMessage());
-                                    }
-                                );
+                        // 스케줄러에서 재생성 실행 (전체 생성보다 우선 배정)
+                        submitJob(job, null,
+                                () -> processScheduleRegeneration(job, request, modelType), "일정 재생성");
                         
                         return Mono.just(GenerateScheduleResponse.success(job.getRequestId(), "약 2분"));
                         
@@ -268,38 +308,151 @@ public class AIScheduleServiceImpl implements AIScheduleService {
                 .doOnNext(model -> log.debug("선택된 AI 모델: {}", model));
     }
     
+    /**
+     * 작업을 스케줄러에 제출
+     * 워커 스레드가 파이프라인 완료까지 점유하므로 동시 생성 수는 워커 수와 모델별 한도로 제한됨
+     * 대기열 초과 시 작업을 실패 처리하고 거절 예외 전파
+     *
+     * @param fairShareKey 공정 배분 기준 사용자 ID (없으면 여행 ID 사용)
+     */
+    private void submitJob(AIJob job, String fairShareKey, Supplier<Mono<String>> pipeline, String jobLabel) {
+        String requestId = job.getRequestId();
+        try {
+            aiJobScheduler.submit(job, fairShareKey, () -> {
+                try {
+                    pipeline.get().block();
+                    log.info("{} 완료: requestId={}", jobLabel, requestId);
+                } catch (Exception error) {
+                    log.error(jobLabel + " 실패: requestId=" + requestId, error);
+                    failJobQuietly(requestId, error.getMessage());
+                }
+            });
+        } catch (BusinessException e) {
+            failJobQuietly(requestId, e.getMessage());
+            throw e;
+        }
+    }
+    
+    private <T> T readRequestData(AIJob job, Class<T> type) {
+        try {
+            return objectMapper.readValue(job.getRequestData(), type);
+        } catch (JsonProcessingException e) {
+            throw new InternalServerException(
+                ErrorCodes.INTERNAL_SERVER_ERROR,
+                "요청 데이터 역직렬화 실패: " + job.getRequestId(), e
+            );
+        }
+    }
+    
+    private void failJobQuietly(String requestId, String errorMessage) {
+        try {
+            aiJobService.failJob(requestId, errorMessage);
+        } catch (Exception e) {
+            // 취소 등으로 이미 종료된 작업
+            log.warn("작업 실패 처리 생략: requestId={}, reason={}", requestId, e.getMessage());
+        }
+    }
+    
     /**
      * 일정 생성 처리 (비동기)
      */
     private Mono<String> processScheduleGeneration(AIJob job, GenerateScheduleRequest request, AIModelType modelType) {
+        long startNanos = System.nanoTime();
         return Mono.fromCallable(() -> aiJobService.startJob(job.getRequestId()))
                 .flatMap(startedJob -> {
-                    // 1단계: 위치 정보 수집
+                    // 1~2단계: 여행지별 위치/날씨 정보 병렬 수집
                     aiJobService.updateProgress(job.getRequestId(), 20, "위치 정보 수집 중");
-                    return collectLocationData(request);
-                })
-                .flatMap(locationData -> {
-                    // 2단계: 날씨 정보 수집
-                    aiJobService.updateProgress(job.getRequestId(), 40, "날씨 정보 수집 중");
-                    return collectWeatherData(request, locationData);
+                    return collectContextData(request);
                 })
                 .flatMap(contextData -> {
                     // 3단계: AI 프롬프트 생성 및 실행
                     aiJobService.updateProgress(job.getRequestId(), 60, "AI 일정 생성 중");
                     String prompt = buildSchedulePrompt(request, contextData);
-                    return aiModelClient.generateSchedule(modelType, prompt, contextData);
+                    Timer.builder("ai.schedule.time_to_prompt")
+                            .description("일정 생성 작업 시작부터 프롬프트 구성까지 소요 시간")
+                            .tag("destinations", String.valueOf(request.getDestinations().size()))
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    return streamingEnabled
+                            ? streamScheduleByDay(job, request, modelType, prompt, startNanos)
+                            : aiModelClient.generateSchedule(modelType, prompt, contextData);
                 })
                 .flatMap(aiResponse -> {
                     // 4단계: 결과 저장
-                    aiJobService.updateProgress(job.getRequestId(), 80, "결과 저장 중");
+                    aiJobService.updateProgress(job.getRequestId(), 90, "결과 저장 중");
                     return saveScheduleResult(job, aiResponse);
                 })
                 .doOnSuccess(result -> {
                     aiJobService.updateProgress(job.getRequestId(), 100, "완료");
                     aiJobService.completeJob(job.getRequestId(), result);
+                    Timer.builder("ai.schedule.generation.total")
+                            .description("일정 생성 작업 시작부터 완료까지 소요 시간")
+                            .tag("mode", streamingEnabled ? "streaming" : "blocking")
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
                 });
     }
     
+    /**
+     * 스트리밍 응답을 일자 단위로 파싱하여 완성된 일자를 즉시 저장하고 진행률 갱신
+     * 
+     * @return 전체 응답 텍스트 (최종 결과 저장용)
+     */
+    private Mono<String> streamScheduleByDay(AIJob job, GenerateScheduleRequest request, AIModelType modelType,
+                                             String prompt, long startNanos) {
+        ScheduleDayStreamParser parser = new ScheduleDayStreamParser();
+        AtomicInteger completedDays = new AtomicInteger();
+        int totalDays = countTripDays(request);
+        
+        return aiModelClient.streamSchedule(modelType, prompt)
+                .concatMapIterable(parser::feed)
+                // 저장은 블로킹 JPA 호출이므로 네트워크 이벤트 루프 밖에서 실행
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(dayJson -> {
+                    int dayIndex = completedDays.incrementAndGet();
+                    if (dayIndex == 1) {
+                        Timer.builder("ai.schedule.time_to_first_day")
+                                .description("일정 생성 작업 시작부터 첫 번째 일자 완성까지 소요 시간")
+                                .tag("model", modelType.name())
+                                .register(meterRegistry)
+                                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    }
+                    saveScheduleDay(job, dayIndex, dayJson);
+                    
+                    // 생성 단계(60~89%)를 일자 수 기준으로 진행
+                    int progress = totalDays > 0 ? 60 + Math.min(29, 30 * dayIndex / totalDays) : 60;
+                    aiJobService.updateProgress(job.getRequestId(), progress,
+                            String.format("AI 일정 생성 중 (%d일차 완료)", dayIndex));
+                })
+                .then(Mono.fromCallable(parser::fullText));
+    }
+    
+    /**
+     * 완성된 일자 저장 (응답에 day 필드가 있으면 해당 값 사용)
+     */
+    private void saveScheduleDay(AIJob job, int dayIndex, String dayJson) {
+        int dayNumber = dayIndex;
+        try {
+            dayNumber = objectMapper.readTree(dayJson).path("day").asInt(dayIndex);
+        } catch (JsonProcessingException e) {
+            log.warn("일자 JSON 파싱 실패, 순번 사용: requestId={}, day={}", job.getRequestId(), dayIndex);
+        }
+        
+        aiScheduleDayRepository.save(AIScheduleDay.builder()
+                .requestId(job.getRequestId())
+                .dayNumber(dayNumber)
+                .dayData(dayJson)
+                .build());
+        log.debug("일자 일정 저장: requestId={}, day={}", job.getRequestId(), dayNumber);
+    }
+    
+    private int countTripDays(GenerateScheduleRequest request) {
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            return 0;
+        }
+        return (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+    }
+    
     /**
      * 일정 재생성 처리 (비동기)
      */
@@ -326,49 +479,97 @@ public class AIScheduleServiceImpl implements AIScheduleService {
     }
     
     /**
-     * 위치 데이터 수집
+     * 여행지별 위치/날씨 컨텍스트 병렬 수집
+     * 여행지 단위로 동시에 실행하며, 각 여행지는 위치 검색 결과의 좌표로 날씨를 조회
+     * 개별 호출 실패/타임아웃은 해당 항목만 오류로 기록하고 나머지 결과로 계속 진행
      */
-    private Mono<Map<String, Object>> collectLocationData(GenerateScheduleRequest request) {
-        // Location Service에서 여행지 정보 수집
-        return Mono.fromCallable(() -> {
-            Map<String, Object> locationData = new HashMap<>();
-            
-            for (GenerateScheduleRequest.DestinationInfo destination : request.getDestinations()) {
-                try {
-                    var searchResult = locationServiceClient.searchLocations(destination.getDestinationName(), 5);
-                    locationData.put(destination.getDestinationName(), searchResult);
-                } catch (Exception e) {
-                    log.warn("위치 정보 수집 실패: {}", destination.getDestinationName(), e);
-                    locationData.put(destination.getDestinationName(), Map.of("error", e.getMessage()));
-                }
-            }
-            
-            return locationData;
-        });
+    private Mono<Map<String, Object>> collectContextData(GenerateScheduleRequest request) {
+        return Flux.fromIterable(request.getDestinations())
+                .flatMap(this::collectDestinationContext, contextMaxConcurrency)
+                .collectList()
+                .map(entries -> {
+                    Map<String, Object> contextData = new HashMap<>();
+                    entries.forEach(contextData::putAll);
+                    return contextData;
+                });
     }
     
     /**
-     * 날씨 데이터 수집
+     * 단일 여행지의 위치 → 날씨 정보 수집
      */
-    private Mono<Map<String, Object>> collectWeatherData(GenerateScheduleRequest request, Map<String, Object> locationData) {
-        return Mono.fromCallable(() -> {
-            Map<String, Object> contextData = new HashMap<>(locationData);
-            
-            for (GenerateScheduleRequest.DestinationInfo destination : request.getDestinations()) {
-                try {
-                    var weatherData = weatherServiceClient.getWeatherForecast(
-                            0.0, 0.0, // 실제로는 locationData에서 좌표 추출
-                            destination.getStartDate(),
-                            destination.getEndDate()
-                    );
-                    contextData.put(destination.getDestinationName() + "_weather", weatherData);
-                } catch (Exception e) {
-                    log.warn("날씨 정보 수집 실패: {}", destination.getDestinationName(), e);
-                }
+    private Mono<Map<String, Object>> collectDestinationContext(GenerateScheduleRequest.DestinationInfo destination) {
+        String name = destination.getDestinationName();
+        
+        return fetchContext("location", name, locationTimeoutMs,
+                    () -> locationServiceClient.searchLocations(name, 5))
+                .flatMap(locationData -> {
+                    Map<String, Object> entries = new HashMap<>();
+                    entries.put(name, locationData);
+                    
+                    double[] coordinates = extractCoordinates(locationData);
+                    if (coordinates == null) {
+                        // 좌표 없이 (0, 0) 날씨를 조회하지 않음
+                        log.warn("위치 좌표를 찾을 수 없어 날씨 수집 생략: {}", name);
+                        return Mono.just(entries);
+                    }
+                    
+                    return fetchContext("weather", name, weatherTimeoutMs,
+                                () -> weatherServiceClient.getWeatherForecast(
+                                        coordinates[0], coordinates[1],
+                                        destination.getStartDate(),
+                                        destination.getEndDate()))
+                            .map(weatherData -> {
+                                if (!(weatherData instanceof Map<?, ?> error && error.containsKey("error"))) {
+                                    entries.put(name + "_weather", weatherData);
+                                }
+                                return entries;
+                            });
+                });
+    }
+    
+    /**
+     * 블로킹 Feign 호출을 컨텍스트 수집 스케줄러에서 타임아웃과 함께 실행
+     * 실패 시 오류 정보를 담은 Map으로 대체
+     */
+    private Mono<Object> fetchContext(String type, String destinationName, long timeoutMs,
+                                      Callable<Object> call) {
+        return Mono.fromCallable(call)
+                .subscribeOn(contextCollectionScheduler)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .doOnNext(result -> recordContextCall(type, "success"))
+                .onErrorResume(e -> {
+                    String result = e instanceof TimeoutException ? "timeout" : "error";
+                    recordContextCall(type, result);
+                    log.warn("{} 정보 수집 실패({}): {}", type, result, destinationName, e);
+                    return Mono.just(Map.of("error", String.valueOf(e.getMessage())));
+                });
+    }
+    
+    private void recordContextCall(String type, String result) {
+        meterRegistry.counter("ai.schedule.context.calls", "type", type, "result", result).increment();
+    }
+    
+    /**
+     * 위치 검색 결과에서 좌표를 가진 첫 번째 장소의 좌표 추출
+     * ApiResponse 래핑(data) 및 places 목록 형태를 모두 허용
+     * 
+     * @return [위도, 경도] 또는 좌표가 없으면 null
+     */
+    private double[] extractCoordinates(Object locationData) {
+        Object body = locationData instanceof Map<?, ?> result && result.containsKey("data")
+                ? result.get("data") : locationData;
+        Object places = body instanceof Map<?, ?> result ? result.get("places") : body;
+        if (!(places instanceof List<?> placeList)) {
+            return null;
+        }
+        for (Object place : placeList) {
+            if (place instanceof Map<?, ?> placeMap
+                    && placeMap.get("latitude") instanceof Number latitude
+                    && placeMap.get("longitude") instanceof Number longitude) {
+                return new double[]{latitude.doubleValue(), longitude.doubleValue()};
             }
-            
-            return contextData;
-        });
+        }
+        return null;
     }
     
     /**
@@ -0,0 +1,279 @@
+package com.unicorn.tripgen.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.unicorn.tripgen.ai.client.AIModelClient;
+import com.unicorn.tripgen.ai.dto.RecommendationRequest;
+import com.unicorn.tripgen.ai.entity.AIModelType;
+import com.unicorn.tripgen.ai.service.RecommendationFeatureKeyFactory.RecommendationFeatureKey;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장소 추천 마이크로 배처
+ * 짧은 대기 시간 동안 캐시 미스 추천 요청을 모아 하나의 다중 장소 프롬프트로 생성한 뒤,
+ * 구조화된 응답을 요청별로 다시 분배
+ * - 최대 대기 시간, 최대 장소 수, 배치당 토큰 예산 중 하나에 도달하면 즉시 전송
+ * - 같은 정규화 특성 키의 요청은 배치 안에서 하나의 항목으로 합침
+ * - 배치 응답에서 누락된 항목은 빈 결과로 완료되어 호출자가 단일 생성으로 대체
+ * - 배치 호출은 AIJobScheduler의 추천 우선순위와 모델별 동시 실행/토큰 한도를 거쳐 실행
+ *
+ * 지표: ai.recommendation.batch.size (배치당 장소 수), ai.recommendation.batch.wait (배치로 인한 추가 대기),
+ *       ai.recommendation.batch.missing (응답에서 누락된 항목 수)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationBatcher {
+    
+    private final AIModelClient aiModelClient;
+    private final AIJobScheduler aiJobScheduler;
+    private final RecommendationPromptBuilder promptBuilder;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${ai.recommendation.batch.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${ai.recommendation.batch.max-size:5}")
+    private int maxSize;
+    
+    @Value("${ai.recommendation.batch.max-wait-ms:150}")
+    private long maxWaitMs;
+    
+    @Value("${ai.recommendation.batch.token-budget:4000}")
+    private int tokenBudget;
+    
+    @Value("${ai.recommendation.batch.output-tokens-per-place:350}")
+    private int outputTokensPerPlace;
+    
+    @Value("${ai.recommendation.batch.max-tokens-per-place:700}")
+    private int maxTokensPerPlace;
+    
+    private final Object lock = new Object();
+    private Map<String, PendingPlace> pending = new LinkedHashMap<>();
+    private int pendingTokens;
+    private ScheduledFuture<?> flushTimer;
+    
+    private ScheduledExecutorService timer;
+    private DistributionSummary batchSizeSummary;
+    private Timer batchWaitTimer;
+    
+    @PostConstruct
+    public void init() {
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recommendation-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        batchSizeSummary = DistributionSummary.builder("ai.recommendation.batch.size")
+            .description("배치 프롬프트 하나에 포함된 장소 수")
+            .register(meterRegistry);
+        batchWaitTimer = Timer.builder("ai.recommendation.batch.wait")
+            .description("배치 대기로 인해 추가된 지연 시간")
+            .register(meterRegistry);
+        log.info("추천 배처 초기화: enabled={}, maxSize={}, maxWaitMs={}, tokenBudget={}",
+                enabled, maxSize, maxWaitMs, tokenBudget);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flushNow();
+        timer.shutdown();
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 추천 생성 요청을 배치에 추가
+     *
+     * @return 해당 장소의 추천 결과, 배치 응답에서 누락된 경우 빈 Mono
+     */
+    public Mono<PlaceResult> submit(RecommendationFeatureKey featureKey, RecommendationRequest request) {
+        return Mono.defer(() -> {
+            Sinks.One<PlaceResult> sink = Sinks.one();
+            enqueue(featureKey, request, sink);
+            return sink.asMono();
+        });
+    }
+    
+    private void enqueue(RecommendationFeatureKey featureKey, RecommendationRequest request, Sinks.One<PlaceResult> sink) {
+        List<Map<String, PendingPlace>> ready = new ArrayList<>();
+        synchronized (lock) {
+            PendingPlace existing = pending.get(featureKey.indexKey());
+            if (existing != null) {
+                // 같은 장소·특성의 요청은 하나의 배치 항목 결과를 공유
+                existing.waiters.add(sink);
+                return;
+            }
+            
+            // 토큰 예산을 넘기게 되면 지금까지 모인 배치를 먼저 전송
+            int tokens = promptBuilder.estimateTokens(promptBuilder.describePlace(request)) + outputTokensPerPlace;
+            if (!pending.isEmpty() && pendingTokens + tokens > tokenBudget) {
+                ready.add(drainLocked());
+            }
+            
+            PendingPlace place = new PendingPlace(request, System.nanoTime());
+            place.waiters.add(sink);
+            pending.put(featureKey.indexKey(), place);
+            pendingTokens += tokens;
+            
+            if (pending.size() >= maxSize || pendingTokens >= tokenBudget) {
+                ready.add(drainLocked());
+            } else if (flushTimer == null) {
+                flushTimer = timer.schedule(this::flushNow, maxWaitMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        ready.forEach(this::dispatch);
+    }
+    
+    private void flushNow() {
+        Map<String, PendingPlace> ready;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                flushTimer = null;
+                return;
+            }
+            ready = drainLocked();
+        }
+        dispatch(ready);
+    }
+    
+    private Map<String, PendingPlace> drainLocked() {
+        Map<String, PendingPlace> drained = pending;
+        pending = new LinkedHashMap<>();
+        pendingTokens = 0;
+        if (flushTimer != null) {
+            flushTimer.cancel(false);
+            flushTimer = null;
+        }
+        return drained;
+    }
+    
+    /**
+     * 모인 항목을 하나의 LLM 호출로 생성하고 결과를 항목별로 분배
+     */
+    private void dispatch(Map<String, PendingPlace> batch) {
+        long dispatchedAt = System.nanoTime();
+        batch.values().forEach(place -> batchWaitTimer.record(dispatchedAt - place.enqueuedAt, TimeUnit.NANOSECONDS));
+        batchSizeSummary.record(batch.size());
+        
+        // 배치 내 항목 키는 짧은 순번으로 부여 (장소 ID가 같아도 프로필이 다르면 별도 항목)
+        Map<String, String> indexKeyByItemKey = new LinkedHashMap<>();
+        Map<String, RecommendationRequest> requestsByItemKey = new LinkedHashMap<>();
+        int sequence = 0;
+        for (Map.Entry<String, PendingPlace> entry : batch.entrySet()) {
+            String itemKey = "p" + (++sequence);
+            indexKeyByItemKey.put(itemKey, entry.getKey());
+            requestsByItemKey.put(itemKey, entry.getValue().request);
+        }
+        
+        String prompt = batch.size() == 1
+                ? promptBuilder.buildPrompt(batch.values().iterator().next().request)
+                : promptBuilder.buildBatchPrompt(requestsByItemKey);
+        log.debug("추천 배치 전송: places={}, promptLength={}", batch.size(), prompt.length());
+        
+        // 여러 사용자의 항목을 묶은 호출이므로 사용자별 대기 한도 없이 추천 우선순위와 모델별 한도만 적용
+        int estimatedTokens = promptBuilder.estimateTokens(prompt) + outputTokensPerPlace * batch.size();
+        // 배치 응답이 잘려 항목별 재호출로 번지지 않도록 최대 출력 토큰을 장소 수에 비례해 지정
+        aiModelClient.selectOptimalModel(false)
+                .flatMap(modelType -> aiJobScheduler.submitRecommendation(modelType, null, estimatedTokens,
+                                () -> batch.size() == 1
+                                        ? aiModelClient.generateRecommendation(modelType, prompt, Map.of("batchSize", 1))
+                                        : aiModelClient.generateRecommendation(modelType, prompt,
+                                                Map.of("batchSize", batch.size()), maxTokensPerPlace * batch.size()))
+                        .map(aiResponse -> Map.entry(modelType, aiResponse)))
+                .subscribe(
+                    result -> distribute(batch, indexKeyByItemKey, result.getKey(), result.getValue()),
+                    error -> {
+                        log.warn("추천 배치 생성 실패: places={}", batch.size(), error);
+                        batch.values().forEach(place -> place.waiters.forEach(sink -> sink.tryEmitError(error)));
+                    }
+                );
+    }
+    
+    private void distribute(Map<String, PendingPlace> batch, Map<String, String> indexKeyByItemKey,
+                            AIModelType modelType, String aiResponse) {
+        if (batch.size() == 1) {
+            PlaceResult result = new PlaceResult(modelType, aiResponse);
+            batch.values().forEach(place -> place.waiters.forEach(sink -> sink.tryEmitValue(result)));
+            return;
+        }
+        
+        Map<String, String> recommendationByIndexKey = new LinkedHashMap<>();
+        try {
+            JsonNode places = objectMapper.readTree(aiResponse).path("places");
+            for (JsonNode place : places) {
+                String indexKey = indexKeyByItemKey.get(place.path("key").asText());
+                JsonNode recommendations = place.get("recommendations");
+                if (indexKey != null && recommendations != null && recommendations.isObject()) {
+                    ObjectNode single = objectMapper.createObjectNode();
+                    single.set("recommendations", recommendations);
+                    recommendationByIndexKey.put(indexKey, objectMapper.writeValueAsString(single));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("추천 배치 응답 파싱 실패, 항목별 생성으로 대체: places={}", batch.size(), e);
+        }
+        
+        int missing = 0;
+        for (Map.Entry<String, PendingPlace> entry : batch.entrySet()) {
+            String recommendation = recommendationByIndexKey.get(entry.getKey());
+            if (recommendation == null) {
+                missing++;
+                entry.getValue().waiters.forEach(Sinks.One::tryEmitEmpty);
+            } else {
+                PlaceResult result = new PlaceResult(modelType, recommendation);
+                entry.getValue().waiters.forEach(sink -> sink.tryEmitValue(result));
+            }
+        }
+        if (missing > 0) {
+            meterRegistry.counter("ai.recommendation.batch.missing").increment(missing);
+            log.warn("추천 배치 응답 누락 항목: missing={}, places={}", missing, batch.size());
+        }
+    }
+    
+    /**
+     * 배치 대기 중인 장소
+     */
+    private static final class PendingPlace {
+        private final RecommendationRequest request;
+        private final long enqueuedAt;
+        private final List<Sinks.One<PlaceResult>> waiters = new ArrayList<>();
+        
+        private PendingPlace(RecommendationRequest request, long enqueuedAt) {
+            this.request = request;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+    
+    /**
+     * 장소별 생성 결과
+     *
+     * @param modelType 생성에 사용된 모델
+     * @param recommendationJson 단일 장소 응답과 같은 형식의 JSON ({"recommendations": {...}})
+     */
+    public record PlaceResult(AIModelType modelType, String recommendationJson) {
+    }
+}
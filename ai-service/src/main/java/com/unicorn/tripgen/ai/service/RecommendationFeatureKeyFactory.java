@@ -0,0 +1,216 @@
+package com.unicorn.tripgen.ai.service;
+
+import com.unicorn.tripgen.ai.dto.RecommendationRequest;
+import com.unicorn.tripgen.common.exception.ErrorCodes;
+import com.unicorn.tripgen.common.exception.InternalServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 캐시 키 생성기
+ * 요청을 정규화된 특성(장소, 카테고리, 연령대, 인원 규모, 건강 상태, 이동수단, 선호도 집합, 계절)으로 변환하여
+ * 이름이나 표기만 다른 유사 프로필이 같은 추천을 공유하도록 함
+ */
+@Component
+public class RecommendationFeatureKeyFactory {
+    
+    /**
+     * 키 형식 버전 (특성 구성이 바뀌면 올려서 기존 행과 섞이지 않도록 함)
+     */
+    private static final String KEY_VERSION = "v2";
+    
+    private static final Pattern AGE_PATTERN = Pattern.compile("(\\d{1,3})\\s*(세|살)");
+    private static final Pattern DECADE_PATTERN = Pattern.compile("(\\d{1,2})0\\s*대");
+    private static final Pattern HEADCOUNT_PATTERN = Pattern.compile("(\\d{1,3})\\s*명");
+    
+    private static final List<String> CHILD_KEYWORDS = List.of("유아", "아기", "아이", "어린이", "아동", "자녀", "child", "kid");
+    private static final List<String> SENIOR_KEYWORDS = List.of("어르신", "노인", "시니어", "노약자", "부모님", "senior");
+    
+    @Value("${ai.recommendation.cache.age-bucket-bounds:7,13,20,40,65}")
+    private int[] ageBucketBounds;
+    
+    @Value("${ai.recommendation.cache.season-granularity:season}")
+    private String seasonGranularity;
+    
+    /**
+     * 요청의 정규화된 특성 키 생성
+     *
+     * @param placeId 장소 ID
+     * @param request 추천 요청
+     * @return 정규화 문자열과 해시 (해시는 ai_recommendations.user_profile_hash 컬럼에 저장)
+     */
+    public RecommendationFeatureKey create(String placeId, RecommendationRequest request) {
+        RecommendationRequest.UserProfile profile = request.getUserProfile();
+        
+        String canonical = String.join("|",
+            KEY_VERSION,
+            "category=" + normalize(request.getPlaceType()),
+            "age=" + ageBuckets(profile != null ? profile.getMemberComposition() : null),
+            "party=" + partySize(profile != null ? profile.getMemberComposition() : null),
+            "health=" + normalize(profile != null ? profile.getHealthStatus() : null),
+            "transport=" + normalize(profile != null ? profile.getTransportMode() : null),
+            "prefs=" + preferenceSet(profile != null ? profile.getPreferences() : null),
+            "season=" + seasonClass(request.getTripContext())
+        );
+        
+        return new RecommendationFeatureKey(placeId, normalize(request.getPlaceType()), canonical, sha256(canonical));
+    }
+    
+    /**
+     * 구성원 설명에서 연령대 버킷 집합 추출
+     * 나이/연령대 표기를 우선 인식하고, 없으면 아동·노년 키워드로 보완하며, 둘 다 없으면 정규화된 원문을 그대로 사용
+     */
+    private String ageBuckets(String memberComposition) {
+        if (memberComposition == null || memberComposition.isBlank()) {
+            return "none";
+        }
+        String text = memberComposition.toLowerCase(Locale.ROOT);
+        TreeSet<String> buckets = new TreeSet<>();
+        
+        Matcher ageMatcher = AGE_PATTERN.matcher(text);
+        while (ageMatcher.find()) {
+            buckets.add(ageBucket(Integer.parseInt(ageMatcher.group(1))));
+        }
+        Matcher decadeMatcher = DECADE_PATTERN.matcher(text);
+        while (decadeMatcher.find()) {
+            buckets.add(ageBucket(Integer.parseInt(decadeMatcher.group(1)) * 10));
+        }
+        // 구체적인 나이 표기가 없을 때만 키워드로 보완
+        if (buckets.isEmpty()) {
+            if (CHILD_KEYWORDS.stream().anyMatch(text::contains)) {
+                buckets.add("child");
+            }
+            if (SENIOR_KEYWORDS.stream().anyMatch(text::contains)) {
+                buckets.add("senior");
+            }
+        }
+        
+        return buckets.isEmpty() ? normalize(memberComposition) : String.join(",", buckets);
+    }
+    
+    private String ageBucket(int age) {
+        int lower = 0;
+        for (int bound : ageBucketBounds) {
+            if (age < bound) {
+                return lower + "-" + (bound - 1);
+            }
+            lower = bound;
+        }
+        return lower + "+";
+    }
+    
+    /**
+     * 인원 규모 버킷 (1 / 2 / 3-4 / 5+)
+     */
+    private String partySize(String memberComposition) {
+        if (memberComposition == null) {
+            return "unknown";
+        }
+        int total = 0;
+        Matcher matcher = HEADCOUNT_PATTERN.matcher(memberComposition);
+        while (matcher.find()) {
+            total += Integer.parseInt(matcher.group(1));
+        }
+        if (total == 0) {
+            return "unknown";
+        }
+        if (total <= 2) {
+            return String.valueOf(total);
+        }
+        return total <= 4 ? "3-4" : "5+";
+    }
+    
+    private String preferenceSet(List<String> preferences) {
+        if (preferences == null || preferences.isEmpty()) {
+            return "none";
+        }
+        return preferences.stream()
+                .filter(Objects::nonNull)
+                .map(this::normalize)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+    
+    /**
+     * 방문 날짜 기준 계절 구분 (granularity: season | month | none)
+     */
+    private String seasonClass(RecommendationRequest.TripContext tripContext) {
+        if ("none".equalsIgnoreCase(seasonGranularity) || tripContext == null || tripContext.getVisitDate() == null) {
+            return "any";
+        }
+        LocalDate visitDate = tripContext.getVisitDate();
+        if ("month".equalsIgnoreCase(seasonGranularity)) {
+            return "m" + visitDate.getMonthValue();
+        }
+        return switch (visitDate.getMonthValue()) {
+            case 3, 4, 5 -> "spring";
+            case 6, 7, 8 -> "summer";
+            case 9, 10, 11 -> "autumn";
+            default -> "winter";
+        };
+    }
+    
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+    
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            
+            StringBuilder hexString = new StringBuilder();
+            for (byte b : hash) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(hex);
+            }
+            return hexString.toString();
+        
+        } catch (NoSuchAlgorithmException e) {
+            throw new InternalServerException(
+                ErrorCodes.INTERNAL_SERVER_ERROR,
+                "해시 생성 실패", e
+            );
+        }
+    }
+    
+    /**
+     * 정규화된 추천 캐시 키
+     *
+     * @param placeId 장소 ID
+     * @param placeType 정규화된 장소 타입 (지표 태그)
+     * @param canonical 정규화된 특성 문자열 (디버깅용)
+     * @param featureHash 특성 문자열의 SHA-256 해시
+     */
+    public record RecommendationFeatureKey(String placeId, String placeType, String canonical, String featureHash) {
+        
+        public String indexKey() {
+            return placeId + ":" + featureHash;
+        }
+        
+        @Override
+        public String toString() {
+            return placeId + "|" + canonical;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.unicorn.tripgen.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.unicorn.tripgen.ai.entity.AIRecommendation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 추천 정보 인메모리 핫 인덱스
+ * ai_recommendations 테이블 앞단에서 자주 조회되는 항목을 크기 제한 Caffeine 캐시에 보관하여 DB 조회 없이 응답
+ * 핫 인덱스 적중 시의 접근 횟수는 모아 두었다가 주기적으로 DB에 반영
+ * (크기/TTL 초과나 무효화로 제거된 항목의 미반영 횟수는 제거 리스너가 별도로 보관하여 유실 없음)
+ *
+ * 지표: ai.recommendation.cache.lookups (place_type, result: hot|db|miss),
+ *       ai.recommendation.llm.avoided (place_type)
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationHotIndex {
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${ai.recommendation.cache.hot-index.max-entries:5000}")
+    private int maxEntries;
+    
+    @Value("${ai.recommendation.cache.hot-index.ttl-minutes:60}")
+    private long ttlMinutes;
+    
+    private Cache<String, HotEntry> entries;
+    
+    /**
+     * 제거된 항목에서 옮겨 온 미반영 접근 횟수 (추천 ID별)
+     */
+    private final Map<String, Integer> evictedPendingAccess = new ConcurrentHashMap<>();
+    
+    private final Map<String, PlaceTypeStats> statsByPlaceType = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    public void init() {
+        entries = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(new Expiry<String, HotEntry>() {
+                @Override
+                public long expireAfterCreate(String key, HotEntry entry, long currentTime) {
+                    return entry.ttlNanos();
+                }
+                
+                @Override
+                public long expireAfterUpdate(String key, HotEntry entry, long currentTime, long currentDuration) {
+                    return entry.ttlNanos();
+                }
+                
+                @Override
+                public long expireAfterRead(String key, HotEntry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .removalListener((String key, HotEntry entry, RemovalCause cause) ->
+                flushPendingAccess(entry))
+            .recordStats()
+            .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "ai-recommendation-hot");
+    }
+    
+    /**
+     * 핫 인덱스 조회 (만료된 항목은 미적중 처리)
+     */
+    public HotEntry get(String indexKey) {
+        HotEntry entry = entries.getIfPresent(indexKey);
+        if (entry != null) {
+            entry.pendingAccess.incrementAndGet();
+        }
+        return entry;
+    }
+    
+    /**
+     * 핫 인덱스 포함 여부 확인 (접근 횟수/적중 통계에 반영하지 않음)
+     */
+    public boolean contains(String indexKey) {
+        return entries.asMap().containsKey(indexKey);
+    }
+    
+    /**
+     * DB에서 조회했거나 새로 생성한 추천 정보를 핫 인덱스에 등록
+     */
+    public void put(String indexKey, AIRecommendation recommendation) {
+        LocalDateTime hotExpiry = LocalDateTime.now().plusMinutes(ttlMinutes);
+        LocalDateTime expiresAt = recommendation.getCacheExpiresAt() != null
+                && recommendation.getCacheExpiresAt().isBefore(hotExpiry)
+                ? recommendation.getCacheExpiresAt() : hotExpiry;
+        
+        HotEntry entry = new HotEntry(
+            recommendation.getId(),
+            recommendation.getPlaceId(),
+            recommendation.getRecommendationData(),
+            recommendation.getGeneratedAt(),
+            recommendation.getCacheExpiresAt(),
+            expiresAt
+        );
+        entries.put(indexKey, entry);
+    }
+    
+    /**
+     * 장소의 모든 핫 항목 제거
+     */
+    public void invalidatePlace(String placeId) {
+        entries.asMap().values().removeIf(entry -> placeId.equals(entry.placeId));
+    }
+    
+    /**
+     * 핫 인덱스 적중으로 누적된 접근 횟수를 추천 ID별로 꺼냄 (제거된 항목의 횟수 포함)
+     */
+    public Map<String, Integer> drainPendingAccess() {
+        Map<String, Integer> pending = new HashMap<>();
+        for (HotEntry entry : entries.asMap().values()) {
+            int count = entry.pendingAccess.getAndSet(0);
+            if (count > 0 && entry.recommendationId != null) {
+                pending.merge(entry.recommendationId, count, Integer::sum);
+            }
+        }
+        for (String recommendationId : evictedPendingAccess.keySet()) {
+            Integer count = evictedPendingAccess.remove(recommendationId);
+            if (count != null) {
+                pending.merge(recommendationId, count, Integer::sum);
+            }
+        }
+        return pending;
+    }
+    
+    /**
+     * 제거되는 항목의 미반영 접근 횟수를 보관 (LRU/TTL 제거, 교체, 무효화 공통)
+     */
+    private void flushPendingAccess(HotEntry entry) {
+        if (entry == null || entry.recommendationId == null) {
+            return;
+        }
+        int count = entry.pendingAccess.getAndSet(0);
+        if (count > 0) {
+            evictedPendingAccess.merge(entry.recommendationId, count, Integer::sum);
+        }
+    }
+    
+    /**
+     * 조회 결과 기록
+     *
+     * @param placeType 정규화된 장소 타입
+     * @param result hot | db | miss
+     */
+    public void recordLookup(String placeType, String result) {
+        String tag = placeType == null || placeType.isEmpty() ? "unknown" : placeType;
+        meterRegistry.counter("ai.recommendation.cache.lookups", "place_type", tag, "result", result).increment();
+        
+        PlaceTypeStats stats = statsByPlaceType.computeIfAbsent(tag, type -> new PlaceTypeStats());
+        if ("miss".equals(result)) {
+            stats.misses.increment();
+        } else {
+            stats.hits.increment();
+            if ("hot".equals(result)) {
+                stats.hotHits.increment();
+            }
+            meterRegistry.counter("ai.recommendation.llm.avoided", "place_type", tag).increment();
+        }
+    }
+    
+    /**
+     * 장소 타입별 적중률/LLM 호출 절감 현황 (actuator 노출용)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> byPlaceType = new TreeMap<>();
+        long totalHits = 0;
+        long totalLookups = 0;
+        for (Map.Entry<String, PlaceTypeStats> stats : statsByPlaceType.entrySet()) {
+            long hits = stats.getValue().hits.sum();
+            long lookups = hits + stats.getValue().misses.sum();
+            totalHits += hits;
+            totalLookups += lookups;
+            
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("lookups", lookups);
+            detail.put("hotHits", stats.getValue().hotHits.sum());
+            detail.put("llmCallsAvoided", hits);
+            detail.put("hitRatio", ratio(hits, lookups));
+            byPlaceType.put(stats.getKey(), detail);
+        }
+        
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("hotEntries", entries.estimatedSize());
+        snapshot.put("maxEntries", maxEntries);
+        snapshot.put("llmCallsAvoided", totalHits);
+        snapshot.put("hitRatio", ratio(totalHits, totalLookups));
+        snapshot.put("placeTypes", byPlaceType);
+        return snapshot;
+    }
+    
+    private double ratio(long hits, long lookups) {
+        return lookups == 0 ? 0.0 : Math.round(hits * 10000.0 / lookups) / 10000.0;
+    }
+    
+    /**
+     * 핫 인덱스 항목
+     * 응답 DTO는 변경 가능하므로 원본 JSON을 보관하고 적중 시마다 역직렬화
+     */
+    public static final class HotEntry {
+        
+        private final String recommendationId;
+        private final String placeId;
+        private final String recommendationData;
+        private final LocalDateTime generatedAt;
+        private final LocalDateTime cacheExpiresAt;
+        private final LocalDateTime hotExpiresAt;
+        private final AtomicInteger pendingAccess = new AtomicInteger();
+        
+        private HotEntry(String recommendationId, String placeId, String recommendationData,
+                         LocalDateTime generatedAt, LocalDateTime cacheExpiresAt, LocalDateTime hotExpiresAt) {
+            this.recommendationId = recommendationId;
+            this.placeId = placeId;
+            this.recommendationData = recommendationData;
+            this.generatedAt = generatedAt;
+            this.cacheExpiresAt = cacheExpiresAt;
+            this.hotExpiresAt = hotExpiresAt;
+        }
+        
+        private long ttlNanos() {
+            return Math.max(0L, Duration.between(LocalDateTime.now(), hotExpiresAt).toNanos());
+        }
+        
+        public String getPlaceId() {
+            return placeId;
+        }
+        
+        public String getRecommendationData() {
+            return recommendationData;
+        }
+        
+        public LocalDateTime getGeneratedAt() {
+            return generatedAt;
+        }
+        
+        public LocalDateTime getCacheExpiresAt() {
+            return cacheExpiresAt;
+        }
+    }
+    
+    private static final class PlaceTypeStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder hotHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
@@ -0,0 +1,132 @@
+package com.unicorn.tripgen.ai.service;
+
+import com.unicorn.tripgen.ai.dto.RecommendationRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 장소 추천 프롬프트 구성기
+ * 단일 장소 프롬프트와 여러 장소를 한 번에 요청하는 배치 프롬프트가 같은 장소/프로필 서술을 공유
+ */
+@Component
+public class RecommendationPromptBuilder {
+    
+    /**
+     * 단일 장소 추천 프롬프트
+     */
+    public String buildPrompt(RecommendationRequest request) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("다음 장소에 대한 맞춤형 추천 정보를 JSON 형태로 제공해주세요.\n\n");
+        
+        appendPlaceSection(prompt, request);
+        
+        prompt.append("\n다음 형식의 JSON으로 응답해주세요:\n");
+        prompt.append("{\n");
+        appendRecommendationsFormat(prompt, "  ");
+        prompt.append("\n}");
+        
+        return prompt.toString();
+    }
+    
+    /**
+     * 여러 장소 추천 배치 프롬프트
+     *
+     * @param requestsByKey 배치 내 항목 키 → 추천 요청 (응답의 key로 각 요청에 다시 분배)
+     */
+    public String buildBatchPrompt(Map<String, RecommendationRequest> requestsByKey) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("다음 ").append(requestsByKey.size())
+              .append("개 장소 각각에 대한 맞춤형 추천 정보를 JSON 형태로 제공해주세요.\n");
+        prompt.append("장소마다 함께 제공된 사용자 프로필과 여행 맥락만을 기준으로 작성하고, 모든 장소를 빠짐없이 포함해주세요.\n");
+        
+        requestsByKey.forEach((key, request) -> {
+            prompt.append("\n[장소 ").append(key).append("]\n");
+            appendPlaceSection(prompt, request);
+        });
+        
+        prompt.append("\n다음 형식의 JSON으로 응답해주세요 (key는 위 [장소 ...]의 값을 그대로 사용):\n");
+        prompt.append("{\n");
+        prompt.append("  \"places\": [\n");
+        prompt.append("    {\n");
+        prompt.append("      \"key\": \"장소 키\",\n");
+        appendRecommendationsFormat(prompt, "      ");
+        prompt.append("\n    }\n");
+        prompt.append("  ]\n");
+        prompt.append("}");
+        
+        return prompt.toString();
+    }
+    
+    /**
+     * 프롬프트 토큰 수 추정 (한국어 기준 보수적으로 2자당 1토큰)
+     */
+    public int estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + 1) / 2;
+    }
+    
+    /**
+     * 장소 정보, 사용자 프로필, 여행 맥락 서술
+     */
+    public String describePlace(RecommendationRequest request) {
+        StringBuilder section = new StringBuilder();
+        appendPlaceSection(section, request);
+        return section.toString();
+    }
+    
+    private void appendPlaceSection(StringBuilder prompt, RecommendationRequest request) {
+        prompt.append("장소 정보:\n");
+        prompt.append("- 장소명: ").append(request.getPlaceName()).append("\n");
+        prompt.append("- 장소 타입: ").append(request.getPlaceType()).append("\n");
+        if (request.getPlaceAddress() != null) {
+            prompt.append("- 주소: ").append(request.getPlaceAddress()).append("\n");
+        }
+        
+        prompt.append("\n사용자 프로필:\n");
+        var userProfile = request.getUserProfile();
+        if (userProfile.getMemberComposition() != null) {
+            prompt.append("- 구성원: ").append(userProfile.getMemberComposition()).append("\n");
+        }
+        if (userProfile.getHealthStatus() != null) {
+            prompt.append("- 건강 상태: ").append(userProfile.getHealthStatus()).append("\n");
+        }
+        if (userProfile.getTransportMode() != null) {
+            prompt.append("- 이동수단: ").append(userProfile.getTransportMode()).append("\n");
+        }
+        if (userProfile.getPreferences() != null && !userProfile.getPreferences().isEmpty()) {
+            prompt.append("- 선호도: ").append(String.join(", ", userProfile.getPreferences())).append("\n");
+        }
+        
+        if (request.getTripContext() != null) {
+            var tripContext = request.getTripContext();
+            prompt.append("\n여행 맥락:\n");
+            if (tripContext.getVisitDate() != null) {
+                prompt.append("- 방문 날짜: ").append(tripContext.getVisitDate()).append("\n");
+            }
+            if (tripContext.getVisitTime() != null) {
+                prompt.append("- 방문 시간: ").append(tripContext.getVisitTime()).append("\n");
+            }
+            if (tripContext.getPreviousPlace() != null) {
+                prompt.append("- 이전 장소: ").append(tripContext.getPreviousPlace()).append("\n");
+            }
+            if (tripContext.getNextPlace() != null) {
+                prompt.append("- 다음 장소: ").append(tripContext.getNextPlace()).append("\n");
+            }
+        }
+    }
+    
+    private void appendRecommendationsFormat(StringBuilder prompt, String indent) {
+        prompt.append(indent).append("\"recommendations\": {\n");
+        prompt.append(indent).append("  \"reasons\": [\"추천 이유들\"],\n");
+        prompt.append(indent).append("  \"tips\": {\n");
+        prompt.append(indent).append("    \"description\": \"장소 설명\",\n");
+        prompt.append(indent).append("    \"events\": [\"특별 이벤트들\"],\n");
+        prompt.append(indent).append("    \"bestVisitTime\": \"최적 방문 시간\",\n");
+        prompt.append(indent).append("    \"estimatedDuration\": \"예상 소요 시간\",\n");
+        prompt.append(indent).append("    \"photoSpots\": [\"포토 스팟들\"],\n");
+        prompt.append(indent).append("    \"practicalTips\": [\"실용적 팁들\"],\n");
+        prompt.append(indent).append("    \"alternativePlaces\": [{\"name\": \"대체 장소\", \"reason\": \"추천 이유\", \"distance\": \"거리\"}]\n");
+        prompt.append(indent).append("  }\n");
+        prompt.append(indent).append("}");
+    }
+}
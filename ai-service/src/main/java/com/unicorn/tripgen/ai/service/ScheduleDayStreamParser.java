@@ -0,0 +1,111 @@
+package com.unicorn.tripgen.ai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 일정 응답의 일자 단위 증분 파서
+ * LLM이 보내는 텍스트 조각을 순서대로 받아 "schedules" 배열의 원소(일자 객체)가 닫힐 때마다 해당 JSON을 반환
+ * 문자열 리터럴 내부의 괄호와 이스케이프를 구분하므로 코드 블록(```json) 등 JSON 외 텍스트가 섞여도 동작
+ * 
+ * 한 스트림 전용이며 스레드 안전하지 않음
+ */
+class ScheduleDayStreamParser {
+    
+    private static final String SCHEDULES_KEY = "schedules";
+    
+    private final StringBuilder fullText = new StringBuilder();
+    private final StringBuilder currentString = new StringBuilder();
+    private final StringBuilder currentDay = new StringBuilder();
+    
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private String lastString;
+    private char lastSignificant;
+    
+    private int schedulesDepth = -1;
+    private boolean capturingDay;
+    
+    /**
+     * 텍스트 조각 추가
+     * 
+     * @param chunk 스트림으로 받은 텍스트 조각
+     * @return 이번 조각으로 완성된 일자 JSON 목록 (없으면 빈 목록)
+     */
+    List<String> feed(String chunk) {
+        List<String> completedDays = new ArrayList<>();
+        fullText.append(chunk);
+        
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            if (capturingDay) {
+                currentDay.append(c);
+            }
+            
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                    currentString.append(c);
+                } else if (c == '\\') {
+                    escaped = true;
+                    currentString.append(c);
+                } else if (c == '"') {
+                    inString = false;
+                    lastString = currentString.toString();
+                    lastSignificant = c;
+                } else {
+                    currentString.append(c);
+                }
+                continue;
+            }
+            
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    currentString.setLength(0);
+                }
+                case '[' -> {
+                    depth++;
+                    if (schedulesDepth < 0 && lastSignificant == ':' && SCHEDULES_KEY.equals(lastString)) {
+                        schedulesDepth = depth;
+                    }
+                }
+                case '{' -> {
+                    if (!capturingDay && depth == schedulesDepth) {
+                        capturingDay = true;
+                        currentDay.setLength(0);
+                        currentDay.append(c);
+                    }
+                    depth++;
+                }
+                case '}' -> {
+                    depth--;
+                    if (capturingDay && depth == schedulesDepth) {
+                        completedDays.add(currentDay.toString());
+                        capturingDay = false;
+                    }
+                }
+                case ']' -> {
+                    if (depth == schedulesDepth) {
+                        // schedules 배열 종료 - 이후 동일 키가 다시 나와도 무시
+                        schedulesDepth = Integer.MAX_VALUE;
+                    }
+                    depth--;
+                }
+                default -> { }
+            }
+            if (!Character.isWhitespace(c)) {
+                lastSignificant = c;
+            }
+        }
+        return completedDays;
+    }
+    
+    /**
+     * 지금까지 받은 전체 텍스트
+     */
+    String fullText() {
+        return fullText.toString();
+    }
+}
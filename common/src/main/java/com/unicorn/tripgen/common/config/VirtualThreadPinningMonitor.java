@@ -0,0 +1,98 @@
+package com.unicorn.tripgen.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감지기
+ * spring.threads.virtual.enabled=true 인 경우에만 활성화되며,
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독하여 synchronized 블록 등에서 캐리어 스레드를 점유한 위치를 기록
+ *
+ * 지표: jvm.threads.virtual.pinned (frame: 고정을 유발한 첫 번째 애플리케이션/HTTP 클라이언트 프레임)
+ *
+ * 각 서비스의 spring.threads.virtual.enabled(VIRTUAL_THREADS_ENABLED)는 기본 비활성(opt-in)이며,
+ * 켜면 Tomcat 요청 처리, @Async/@Scheduled 실행기, 병렬 호출 실행기가 가상 스레드로 동작하여
+ * 블로킹 Feign 호출이 Tomcat 스레드 풀 크기에 묶이지 않음
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    
+    /**
+     * 고정 원인으로 우선 표시할 패키지 (Feign/HTTP 클라이언트 및 애플리케이션 코드)
+     */
+    private static final List<String> SUSPECT_PACKAGES = List.of(
+        "feign.", "sun.net.", "java.net.", "org.apache.hc.", "okhttp3.", "com.unicorn.tripgen."
+    );
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${tripgen.virtual-threads.pinned-threshold-ms:20}")
+    private long pinnedThresholdMs;
+    
+    private RecordingStream recordingStream;
+    
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(pinnedThresholdMs))
+                .withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            log.info("Virtual thread pinning monitor started: threshold={}ms", pinnedThresholdMs);
+        } catch (Exception e) {
+            // JFR 미지원 런타임에서도 애플리케이션 기동은 유지
+            log.warn("Virtual thread pinning monitor unavailable: {}", e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+    
+    private void onPinned(RecordedEvent event) {
+        String frame = resolveSuspectFrame(event);
+        meterRegistry.counter("jvm.threads.virtual.pinned", "frame", frame).increment();
+        log.warn("Virtual thread pinned for {}ms at {}", event.getDuration().toMillis(), frame);
+    }
+    
+    private String resolveSuspectFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String typeName = frame.getMethod().getType().getName();
+            if (SUSPECT_PACKAGES.stream().anyMatch(typeName::startsWith)) {
+                return typeName + "." + frame.getMethod().getName();
+            }
+        }
+        RecordedFrame top = frames.get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+}
@@ -16,6 +16,7 @@ public class ErrorCodes {
     public static final String AI_JOB_ALREADY_COMPLETED = "AI_JOB_ALREADY_COMPLETED";
     public static final String AI_JOB_FAILED = "AI_JOB_FAILED";
     public static final String AI_JOB_NOT_FOUND = "AI_JOB_NOT_FOUND";
+    public static final String AI_JOB_QUEUE_FULL = "AI_JOB_QUEUE_FULL";
     public static final String AI_RESPONSE_PARSE_ERROR = "AI_RESPONSE_PARSE_ERROR";
     public static final String RECOMMENDATION_GENERATION_FAILED = "RECOMMENDATION_GENERATION_FAILED";
     
@@ -0,0 +1,37 @@
+package com.unicorn.tripgen.location.cache;
+
+import java.io.IOException;
+
+/**
+ * 캐시 값 직렬화 코덱 인터페이스
+ * 코덱 ID는 저장 값 헤더에 기록되어 읽기 시 코덱을 자동 판별하는 데 사용
+ */
+public interface CacheCodec {
+    
+    /**
+     * 코덱 식별자 (헤더에 기록)
+     */
+    byte id();
+    
+    /**
+     * 코덱 이름 (설정값 및 지표 태그)
+     */
+    String name();
+    
+    /**
+     * 객체를 바이트 배열로 인코딩
+     * 
+     * @param value 캐시할 객체
+     * @return 인코딩된 바이트 배열
+     */
+    byte[] encode(Object value) throws IOException;
+    
+    /**
+     * 바이트 배열을 객체로 디코딩
+     * 
+     * @param payload 인코딩된 바이트 배열
+     * @param type 대상 타입
+     * @return 디코딩된 객체
+     */
+    <T> T decode(byte[] payload, Class<T> type) throws IOException;
+}
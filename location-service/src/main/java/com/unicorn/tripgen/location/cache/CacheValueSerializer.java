@@ -0,0 +1,170 @@
+package com.unicorn.tripgen.location.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 값 직렬화기
+ *
+ * 저장 형식: [버전(1)][코덱 ID(1)][플래그(1)][페이로드]
+ * - 버전 바이트(0x01)는 JSON 텍스트의 첫 바이트가 될 수 없으므로 헤더 없는 기존 JSON 값과 공존 가능
+ * - 플래그 bit0: Deflate 압축 여부
+ *
+ * 롤링 배포 시 codec=json, 압축 비활성(헤더 없음)으로 모든 Pod를 먼저 교체한 뒤 codec=smile 및 압축 임계값 설정
+ */
+@Component
+@Slf4j
+public class CacheValueSerializer {
+    
+    static final byte FORMAT_VERSION = 0x01;
+    private static final int HEADER_SIZE = 3;
+    private static final byte FLAG_COMPRESSED = 0x01;
+    
+    private final Map<Byte, CacheCodec> codecs;
+    private final CacheCodec writeCodec;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${location.service.cache.codec.compression-threshold:0}")
+    private int compressionThreshold;
+    
+    public CacheValueSerializer(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                @Value("${location.service.cache.codec.type:json}") String codecType) {
+        JsonCacheCodec jsonCodec = new JsonCacheCodec(objectMapper);
+        SmileCacheCodec smileCodec = new SmileCacheCodec(objectMapper);
+        this.codecs = Map.of(jsonCodec.id(), jsonCodec, smileCodec.id(), smileCodec);
+        this.writeCodec = SmileCacheCodec.NAME.equalsIgnoreCase(codecType) ? smileCodec : jsonCodec;
+        this.meterRegistry = meterRegistry;
+        log.info("Cache value codec: {}", writeCodec.name());
+    }
+    
+    /**
+     * 객체를 저장용 바이트 배열로 변환
+     *
+     * @param value 캐시할 객체
+     * @return 저장할 바이트 배열
+     */
+    public byte[] serialize(Object value) throws IOException {
+        long start = System.nanoTime();
+        byte[] payload = writeCodec.encode(value);
+        
+        boolean compress = compressionThreshold > 0 && payload.length >= compressionThreshold;
+        
+        byte[] result;
+        if (writeCodec.id() == JsonCacheCodec.ID && !compress) {
+            // 헤더 없는 JSON은 헤더 도입 이전 Pod도 읽을 수 있음
+            result = payload;
+        } else {
+            byte[] body = compress ? deflate(payload) : payload;
+            result = new byte[HEADER_SIZE + body.length];
+            result[0] = FORMAT_VERSION;
+            result[1] = writeCodec.id();
+            result[2] = compress ? FLAG_COMPRESSED : 0;
+            System.arraycopy(body, 0, result, HEADER_SIZE, body.length);
+        }
+        
+        String type = value != null ? value.getClass().getSimpleName() : "null";
+        encodeTimer(type).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("location.cache.codec.bytes")
+            .description("인코딩된 캐시 값 크기")
+            .baseUnit("bytes")
+            .tags("codec", writeCodec.name(), "type", type)
+            .register(meterRegistry)
+            .record(result.length);
+        return result;
+    }
+    
+    /**
+     * 저장된 바이트 배열을 객체로 변환 (헤더 유무로 코덱 자동 판별)
+     *
+     * @param data 저장된 바이트 배열
+     * @param type 대상 타입
+     * @return 디코딩된 객체
+     */
+    public <T> T deserialize(byte[] data, Class<T> type) throws IOException {
+        long start = System.nanoTime();
+        T value;
+        String codecName;
+        
+        if (data.length == 0 || data[0] != FORMAT_VERSION) {
+            // 헤더 없는 기존 JSON 값
+            CacheCodec codec = codecs.get(JsonCacheCodec.ID);
+            value = codec.decode(data, type);
+            codecName = codec.name();
+        } else {
+            CacheCodec codec = codecs.get(data[1]);
+            if (codec == null) {
+                throw new IOException("지원하지 않는 캐시 코덱입니다: " + data[1]);
+            }
+            byte[] body = Arrays.copyOfRange(data, HEADER_SIZE, data.length);
+            if ((data[2] & FLAG_COMPRESSED) != 0) {
+                body = inflate(body);
+            }
+            value = codec.decode(body, type);
+            codecName = codec.name();
+        }
+        
+        Timer.builder("location.cache.codec.decode")
+            .tags("codec", codecName, "type", type.getSimpleName())
+            .register(meterRegistry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+    
+    private Timer encodeTimer(String type) {
+        return Timer.builder("location.cache.codec.encode")
+            .tags("codec", writeCodec.name(), "type", type)
+            .register(meterRegistry);
+    }
+    
+    private byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    private byte[] inflate(byte[] input) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && inflater.needsInput()) {
+                    throw new IOException("압축 데이터가 손상되었습니다");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("압축 해제 중 오류가 발생했습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.unicorn.tripgen.location.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * JSON 텍스트 코덱 (기존 StringRedisSerializer 저장 형식과 동일)
+ */
+@RequiredArgsConstructor
+public class JsonCacheCodec implements CacheCodec {
+    
+    public static final byte ID = 0x00;
+    public static final String NAME = "json";
+    
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    public byte id() {
+        return ID;
+    }
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+    
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+    
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+        return objectMapper.readValue(payload, type);
+    }
+}
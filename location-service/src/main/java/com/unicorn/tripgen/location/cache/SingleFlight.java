@@ -0,0 +1,207 @@
+package com.unicorn.tripgen.location.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 요청 병합(single-flight) 실행기
+ * 동일 키로 동시에 들어온 호출은 하나의 업스트림 호출 결과를 공유
+ * - Pod 내부: 진행 중인 CompletableFuture 공유
+ * - Pod 간(선택): 짧은 Redis 락을 획득한 Pod만 호출하고 나머지는 결과 키를 대기
+ *   (락 값에 소유자 토큰을 저장하고, 해제는 토큰이 일치할 때만 삭제)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SingleFlight {
+    
+    private static final String LOCK_PREFIX = "singleflight:lock:";
+    private static final String RESULT_PREFIX = "singleflight:result:";
+    
+    /**
+     * 락 값이 자신의 토큰과 같을 때만 삭제 (TTL 만료 후 다른 Pod가 획득한 락을 지우지 않도록)
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    
+    @Value("${location.service.external.single-flight.distributed-enabled:false}")
+    private boolean distributedEnabled;
+    
+    @Value("${location.service.external.single-flight.lock-ttl-ms:3000}")
+    private long lockTtlMs;
+    
+    @Value("${location.service.external.single-flight.result-ttl-ms:5000}")
+    private long resultTtlMs;
+    
+    @Value("${location.service.external.single-flight.poll-interval-ms:50}")
+    private long pollIntervalMs;
+    
+    /**
+     * 동일 키의 동시 호출을 하나로 병합하여 실행
+     *
+     * @param endpoint 외부 API 엔드포인트 이름 (지표 태그)
+     * @param key 엔드포인트 + 정규화된 파라미터로 구성된 키
+     * @param type 결과 타입 (Pod 간 결과 공유 시 역직렬화용)
+     * @param call 실제 업스트림 호출
+     * @return 호출 결과
+     */
+    public <T> T execute(String endpoint, String key, Class<T> type, Supplier<T> call) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        
+        if (existing != null) {
+            return awaitInFlight(endpoint, key, existing, call);
+        }
+        
+        try {
+            T result = distributedEnabled ? executeDistributed(endpoint, key, type, call) : callUpstream(endpoint, call);
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error 포함 모든 실패를 대기 중인 호출에 전달 (대기자가 멈추지 않도록)
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+    
+    /**
+     * 같은 Pod의 진행 중인 호출 결과 대기 (락 TTL을 넘기면 직접 호출)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T awaitInFlight(String endpoint, String key, CompletableFuture<Object> existing, Supplier<T> call) {
+        try {
+            T result = (T) existing.get(lockTtlMs, TimeUnit.MILLISECONDS);
+            recordCoalesced(endpoint, "local");
+            log.debug("Coalesced in-flight call: endpoint={}, key={}", endpoint, key);
+            return result;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw cause instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(cause);
+        } catch (TimeoutException e) {
+            log.debug("In-flight call timed out, calling upstream directly: endpoint={}, key={}", endpoint, key);
+            return callUpstream(endpoint, call);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight call: " + key, e);
+        }
+    }
+    
+    /**
+     * Redis 락 기반 Pod 간 병합
+     * 락을 얻지 못하면 락 TTL 동안 결과 키를 폴링하고, 결과가 없으면 직접 호출
+     */
+    private <T> T executeDistributed(String endpoint, String key, Class<T> type, Supplier<T> call) {
+        String lockKey = LOCK_PREFIX + key;
+        String resultKey = RESULT_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMs));
+            if (!Boolean.TRUE.equals(acquired)) {
+                T shared = awaitSharedResult(resultKey, type);
+                if (shared != null) {
+                    recordCoalesced(endpoint, "remote");
+                    log.debug("Coalesced call with another pod: endpoint={}, key={}", endpoint, key);
+                    return shared;
+                }
+                return callUpstream(endpoint, call);
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 병합 없이 직접 호출
+            log.warn("Single-flight lock unavailable, calling upstream directly: key={}", key, e);
+            return callUpstream(endpoint, call);
+        }
+        
+        try {
+            T result = callUpstream(endpoint, call);
+            publishSharedResult(resultKey, result);
+            return result;
+        } finally {
+            releaseLock(lockKey, token);
+        }
+    }
+    
+    /**
+     * 다른 Pod가 공유할 결과 폴링 (최대 락 TTL까지만 대기, 마지막 대기도 마감 시각을 넘기지 않음)
+     */
+    private <T> T awaitSharedResult(String resultKey, Class<T> type) throws Exception {
+        long deadline = System.currentTimeMillis() + lockTtlMs;
+        while (true) {
+            String json = redisTemplate.opsForValue().get(resultKey);
+            if (json != null) {
+                return objectMapper.readValue(json, type);
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return null;
+            }
+            try {
+                Thread.sleep(Math.min(pollIntervalMs, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+    
+    private void publishSharedResult(String resultKey, Object result) {
+        if (result == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(resultKey, objectMapper.writeValueAsString(result),
+                Duration.ofMillis(resultTtlMs));
+        } catch (Exception e) {
+            log.warn("Error sharing single-flight result: key={}", resultKey, e);
+        }
+    }
+    
+    private void releaseLock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("Error releasing single-flight lock: key={}", lockKey, e);
+        }
+    }
+    
+    private <T> T callUpstream(String endpoint, Supplier<T> call) {
+        meterRegistry.counter("location.external.upstream.calls", "endpoint", endpoint).increment();
+        return call.get();
+    }
+    
+    private void recordCoalesced(String endpoint, String scope) {
+        meterRegistry.counter("location.external.coalesced", "endpoint", endpoint, "scope", scope).increment();
+    }
+}
@@ -0,0 +1,42 @@
+package com.unicorn.tripgen.location.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+
+/**
+ * Smile(바이너리 JSON) 코덱
+ * 기존 ObjectMapper 설정(JavaTimeModule 등)을 그대로 사용하고 필드명 공유 참조로 크기를 줄임
+ */
+public class SmileCacheCodec implements CacheCodec {
+    
+    public static final byte ID = 0x01;
+    public static final String NAME = "smile";
+    
+    private final ObjectMapper smileMapper;
+    
+    public SmileCacheCodec(ObjectMapper objectMapper) {
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+    
+    @Override
+    public byte id() {
+        return ID;
+    }
+    
+    @Override
+    public String name() {
+        return NAME;
+    }
+    
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return smileMapper.writeValueAsBytes(value);
+    }
+    
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+        return smileMapper.readValue(payload, type);
+    }
+}
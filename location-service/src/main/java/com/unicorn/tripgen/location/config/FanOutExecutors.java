@@ -0,0 +1,70 @@
+package com.unicorn.tripgen.location.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 API 병렬 호출(fan-out)용 실행기 모음
+ * Executor 타입 Bean으로 등록하면 Spring 기본 applicationTaskExecutor가 비활성화되므로 컴포넌트로 보관
+ */
+@Component
+@Slf4j
+public class FanOutExecutors {
+    
+    @Value("${location.service.route.matrix.pool-size:16}")
+    private int routePoolSize;
+    
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+    
+    private ExecutorService routeExecutor;
+    private ExecutorService enrichmentExecutor;
+    
+    @PostConstruct
+    public void init() {
+        // 가상 스레드 모드에서는 풀 크기 대신 제공자별 동시 호출 한도로 병렬도 제한
+        routeExecutor = virtualThreadsEnabled
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("route-fanout-", 0).factory())
+            : Executors.newFixedThreadPool(routePoolSize, namedThreadFactory("route-fanout-"));
+        // I/O 대기 위주의 작업이므로 작업당 가상 스레드 사용 (동시 실행 수는 호출 측에서 제한)
+        enrichmentExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("route-enrich-", 0).factory());
+        log.info("Fan-out executors initialized: virtualThreads={}, routePoolSize={}", virtualThreadsEnabled, routePoolSize);
+    }
+    
+    /**
+     * 경로 API 병렬 호출용 실행기
+     */
+    public ExecutorService routeExecutor() {
+        return routeExecutor;
+    }
+    
+    /**
+     * 주변 검색 이동 시간 보강용 가상 스레드 실행기
+     */
+    public ExecutorService enrichmentExecutor() {
+        return enrichmentExecutor;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        routeExecutor.shutdown();
+        enrichmentExecutor.shutdown();
+    }
+    
+    private ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -19,7 +19,8 @@ public class WebSocketConfig implements WebSocketConfigurer {
     
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        registry.addHandler(recommendationWebSocketHandler, "/ws/recommendations/{requestId}")
+        // 요청 하나 구독(/ws/recommendations/{requestId})과 다중 구독 채널(/ws/recommendations)
+        registry.addHandler(recommendationWebSocketHandler, "/ws/recommendations/{requestId}", "/ws/recommendations")
                 .setAllowedOrigins("*"); // 개발환경에서는 모든 Origin 허용
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -94,11 +95,14 @@ public class LocationController {
             @PathVariable String placeId,
             
             @Parameter(description = "여행 ID (사용자 프로필 조회용)")
-            @RequestParam(required = false) String tripId) {
+            @RequestParam(required = false) String tripId,
+            
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal String userId) {
         
         log.info("Getting place recommendations: placeId={}, tripId={}", placeId, tripId);
         
-        Object response = locationService.getLocationRecommendations(placeId, tripId);
+        Object response = locationService.getLocationRecommendations(placeId, tripId, userId);
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
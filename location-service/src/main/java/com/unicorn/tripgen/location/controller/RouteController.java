@@ -1,5 +1,7 @@
 package com.unicorn.tripgen.location.controller;
 
+import com.unicorn.tripgen.location.dto.RouteMatrixRequest;
+import com.unicorn.tripgen.location.dto.RouteMatrixResponse;
 import com.unicorn.tripgen.location.dto.RouteRequest;
 import com.unicorn.tripgen.location.dto.RouteResponse;
 import com.unicorn.tripgen.location.service.RouteService;
@@ -47,4 +49,14 @@ public class RouteController {
         RouteResponse response = routeService.getRoute(request);
         return ResponseEntity.ok(response);
     }
+    
+    @PostMapping("/matrix")
+    @Operation(summary = "경로 행렬 조회", description = "여러 출발지와 목적지 간 소요 시간/거리 행렬을 조회합니다")
+    public ResponseEntity<RouteMatrixResponse> getRouteMatrix(@Valid @RequestBody RouteMatrixRequest request) {
+        log.info("경로 행렬 조회 요청: origins={}, destinations={}, mode={}", 
+                request.getOrigins().size(), request.getDestinations().size(), request.getMode());
+        RouteMatrixResponse response = routeService.getRouteMatrix(
+                request.getOrigins(), request.getDestinations(), request.getMode());
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
@@ -71,7 +71,7 @@ public class NearbyPlacesResponse {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class NearbyPlace {
         
         /**
@@ -119,6 +119,11 @@ public class NearbyPlacesResponse {
          */
         private Integer travelDistance;
         
+        /**
+         * 이동 시간/거리 추정값 여부 (true: 직선 거리 기반 추정, false: 실제 경로 기준)
+         */
+        private Boolean travelTimeEstimated;
+        
         
         /**
          * 대표 이미지 URL
@@ -0,0 +1,52 @@
+package com.unicorn.tripgen.location.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 경로 행렬 조회 요청 DTO
+ * 출발지 N개 × 목적지 M개의 소요 시간/거리를 한 번에 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RouteMatrixRequest {
+    
+    @NotEmpty(message = "출발지는 1개 이상이어야 합니다")
+    @Size(max = 25, message = "출발지는 최대 25개까지 가능합니다")
+    @Valid
+    private List<Coordinate> origins;
+    
+    @NotEmpty(message = "목적지는 1개 이상이어야 합니다")
+    @Size(max = 25, message = "목적지는 최대 25개까지 가능합니다")
+    @Valid
+    private List<Coordinate> destinations;
+    
+    @Builder.Default
+    private String mode = "driving"; // driving, walking, transit
+    
+    /**
+     * 좌표 정보
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Coordinate {
+        
+        @NotNull(message = "위도는 필수입니다")
+        private Double latitude;
+        
+        @NotNull(message = "경도는 필수입니다")
+        private Double longitude;
+    }
+}
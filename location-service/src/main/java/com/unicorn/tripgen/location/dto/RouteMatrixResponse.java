@@ -0,0 +1,39 @@
+package com.unicorn.tripgen.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 경로 행렬 조회 응답 DTO
+ * durations/distances/sources는 [출발지 인덱스][목적지 인덱스] 순서의 밀집 행렬
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RouteMatrixResponse {
+    
+    private String mode;
+    
+    private List<List<Integer>> durations; // 소요 시간 (초)
+    
+    private List<List<Integer>> distances; // 거리 (미터)
+    
+    private List<List<String>> sources; // 셀별 출처 (cache, db, api, fallback)
+    
+    private Integer uniquePairs; // 중복 제거 후 조회 대상 쌍 수
+    
+    private Integer cacheHits; // 경로 캐시 적중 수
+    
+    private Integer dbHits; // 경로 DB 적중 수
+    
+    private Integer apiCalls; // 외부 API 호출 수
+    
+    private Integer fallbacks; // 직선 거리 추정으로 대체된 수
+    
+    private Long executionTimeMs;
+}
@@ -25,4 +25,6 @@ public class RouteResponse implements Serializable {
     private String durationText; // 소요 시간 텍스트
     
     private String distanceText; // 거리 텍스트
+    
+    private boolean estimated; // 경로 API 실패로 직선 거리 추정값을 사용했는지 여부
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.unicorn.tripgen.location.handler;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 송신 버퍼를 가진 WebSocket 세션
+ * 호출 스레드(Service Bus 컨슈머, Pub/Sub 리스너)는 버퍼에 넣고 바로 반환하며,
+ * 실제 전송은 세션별로 한 번에 하나씩 송신 실행기에서 수행
+ * - 버퍼가 가득 차면 정책에 따라 가장 오래된 메시지를 버리거나 느린 클라이언트 연결을 종료
+ *   (결과 메시지는 버리지 않으며, 버퍼가 결과 메시지로만 차 있으면 새 메시지를 거부하여 호출자가 재전달하도록 함)
+ * - 전송 하나가 제한 시간을 넘기면 heartbeat 점검 시 연결을 종료하여 송신 스레드를 해제
+ * - heartbeat ping은 버퍼가 비어 있을 때만 보내며 버퍼 한도, 깊이/지연 지표에 포함하지 않음
+ */
+@Slf4j
+public class BufferedWebSocketSession {
+    
+    /**
+     * 버퍼 초과 시 처리 정책
+     */
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        CLOSE
+    }
+    
+    private final WebSocketSession delegate;
+    private final String userId;
+    private final Executor sendExecutor;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final DistributionSummary bufferDepthSummary;
+    private final Timer sendLatencyTimer;
+    
+    private final Deque<Outbound> buffer = new ArrayDeque<>();
+    private boolean flushing;
+    private volatile long sendStartedAt;
+    private volatile long lastActivityAt = System.currentTimeMillis();
+    
+    // 구독 중인 토픽 (request:{requestId}, place:{placeId})
+    private final Set<String> topics = ConcurrentHashMap.newKeySet();
+    
+    public BufferedWebSocketSession(WebSocketSession delegate, String userId, Executor sendExecutor, int bufferSize,
+                                    OverflowPolicy overflowPolicy, DistributionSummary bufferDepthSummary,
+                                    Timer sendLatencyTimer) {
+        this.delegate = delegate;
+        this.userId = userId;
+        this.sendExecutor = sendExecutor;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.bufferDepthSummary = bufferDepthSummary;
+        this.sendLatencyTimer = sendLatencyTimer;
+    }
+    
+    /**
+     * 메시지를 송신 버퍼에 추가 (블로킹 없음)
+     *
+     * @return 버퍼에 추가되었으면 true, 연결이 닫혔거나 정책에 따라 거부되었으면 false
+     */
+    public boolean send(WebSocketMessage<?> message) {
+        return send(message, false);
+    }
+    
+    /**
+     * 메시지를 송신 버퍼에 추가 (블로킹 없음)
+     *
+     * @param result 다시 받을 수 없는 결과 메시지이면 true (버퍼 초과 시에도 버리지 않음)
+     * @return 버퍼에 추가되었으면 true, 연결이 닫혔거나 정책에 따라 거부되었으면 false
+     */
+    public boolean send(WebSocketMessage<?> message, boolean result) {
+        if (!delegate.isOpen()) {
+            return false;
+        }
+        
+        boolean startFlush;
+        synchronized (buffer) {
+            if (buffer.size() >= bufferSize) {
+                if (overflowPolicy == OverflowPolicy.CLOSE) {
+                    log.warn("WebSocket send buffer overflow, closing slow client: sessionId={}, buffered={}",
+                            delegate.getId(), buffer.size());
+                    // 진행 중인 전송이 막혀 있을 수 있으므로 종료는 송신 실행기에서 수행
+                    sendExecutor.execute(() -> close(CloseStatus.SESSION_NOT_RELIABLE));
+                    return false;
+                }
+                Outbound dropped = pollOldestDroppable();
+                if (dropped == null) {
+                    log.warn("WebSocket send buffer full of result messages, rejecting message: sessionId={}, buffered={}",
+                            delegate.getId(), buffer.size());
+                    return false;
+                }
+                log.warn("WebSocket send buffer overflow, dropping oldest message: sessionId={}, enqueuedAt={}",
+                        delegate.getId(), dropped.enqueuedAt);
+            }
+            buffer.addLast(new Outbound(message, System.nanoTime(), true, result));
+            bufferDepthSummary.record(buffer.size());
+            startFlush = !flushing;
+            flushing = true;
+        }
+        
+        if (startFlush) {
+            sendExecutor.execute(this::flush);
+        }
+        return true;
+    }
+    
+    /**
+     * heartbeat ping 전송
+     * 버퍼에 메시지가 있거나 전송 중이면 보내지 않음 (대기 중인 알림을 밀어내지 않고, 진행 중인 전송은 정체 점검으로 확인)
+     *
+     * @return ping을 전송 대기에 넣었으면 true
+     */
+    public boolean ping() {
+        if (!delegate.isOpen()) {
+            return false;
+        }
+        synchronized (buffer) {
+            if (flushing || !buffer.isEmpty()) {
+                return false;
+            }
+            buffer.addLast(new Outbound(new PingMessage(), System.nanoTime(), false, false));
+            flushing = true;
+        }
+        sendExecutor.execute(this::flush);
+        return true;
+    }
+    
+    /**
+     * 결과 메시지가 아닌 가장 오래된 메시지를 버퍼에서 제거 (buffer 잠금 안에서 호출)
+     *
+     * @return 제거한 메시지, 모두 결과 메시지이면 null
+     */
+    private Outbound pollOldestDroppable() {
+        Iterator<Outbound> iterator = buffer.iterator();
+        while (iterator.hasNext()) {
+            Outbound outbound = iterator.next();
+            if (!outbound.result) {
+                iterator.remove();
+                return outbound;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 버퍼가 빌 때까지 순서대로 전송 (세션당 하나의 송신 작업만 실행)
+     */
+    private void flush() {
+        while (true) {
+            Outbound next;
+            synchronized (buffer) {
+                next = buffer.pollFirst();
+                if (next == null) {
+                    flushing = false;
+                    return;
+                }
+            }
+            
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                delegate.sendMessage(next.message);
+                if (next.measured) {
+                    sendLatencyTimer.record(System.nanoTime() - next.enqueuedAt, TimeUnit.NANOSECONDS);
+                }
+            } catch (Exception e) {
+                log.warn("WebSocket send failed: sessionId={}, reason={}", delegate.getId(), e.getMessage());
+                synchronized (buffer) {
+                    buffer.clear();
+                    flushing = false;
+                }
+                close(CloseStatus.SESSION_NOT_RELIABLE);
+                return;
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+    }
+    
+    /**
+     * 진행 중인 전송이 제한 시간을 넘겼는지 확인
+     */
+    public boolean isSendStalled(long sendTimeoutMs) {
+        long startedAt = sendStartedAt;
+        return startedAt > 0 && System.currentTimeMillis() - startedAt > sendTimeoutMs;
+    }
+    
+    /**
+     * 클라이언트로부터 메시지(pong 포함)를 받은 시각 갱신
+     */
+    public void touch() {
+        lastActivityAt = System.currentTimeMillis();
+    }
+    
+    public boolean isIdle(long idleTimeoutMs) {
+        return System.currentTimeMillis() - lastActivityAt > idleTimeoutMs;
+    }
+    
+    public int getBufferedCount() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+    
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+    
+    public String getId() {
+        return delegate.getId();
+    }
+    
+    public WebSocketSession getDelegate() {
+        return delegate;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    public Set<String> getTopics() {
+        return topics;
+    }
+    
+    public void close(CloseStatus status) {
+        try {
+            delegate.close(status);
+        } catch (Exception e) {
+            log.debug("Error closing WebSocket session: sessionId={}", delegate.getId());
+        }
+    }
+    
+    private record Outbound(WebSocketMessage<?> message, long enqueuedAt, boolean measured, boolean result) {
+    }
+}
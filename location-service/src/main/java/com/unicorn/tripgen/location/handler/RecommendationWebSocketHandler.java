@@ -1,5 +1,7 @@
 package com.unicorn.tripgen.location.handler;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.unicorn.tripgen.location.service.WebSocketNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,9 +9,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 
 import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * AI 추천 WebSocket 핸들러
+ * - /ws/recommendations/{requestId}: 경로의 요청 하나만 구독 (기존 방식)
+ * - /ws/recommendations: 인증된 연결 하나로 여러 요청/장소를 구독하는 다중 구독 채널
+ *   클라이언트 메시지: {"action": "subscribe" | "unsubscribe", "requestIds": [...], "placeIds": [...]}
+ *   응답: {"type": "subscribed" | "unsubscribed", "requestIds": [...], "placeIds": [...], "rejected": [...]}
+ * 요청 구독은 요청자 본인만 가능하며, 장소 구독으로는 본인이 요청한 결과만 수신
  */
 @Component
 @RequiredArgsConstructor
@@ -17,45 +28,110 @@ import java.net.URI;
 public class RecommendationWebSocketHandler implements WebSocketHandler {
     
     private final WebSocketNotificationService webSocketNotificationService;
+    private final ObjectMapper objectMapper;
     
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Principal principal = session.getPrincipal();
+        String userId = principal != null ? principal.getName() : null;
+        
+        if (isMultiplexPath(session.getUri())) {
+            if (userId == null) {
+                log.warn("Unauthenticated multiplexed WebSocket connection rejected: sessionId={}", session.getId());
+                session.close(CloseStatus.POLICY_VIOLATION);
+                return;
+            }
+            webSocketNotificationService.addSession(session, userId);
+            log.info("Multiplexed WebSocket connection established: userId={}, sessionId={}", userId, session.getId());
+            return;
+        }
+        
         String requestId = extractRequestIdFromPath(session.getUri());
         
         if (requestId != null) {
-            webSocketNotificationService.addSession(requestId, session);
+            webSocketNotificationService.addSession(session, userId);
+            if (!webSocketNotificationService.subscribeRequest(session, requestId)) {
+                // 다른 사용자의 요청이거나 만료된 요청
+                webSocketNotificationService.removeSession(session);
+                session.close(CloseStatus.POLICY_VIOLATION);
+                return;
+            }
             log.info("WebSocket connection established: requestId={}, sessionId={}", requestId, session.getId());
         } else {
-            log.warn("Invalid WebSocket path, no requestId found: {}", session.getUri());
+            log.warn("Invalid WebSocket path, no requestId found: {}", pathOf(session));
             session.close();
         }
     }
     
     @Override
     public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
-        // 클라이언트로부터 메시지 수신 시 처리 (현재는 사용하지 않음)
-        log.debug("WebSocket message received: sessionId={}, message={}", session.getId(), message.getPayload());
+        // 클라이언트 메시지와 ping 응답(pong)은 세션 활동으로 기록 (유휴 세션 정리용)
+        webSocketNotificationService.touch(session);
+        
+        if (!(message instanceof TextMessage textMessage) || !isMultiplexPath(session.getUri())) {
+            log.debug("WebSocket message received: sessionId={}, message={}", session.getId(), message.getPayload());
+            return;
+        }
+        
+        JsonNode command;
+        try {
+            command = objectMapper.readTree(textMessage.getPayload());
+        } catch (Exception e) {
+            webSocketNotificationService.reply(session, Map.of("type", "error", "message", "잘못된 메시지 형식입니다"));
+            return;
+        }
+        
+        String action = command.path("action").asText();
+        List<String> requestIds = readIds(command.path("requestIds"));
+        List<String> placeIds = readIds(command.path("placeIds"));
+        
+        switch (action) {
+            case "subscribe" -> {
+                List<String> rejected = new ArrayList<>();
+                for (String requestId : requestIds) {
+                    if (!webSocketNotificationService.subscribeRequest(session, requestId)) {
+                        rejected.add(requestId);
+                    }
+                }
+                for (String placeId : placeIds) {
+                    if (!webSocketNotificationService.subscribePlace(session, placeId)) {
+                        rejected.add(placeId);
+                    }
+                }
+                webSocketNotificationService.reply(session, Map.of(
+                        "type", "subscribed",
+                        "requestIds", requestIds,
+                        "placeIds", placeIds,
+                        "rejected", rejected
+                ));
+            }
+            case "unsubscribe" -> {
+                requestIds.forEach(requestId -> webSocketNotificationService.unsubscribeRequest(session, requestId));
+                placeIds.forEach(placeId -> webSocketNotificationService.unsubscribePlace(session, placeId));
+                webSocketNotificationService.reply(session, Map.of(
+                        "type", "unsubscribed",
+                        "requestIds", requestIds,
+                        "placeIds", placeIds
+                ));
+            }
+            default -> webSocketNotificationService.reply(session, Map.of(
+                    "type", "error",
+                    "message", "지원하지 않는 action입니다: " + action
+            ));
+        }
     }
     
     @Override
     public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
-        String requestId = extractRequestIdFromPath(session.getUri());
-        log.error("WebSocket transport error: requestId={}, sessionId={}", requestId, session.getId(), exception);
-        
-        if (requestId != null) {
-            webSocketNotificationService.removeSession(requestId);
-        }
+        log.error("WebSocket transport error: sessionId={}, path={}", session.getId(), pathOf(session), exception);
+        webSocketNotificationService.removeSession(session);
     }
     
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
-        String requestId = extractRequestIdFromPath(session.getUri());
-        
-        if (requestId != null) {
-            webSocketNotificationService.removeSession(requestId);
-            log.info("WebSocket connection closed: requestId={}, sessionId={}, status={}", 
-                    requestId, session.getId(), closeStatus);
-        }
+        webSocketNotificationService.removeSession(session);
+        log.info("WebSocket connection closed: sessionId={}, path={}, status={}",
+                session.getId(), pathOf(session), closeStatus);
     }
     
     @Override
@@ -63,6 +139,37 @@ public class RecommendationWebSocketHandler implements WebSocketHandler {
         return false;
     }
     
+    private List<String> readIds(JsonNode node) {
+        List<String> ids = new ArrayList<>();
+        if (node.isArray()) {
+            node.forEach(id -> {
+                if (id.isTextual() && !id.asText().isBlank()) {
+                    ids.add(id.asText());
+                }
+            });
+        }
+        return ids;
+    }
+    
+    /**
+     * 로그용 경로 (쿼리 문자열의 access_token이 로그에 남지 않도록 경로만 사용)
+     */
+    private String pathOf(WebSocketSession session) {
+        URI uri = session.getUri();
+        return uri != null ? uri.getPath() : null;
+    }
+    
+    /**
+     * 다중 구독 채널 경로(/ws/recommendations) 여부
+     */
+    private boolean isMultiplexPath(URI uri) {
+        if (uri == null || uri.getPath() == null) {
+            return false;
+        }
+        String path = uri.getPath();
+        return path.equals("/ws/recommendations") || path.equals("/ws/recommendations/");
+    }
+    
     /**
      * WebSocket URI에서 requestId 추출
      */
@@ -75,11 +182,11 @@ public class RecommendationWebSocketHandler implements WebSocketHandler {
         String path = uri.getPath();
         String[] pathSegments = path.split("/");
         
-        if (pathSegments.length >= 4 && "ws".equals(pathSegments[1]) && 
+        if (pathSegments.length >= 4 && "ws".equals(pathSegments[1]) &&
             "recommendations".equals(pathSegments[2])) {
             return pathSegments[3];
         }
         
         return null;
     }
-}
\ No newline at end of file
+}
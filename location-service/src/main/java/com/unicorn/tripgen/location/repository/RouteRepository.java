@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -248,4 +249,23 @@ public interface RouteRepository extends JpaRepository<Route, Long> {
         @Param("destinationId") String destinationId,
         @Param("transportType") TransportType transportType
     );
+    
+    /**
+     * 여러 출발지/목적지 조합의 최근 경로 일괄 조회 (경로 행렬용)
+     * 
+     * @param originIds 출발지 ID 목록
+     * @param destinationIds 목적지 ID 목록
+     * @param transportType 교통 수단
+     * @param since 조회 기준 시각 (이후 생성된 경로만)
+     * @return 경로 목록 (최신순)
+     */
+    @Query("SELECT r FROM Route r WHERE r.originId IN :originIds AND " +
+           "r.destinationId IN :destinationIds AND r.transportType = :transportType " +
+           "AND r.createdAt >= :since ORDER BY r.createdAt DESC")
+    List<Route> findRecentByOriginsAndDestinations(
+        @Param("originIds") Collection<String> originIds,
+        @Param("destinationIds") Collection<String> destinationIds,
+        @Param("transportType") TransportType transportType,
+        @Param("since") LocalDateTime since
+    );
 }
\ No newline at end of file
@@ -68,6 +68,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
+        // 브라우저 WebSocket은 핸드셰이크에 헤더를 지정할 수 없으므로 WebSocket 경로에 한해 쿼리 파라미터 허용
+        if (request.getRequestURI().startsWith("/ws/")) {
+            String accessToken = request.getParameter("access_token");
+            if (accessToken != null && !accessToken.isBlank()) {
+                return accessToken;
+            }
+        }
         return null;
     }
 }
\ No newline at end of file
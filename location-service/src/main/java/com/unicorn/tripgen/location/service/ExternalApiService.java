@@ -75,6 +75,19 @@ public interface ExternalApiService {
      */
     List<NearbyPlacesResponse.NearbyPlace> searchNearbyWithGoogle(NearbyPlacesRequest request);
     
+    /**
+     * Google Places로 지정한 중심 좌표/반경 기준 주변 장소 검색
+     * 
+     * @param request 주변 검색 요청 (카테고리, 언어 등)
+     * @param latitude 검색 중심 위도
+     * @param longitude 검색 중심 경도
+     * @param radiusMeters 검색 반경 (미터)
+     * @return 검색 결과 목록
+     */
+    List<NearbyPlacesResponse.NearbyPlace> searchNearbyWithGoogle(
+        NearbyPlacesRequest request, double latitude, double longitude, int radiusMeters
+    );
+    
     /**
      * Kakao Map으로 주변 장소 검색
      * 
@@ -38,9 +38,10 @@ public interface LocationService {
      * 
      * @param placeId 장소 ID
      * @param tripId 여행 ID (사용자 프로필 조회용, 선택적)
+     * @param userId 요청 사용자 ID (추천 결과 WebSocket 구독 권한 확인용)
      * @return AI 추천 정보 또는 생성 요청 응답
      */
-    Object getLocationRecommendations(String placeId, String tripId);
+    Object getLocationRecommendations(String placeId, String tripId, String userId);
     
     
     /**
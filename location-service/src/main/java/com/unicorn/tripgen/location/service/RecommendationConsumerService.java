@@ -62,7 +62,7 @@ public class RecommendationConsumerService {
                     cacheService.cacheObject(statusCacheKey, "failed", 1800);
                     
                     // WebSocket으로 실패 알림
-                    webSocketNotificationService.notifyRecommendationFailed(requestId);
+                    webSocketNotificationService.notifyRecommendationFailed(requestId, placeId);
                     
                     log.warn("AI recommendation failed: requestId={}, placeId={}", requestId, placeId);
                 }
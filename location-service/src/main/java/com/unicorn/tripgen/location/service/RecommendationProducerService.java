@@ -38,8 +38,15 @@ public class RecommendationProducerService {
      */
     public String sendRecommendationRequest(String placeId, String tripId, 
             RecommendationRequest.SearchContext searchContext) {
-        
-        String requestId = UUID.randomUUID().toString();
+        return sendRecommendationRequest(UUID.randomUUID().toString(), placeId, tripId, searchContext);
+    }
+    
+    /**
+     * 지정한 요청 ID로 AI 추천 생성 요청 메시지 발행
+     * 결과가 발행 직후 도착해도 전달되도록 요청자 기록 등은 발행 전에 마쳐야 함
+     */
+    public String sendRecommendationRequest(String requestId, String placeId, String tripId,
+            RecommendationRequest.SearchContext searchContext) {
         
         // 1. 캐시에서 장소 정보 조회
         RecommendationRequest.PlaceInfo placeInfo = getPlaceInfo(placeId);
@@ -1,8 +1,13 @@
 package com.unicorn.tripgen.location.service;
 
+import com.unicorn.tripgen.location.dto.RouteMatrixRequest;
+import com.unicorn.tripgen.location.dto.RouteMatrixResponse;
 import com.unicorn.tripgen.location.dto.RouteRequest;
 import com.unicorn.tripgen.location.dto.RouteResponse;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface RouteService {
     
     /**
@@ -12,4 +17,25 @@ public interface RouteService {
      * @return 경로 정보 응답
      */
     RouteResponse getRoute(RouteRequest request);
+    
+    /**
+     * 두 지점 간의 실제 경로 조회 (직선 거리 폴백 없음)
+     * 경로 캐시를 먼저 확인하고, 없으면 제공자별 동시성 제한 하에 외부 API를 호출하며 트랜잭션을 열지 않음
+     * 
+     * @param request 경로 조회 요청 정보
+     * @return 경로 정보 (지원하지 않는 모드이거나 조회 실패 시 empty)
+     */
+    Optional<RouteResponse> findRoute(RouteRequest request);
+    
+    /**
+     * 출발지 N개 × 목적지 M개의 경로 행렬 조회
+     * 중복 쌍 제거 후 캐시/DB를 우선 사용하고, 나머지는 병렬 호출하며 실패한 셀은 직선 거리 추정값으로 대체
+     * 
+     * @param origins 출발지 좌표 목록
+     * @param destinations 목적지 좌표 목록
+     * @param mode 이동 수단 (driving, walking, transit)
+     * @return 소요 시간/거리 밀집 행렬
+     */
+    RouteMatrixResponse getRouteMatrix(List<RouteMatrixRequest.Coordinate> origins,
+                                       List<RouteMatrixRequest.Coordinate> destinations, String mode);
 }
\ No newline at end of file
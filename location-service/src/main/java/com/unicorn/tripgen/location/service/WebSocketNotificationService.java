@@ -2,43 +2,264 @@ package com.unicorn.tripgen.location.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.unicorn.tripgen.location.dto.RecommendationResponse;
+import com.unicorn.tripgen.location.handler.BufferedWebSocketSession;
+import com.unicorn.tripgen.location.handler.BufferedWebSocketSession.OverflowPolicy;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebSocket 실시간 알림 서비스
+ * 세션은 연결된 Pod에만 존재하므로, 알림은 Redis에 전달 대기 메시지로 저장한 뒤 Pub/Sub으로 모든 Pod에 알리고
+ * 해당 requestId의 세션을 가진 Pod가 전달 대기 메시지를 원자적으로 꺼내(GETDEL) 전송
+ * 결과가 먼저 도착한 경우 이후 연결된 세션에 연결 시점에 전달 (전달 대기 메시지는 재연결 대비 TTL 동안 유지)
+ * 세션마다 크기 제한이 있는 송신 버퍼를 두어 느린 클라이언트가 호출 스레드를 막지 않도록 하고,
+ * 주기적으로 ping을 보내 응답이 없거나 전송이 멈춘 세션을 정리
+ * 하나의 세션이 여러 requestId/placeId 토픽을 구독할 수 있어 장소 목록 화면도 연결 하나로 모든 결과를 수신
+ * 요청 생성 시 요청자를 기록하여, 요청 구독은 요청자 본인만 가능하고 장소 구독자는 본인이 요청한 결과만 수신
+ *
+ * 지표: location.websocket.notifications (result: delivered|late_connect|no_session|dropped),
+ *       location.websocket.buffer.depth (세션 버퍼 적재 깊이), location.websocket.send.latency (버퍼 적재부터 전송 완료까지),
+ *       location.websocket.sessions, location.websocket.users, location.websocket.subscriptions,
+ *       location.websocket.evictions (reason: idle|stalled|closed)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class WebSocketNotificationService {
+public class WebSocketNotificationService implements MessageListener {
+    
+    private static final String PENDING_KEY_PREFIX = "location:ws:pending:";
+    private static final String SESSION_KEY_PREFIX = "location:ws:session:";
+    private static final String OWNER_KEY_PREFIX = "location:ws:owner:";
+    private static final String REQUEST_TOPIC = "request:";
+    private static final String PLACE_TOPIC = "place:";
     
     private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${location.service.websocket.notification-channel:location:ws:notification}")
+    private String notificationChannel;
+    
+    @Value("${location.service.websocket.replay-ttl:1800}")
+    private int replayTtlSeconds;
+    
+    @Value("${location.service.websocket.session-ttl:3600}")
+    private int sessionTtlSeconds;
+    
+    @Value("${location.service.websocket.send-buffer-size:32}")
+    private int sendBufferSize;
+    
+    @Value("${location.service.websocket.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy overflowPolicy;
+    
+    @Value("${location.service.websocket.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+    
+    @Value("${location.service.websocket.heartbeat-interval-ms:25000}")
+    private long heartbeatIntervalMs;
+    
+    @Value("${location.service.websocket.idle-timeout-ms:75000}")
+    private long idleTimeoutMs;
+    
+    @Value("${location.service.websocket.max-subscriptions-per-session:200}")
+    private int maxSubscriptionsPerSession;
+    
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    // 이 Pod에 연결된 WebSocket 세션 (세션 ID별)
+    private final Map<String, BufferedWebSocketSession> activeSessions = new ConcurrentHashMap<>();
+    
+    // 토픽(request:{requestId}, place:{placeId})별 구독 세션
+    private final Map<String, Set<BufferedWebSocketSession>> subscribers = new ConcurrentHashMap<>();
+    
+    private ExecutorService sendExecutor;
+    private ScheduledExecutorService heartbeatScheduler;
+    private DistributionSummary bufferDepthSummary;
+    private Timer sendLatencyTimer;
+    
+    @PostConstruct
+    public void init() {
+        // 전송은 네트워크 대기 위주이므로 세션 송신 작업마다 가상 스레드 사용
+        sendExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-send-", 0).factory());
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        
+        bufferDepthSummary = DistributionSummary.builder("location.websocket.buffer.depth")
+            .description("메시지 적재 시점의 세션 송신 버퍼 깊이")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        sendLatencyTimer = Timer.builder("location.websocket.send.latency")
+            .description("송신 버퍼 적재부터 전송 완료까지 걸린 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder("location.websocket.sessions", activeSessions, Map::size)
+            .description("이 Pod에 연결된 WebSocket 세션 수")
+            .register(meterRegistry);
+        Gauge.builder("location.websocket.users", activeSessions, sessions -> sessions.values().stream()
+                .map(BufferedWebSocketSession::getUserId).filter(userId -> userId != null).distinct().count())
+            .description("이 Pod에 연결된 사용자 수 (세션 수와 비교하여 사용자당 연결 수 확인)")
+            .register(meterRegistry);
+        Gauge.builder("location.websocket.subscriptions", subscribers, topics -> topics.values().stream()
+                .mapToInt(Set::size).sum())
+            .description("이 Pod의 전체 토픽 구독 수")
+            .register(meterRegistry);
+        
+        listenerContainer.addMessageListener(this, new ChannelTopic(notificationChannel));
+        log.info("WebSocket notification initialized: instanceId={}, channel={}, bufferSize={}, overflowPolicy={}",
+                instanceId, notificationChannel, sendBufferSize, overflowPolicy);
+    }
     
-    // requestId별 WebSocket 세션 관리
-    private final Map<String, WebSocketSession> activeSessions = new ConcurrentHashMap<>();
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdown();
+        sendExecutor.shutdown();
+    }
     
     /**
      * WebSocket 세션 등록
      */
-    public void addSession(String requestId, WebSocketSession session) {
-        activeSessions.put(requestId, session);
-        log.info("WebSocket session added: requestId={}, sessionId={}", requestId, session.getId());
+    public void addSession(WebSocketSession session, String userId) {
+        activeSessions.put(session.getId(), new BufferedWebSocketSession(
+                session, userId, sendExecutor, sendBufferSize, overflowPolicy, bufferDepthSummary, sendLatencyTimer));
+        log.info("WebSocket session added: sessionId={}, userId={}", session.getId(), userId);
+    }
+    
+    /**
+     * WebSocket 세션 제거 (모든 구독 해제)
+     */
+    public void removeSession(WebSocketSession session) {
+        BufferedWebSocketSession removed = activeSessions.remove(session.getId());
+        if (removed == null) {
+            return;
+        }
+        for (String topic : Set.copyOf(removed.getTopics())) {
+            unsubscribe(removed, topic);
+        }
+        log.info("WebSocket session removed: sessionId={}, userId={}", session.getId(), removed.getUserId());
+    }
+    
+    /**
+     * 클라이언트 활동(메시지, pong) 기록 - 유휴 세션 판정에 사용
+     */
+    public void touch(WebSocketSession session) {
+        BufferedWebSocketSession buffered = activeSessions.get(session.getId());
+        if (buffered != null) {
+            buffered.touch();
+        }
     }
     
     /**
-     * WebSocket 세션 제거
+     * 추천 요청자 기록 (요청 구독 권한 확인 및 장소 구독자 전달 대상 제한에 사용)
      */
-    public void removeSession(String requestId) {
-        WebSocketSession session = activeSessions.remove(requestId);
-        if (session != null) {
-            log.info("WebSocket session removed: requestId={}, sessionId={}", requestId, session.getId());
+    public void registerRequestOwner(String requestId, String userId) {
+        if (requestId == null || userId == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(OWNER_KEY_PREFIX + requestId, userId, Duration.ofSeconds(replayTtlSeconds));
+        } catch (Exception e) {
+            log.warn("Error registering recommendation request owner: requestId={}", requestId, e);
+        }
+    }
+    
+    /**
+     * 추천 요청 결과 구독
+     * 요청자 본인인지 확인한 뒤 세션 소유 Pod를 기록하고, 구독 전에 도착한 결과가 있으면 즉시 전달
+     *
+     * @return 요청자가 아니거나 구독 한도 초과 시 false
+     */
+    public boolean subscribeRequest(WebSocketSession session, String requestId) {
+        BufferedWebSocketSession buffered = activeSessions.get(session.getId());
+        if (buffered == null || !isRequestOwner(requestId, buffered.getUserId())) {
+            log.warn("WebSocket request subscription denied: sessionId={}, requestId={}", session.getId(), requestId);
+            return false;
+        }
+        if (!subscribe(session, REQUEST_TOPIC + requestId)) {
+            return false;
+        }
+        try {
+            redisTemplate.opsForValue().set(SESSION_KEY_PREFIX + requestId, instanceId, Duration.ofSeconds(sessionTtlSeconds));
+        } catch (Exception e) {
+            log.warn("Error registering WebSocket session owner: requestId={}", requestId, e);
+        }
+        
+        deliverPending(requestId, "late_connect");
+        return true;
+    }
+    
+    /**
+     * 장소 추천 결과 구독 (구독 이후 완료되는 해당 장소의 추천 결과 중 본인이 요청한 결과만 수신)
+     *
+     * @return 구독 한도 초과 시 false
+     */
+    public boolean subscribePlace(WebSocketSession session, String placeId) {
+        return subscribe(session, PLACE_TOPIC + placeId);
+    }
+    
+    public void unsubscribeRequest(WebSocketSession session, String requestId) {
+        BufferedWebSocketSession buffered = activeSessions.get(session.getId());
+        if (buffered != null) {
+            unsubscribe(buffered, REQUEST_TOPIC + requestId);
+        }
+    }
+    
+    public void unsubscribePlace(WebSocketSession session, String placeId) {
+        BufferedWebSocketSession buffered = activeSessions.get(session.getId());
+        if (buffered != null) {
+            unsubscribe(buffered, PLACE_TOPIC + placeId);
+        }
+    }
+    
+    /**
+     * 세션에 직접 응답 전송 (구독 확인, 오류 등)
+     */
+    public void reply(WebSocketSession session, Map<String, Object> payload) {
+        BufferedWebSocketSession buffered = activeSessions.get(session.getId());
+        if (buffered == null) {
+            return;
+        }
+        try {
+            buffered.send(new TextMessage(objectMapper.writeValueAsString(payload)));
+        } catch (Exception e) {
+            log.warn("Error sending WebSocket reply: sessionId={}", session.getId(), e);
         }
     }
     
@@ -46,52 +267,279 @@ public class WebSocketNotificationService {
      * AI 추천 완료 알림
      */
     public void notifyRecommendationComplete(String requestId, RecommendationResponse response) {
-        WebSocketSession session = activeSessions.get(requestId);
+        publish(requestId, response.getPlaceId(), Map.of(
+                "type", "recommendation_complete",
+                "requestId", requestId,
+                "placeId", response.getPlaceId(),
+                "recommendations", response.getRecommendations()
+        ));
+    }
+    
+    /**
+     * AI 추천 실패 알림
+     */
+    public void notifyRecommendationFailed(String requestId) {
+        notifyRecommendationFailed(requestId, null);
+    }
+    
+    /**
+     * AI 추천 실패 알림 (장소 구독자 포함)
+     */
+    public void notifyRecommendationFailed(String requestId, String placeId) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("type", "recommendation_failed");
+        payload.put("requestId", requestId);
+        payload.put("message", "AI 추천 생성에 실패했습니다");
+        if (placeId != null) {
+            payload.put("placeId", placeId);
+        }
+        publish(requestId, placeId, payload);
+    }
+    
+    /**
+     * 알림 채널 메시지 수신 (메시지: {"requestId", "placeId", "ownerId", "message"})
+     * 요청 구독자에게는 전달 대기 메시지를 원자적으로 꺼내 전송하고, 장소 구독자 중 요청자 본인 세션에는 메시지 본문을 그대로 전송
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Map<?, ?> envelope;
+        try {
+            envelope = objectMapper.readValue(message.getBody(), Map.class);
+        } catch (Exception e) {
+            log.warn("Invalid WebSocket notification envelope: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+        String requestId = (String) envelope.get("requestId");
+        String placeId = (String) envelope.get("placeId");
+        String ownerId = (String) envelope.get("ownerId");
         
-        if (session != null && session.isOpen()) {
+        Set<BufferedWebSocketSession> delivered = deliverPending(requestId, "delivered");
+        if (placeId != null && ownerId != null) {
+            sendToTopic(PLACE_TOPIC + placeId, (String) envelope.get("message"), "delivered", delivered, ownerId);
+        }
+    }
+    
+    private boolean isRequestOwner(String requestId, String userId) {
+        if (userId == null) {
+            return false;
+        }
+        try {
+            return userId.equals(redisTemplate.opsForValue().get(OWNER_KEY_PREFIX + requestId));
+        } catch (Exception e) {
+            log.warn("Error reading recommendation request owner: requestId={}", requestId, e);
+            return false;
+        }
+    }
+    
+    private boolean subscribe(WebSocketSession session, String topic) {
+        BufferedWebSocketSession buffered = activeSessions.get(session.getId());
+        if (buffered == null) {
+            return false;
+        }
+        if (!buffered.getTopics().contains(topic) && buffered.getTopics().size() >= maxSubscriptionsPerSession) {
+            log.warn("WebSocket subscription limit exceeded: sessionId={}, limit={}", session.getId(), maxSubscriptionsPerSession);
+            return false;
+        }
+        buffered.getTopics().add(topic);
+        subscribers.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(buffered);
+        log.debug("WebSocket subscribed: sessionId={}, topic={}", session.getId(), topic);
+        return true;
+    }
+    
+    private void unsubscribe(BufferedWebSocketSession session, String topic) {
+        session.getTopics().remove(topic);
+        Set<BufferedWebSocketSession> remaining = subscribers.computeIfPresent(topic, (key, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        
+        // 이 Pod에 해당 요청 구독자가 더 없으면 소유 기록 제거 (다른 Pod가 소유한 경우 유지)
+        if (remaining == null && topic.startsWith(REQUEST_TOPIC)) {
+            String requestId = topic.substring(REQUEST_TOPIC.length());
             try {
-                String message = objectMapper.writeValueAsString(Map.of(
-                        "type", "recommendation_complete",
-                        "requestId", requestId,
-                        "placeId", response.getPlaceId(),
-                        "recommendations", response.getRecommendations()
-                ));
-                
-                session.sendMessage(new TextMessage(message));
-                log.info("Recommendation complete notification sent: requestId={}", requestId);
-                
+                if (instanceId.equals(redisTemplate.opsForValue().get(SESSION_KEY_PREFIX + requestId))) {
+                    redisTemplate.delete(SESSION_KEY_PREFIX + requestId);
+                }
             } catch (Exception e) {
-                log.error("Error sending WebSocket notification: requestId={}", requestId, e);
-                removeSession(requestId);
+                log.warn("Error unregistering WebSocket session owner: requestId={}", requestId, e);
             }
-        } else {
-            log.debug("No active WebSocket session for requestId: {}", requestId);
         }
     }
     
     /**
-     * AI 추천 실패 알림
+     * 전달 대기 메시지를 저장하고 모든 Pod에 알림
+     * 장소 구독자 전달은 요청자를 알 수 있을 때만 요청자 본인 세션으로 제한하여 수행
+     * Redis를 사용할 수 없으면 이 Pod의 요청 구독자에게만 직접 전달
      */
-    public void notifyRecommendationFailed(String requestId) {
-        WebSocketSession session = activeSessions.get(requestId);
+    private void publish(String requestId, String placeId, Map<String, Object> payload) {
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            log.error("Error serializing WebSocket notification: requestId={}", requestId, e);
+            return;
+        }
+        
+        try {
+            String ownerId = placeId != null ? redisTemplate.opsForValue().get(OWNER_KEY_PREFIX + requestId) : null;
+            Map<String, Object> envelopeFields = new HashMap<>();
+            envelopeFields.put("requestId", requestId);
+            envelopeFields.put("placeId", ownerId != null ? placeId : null);
+            envelopeFields.put("ownerId", ownerId);
+            envelopeFields.put("message", message);
+            String envelope = objectMapper.writeValueAsString(envelopeFields);
+            
+            redisTemplate.opsForValue().set(PENDING_KEY_PREFIX + requestId, message, Duration.ofSeconds(replayTtlSeconds));
+            if (ownerId == null && !Boolean.TRUE.equals(redisTemplate.hasKey(SESSION_KEY_PREFIX + requestId))) {
+                // 아직 연결된 세션이 없음 - 구독 시 전달
+                record("no_session");
+                log.debug("No WebSocket session yet, notification kept for replay: requestId={}", requestId);
+                return;
+            }
+            redisTemplate.convertAndSend(notificationChannel, envelope);
+        } catch (Exception e) {
+            // 요청자를 확인할 수 없으므로 장소 구독자에게는 전달하지 않음
+            log.warn("Error publishing WebSocket notification, delivering locally: requestId={}", requestId, e);
+            sendToTopic(REQUEST_TOPIC + requestId, message, "delivered", Set.of(), null);
+        }
+    }
+    
+    /**
+     * 전달 대기 메시지를 원자적으로 꺼내 이 Pod의 요청 구독자에게 전송
+     * 알림 수신과 구독이 동시에 일어나도 한 번만 전송됨
+     *
+     * @return 메시지를 받은 세션
+     */
+    private Set<BufferedWebSocketSession> deliverPending(String requestId, String result) {
+        if (requestId == null || !subscribers.containsKey(REQUEST_TOPIC + requestId)) {
+            return Set.of();
+        }
+        String message;
+        try {
+            message = redisTemplate.opsForValue().getAndDelete(PENDING_KEY_PREFIX + requestId);
+        } catch (Exception e) {
+            log.warn("Error reading pending WebSocket notification: requestId={}", requestId, e);
+            return Set.of();
+        }
+        if (message == null) {
+            return Set.of();
+        }
+        
+        Set<BufferedWebSocketSession> delivered = sendToTopic(REQUEST_TOPIC + requestId, message, result, Set.of(), null);
+        if (delivered.isEmpty()) {
+            // 전송하지 못한 메시지는 재연결 시 전달하도록 다시 저장
+            restorePending(requestId, message);
+        }
+        return delivered;
+    }
+    
+    /**
+     * 토픽 구독 세션의 송신 버퍼에 추가 (전송은 송신 실행기에서 수행되므로 호출 스레드는 블로킹되지 않음)
+     *
+     * @param exclude 이미 같은 메시지를 받은 세션
+     * @param userId 지정하면 해당 사용자의 세션에만 전송
+     * @return 메시지를 버퍼에 추가한 세션
+     */
+    private Set<BufferedWebSocketSession> sendToTopic(String topic, String message, String result,
+                                                      Collection<BufferedWebSocketSession> exclude, String userId) {
+        Set<BufferedWebSocketSession> sessions = subscribers.get(topic);
+        if (sessions == null || message == null) {
+            return Set.of();
+        }
         
-        if (session != null && session.isOpen()) {
+        Set<BufferedWebSocketSession> delivered = new HashSet<>();
+        TextMessage textMessage = new TextMessage(message);
+        for (BufferedWebSocketSession session : sessions) {
+            if (exclude.contains(session) || (userId != null && !userId.equals(session.getUserId()))) {
+                continue;
+            }
+            // 추천 결과는 버퍼 초과 시에도 버리지 않음 (거부되면 재연결 시 전달 대기 메시지로 전달)
+            if (session.send(textMessage, true)) {
+                delivered.add(session);
+                record(result);
+            } else {
+                record("dropped");
+            }
+        }
+        log.info("WebSocket notification queued: topic={}, result={}, sessions={}", topic, result, delivered.size());
+        return delivered;
+    }
+    
+    /**
+     * 전송하지 못한 메시지를 다시 전달 대기로 저장 (재연결 시 전달)
+     */
+    private void restorePending(String requestId, String message) {
+        try {
+            redisTemplate.opsForValue().set(PENDING_KEY_PREFIX + requestId, message, Duration.ofSeconds(replayTtlSeconds));
+        } catch (Exception e) {
+            log.debug("Error restoring pending WebSocket notification: requestId={}", requestId);
+        }
+    }
+    
+    /**
+     * 세션 heartbeat 및 정리
+     * 닫힌 세션, 전송이 제한 시간을 넘긴 세션, 클라이언트 응답이 없는 세션을 제거하고 나머지에 ping 전송
+     * 남은 세션의 요청 소유 Pod 기록은 모아서 하나의 파이프라인으로 갱신
+     */
+    private void heartbeat() {
+        Set<String> ownerKeys = new HashSet<>();
+        activeSessions.values().forEach(session -> {
             try {
-                String message = objectMapper.writeValueAsString(Map.of(
-                        "type", "recommendation_failed",
-                        "requestId", requestId,
-                        "message", "AI 추천 생성에 실패했습니다"
-                ));
-                
-                session.sendMessage(new TextMessage(message));
-                log.info("Recommendation failed notification sent: requestId={}", requestId);
-                
+                if (!session.isOpen()) {
+                    evict(session, "closed", null);
+                } else if (session.isSendStalled(sendTimeoutMs)) {
+                    evict(session, "stalled", CloseStatus.SESSION_NOT_RELIABLE);
+                } else if (session.isIdle(idleTimeoutMs)) {
+                    evict(session, "idle", CloseStatus.GOING_AWAY);
+                } else {
+                    session.ping();
+                    for (String topic : session.getTopics()) {
+                        if (topic.startsWith(REQUEST_TOPIC)) {
+                            ownerKeys.add(SESSION_KEY_PREFIX + topic.substring(REQUEST_TOPIC.length()));
+                        }
+                    }
+                }
             } catch (Exception e) {
-                log.error("Error sending WebSocket failure notification: requestId={}", requestId, e);
-                removeSession(requestId);
+                log.warn("Error during WebSocket heartbeat: sessionId={}", session.getId(), e);
             }
-        } else {
-            log.debug("No active WebSocket session for failed requestId: {}", requestId);
+        });
+        refreshSessionOwners(ownerKeys);
+    }
+    
+    /**
+     * 오래 유지되는 세션의 요청 소유 Pod 기록 TTL 갱신 (파이프라인 한 번)
+     */
+    private void refreshSessionOwners(Set<String> ownerKeys) {
+        if (ownerKeys.isEmpty()) {
+            return;
+        }
+        Duration ttl = Duration.ofSeconds(sessionTtlSeconds);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ownerKeys.forEach(key -> ops.expire(key, ttl));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Error refreshing WebSocket session owners: keys={}", ownerKeys.size(), e);
         }
     }
-}
\ No newline at end of file
+    
+    private void evict(BufferedWebSocketSession session, String reason, CloseStatus closeStatus) {
+        meterRegistry.counter("location.websocket.evictions", "reason", reason).increment();
+        log.info("Evicting WebSocket session: sessionId={}, userId={}, reason={}", session.getId(), session.getUserId(), reason);
+        removeSession(session.getDelegate());
+        if (closeStatus != null) {
+            // 전송이 멈춘 세션의 종료가 heartbeat 스레드를 막지 않도록 송신 실행기에서 수행
+            sendExecutor.execute(() -> session.close(closeStatus));
+        }
+    }
+    
+    private void record(String result) {
+        meterRegistry.counter("location.websocket.notifications", "result", result).increment();
+    }
+}
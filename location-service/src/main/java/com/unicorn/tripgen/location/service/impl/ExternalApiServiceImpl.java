@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.unicorn.tripgen.common.exception.BusinessException;
 import com.unicorn.tripgen.common.exception.ErrorCodes;
 import com.unicorn.tripgen.common.exception.NotFoundException;
+import com.unicorn.tripgen.location.cache.SingleFlight;
 import com.unicorn.tripgen.location.client.GooglePlacesClient;
 import com.unicorn.tripgen.location.client.KakaoMapClient;
 import com.unicorn.tripgen.location.dto.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,6 +35,8 @@ public class ExternalApiServiceImpl implements ExternalApiService {
     private final GooglePlacesClient googlePlacesClient;
     private final KakaoMapClient kakaoMapClient;
     private final ObjectMapper objectMapper;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meterRegistry;
     
     @Value("${external.api.google.places.api-key}")
     private String googleApiKey;
@@ -139,25 +143,34 @@ public class ExternalApiServiceImpl implements ExternalApiService {
     
     @Override
     public List<NearbyPlacesResponse.NearbyPlace> searchNearbyWithGoogle(NearbyPlacesRequest request) {
+        return searchNearbyWithGoogle(
+            request,
+            request.getOrigin().getLatitude().doubleValue(),
+            request.getOrigin().getLongitude().doubleValue(),
+            calculateRadiusFromTimeRange(request.getTimeRange(), request.getTransportMode())
+        );
+    }
+    
+    @Override
+    public List<NearbyPlacesResponse.NearbyPlace> searchNearbyWithGoogle(
+            NearbyPlacesRequest request, double latitude, double longitude, int radiusMeters) {
         log.debug("Searching nearby places with Google Places API");
         
         try {
-            String location = request.getOrigin().getLatitude() + "," + request.getOrigin().getLongitude();
-            Integer radius = calculateRadiusFromTimeRange(request.getTimeRange(), request.getTransportMode());
+            String location = latitude + "," + longitude;
+            Integer radius = radiusMeters;
             String googleType = mapCategoryToGoogleType(request.getCategory());
             
             // API 호출 로깅 강화
             log.info("Google API 호출: location={}, radius={}m, type={}, category={}", 
                 location, radius, googleType, request.getCategory());
             
-            Map<String, Object> response = googlePlacesClient.searchNearbyPlaces(
+            Map<String, Object> response = searchGoogleNearbyCoalesced(
                 location,
                 radius,
                 googleType,
                 null, // keyword
-                request.getLanguage(),
-                null, // fields parameter는 Nearby Search에서 지원되지 않음
-                googleApiKey
+                request.getLanguage()
             );
             
             // 응답 로깅
@@ -246,9 +259,9 @@ public class ExternalApiServiceImpl implements ExternalApiService {
         try {
             String fields = buildGooglePlaceFields(includeReviews);
             
-            Map<String, Object> response = googlePlacesClient.getPlaceDetails(
-                placeId, fields, language, googleApiKey
-            );
+            String flightKey = String.join("|", "details", placeId, fields, normalizeLanguage(language));
+            Map<String, Object> response = singleFlight.execute("place_details", flightKey, Map.class,
+                () -> googlePlacesClient.getPlaceDetails(placeId, fields, language, googleApiKey));
             
             return parseGooglePlaceDetail(response);
             
@@ -457,14 +470,12 @@ public class ExternalApiServiceImpl implements ExternalApiService {
             String fallbackKeyword = getCategoryKeyword(request.getCategory());
             log.info("폴백 검색 실행: keyword={}", fallbackKeyword);
             
-            Map<String, Object> response = googlePlacesClient.searchNearbyPlaces(
+            Map<String, Object> response = searchGoogleNearbyCoalesced(
                 location,
                 radius,
                 null, // type 없이 검색
                 fallbackKeyword, // 키워드로 검색
-                request.getLanguage(),
-                null, // fields parameter는 지원되지 않음
-                googleApiKey
+                request.getLanguage()
             );
             
             return parseGoogleNearbyResponse(response);
@@ -581,12 +592,34 @@ public class ExternalApiServiceImpl implements ExternalApiService {
         return status;
     }
     
+    /**
+     * 동일 파라미터의 동시 주변 검색을 하나의 Google 호출로 병합
+     * (fields 파라미터는 Nearby Search에서 지원되지 않으므로 항상 null)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> searchGoogleNearbyCoalesced(String location, Integer radius, String type,
+                                                            String keyword, String language) {
+        String flightKey = String.join("|", "nearby", location, String.valueOf(radius),
+            String.valueOf(type), String.valueOf(keyword), normalizeLanguage(language));
+        return singleFlight.execute("nearby_search", flightKey, Map.class,
+            () -> googlePlacesClient.searchNearbyPlaces(location, radius, type, keyword, language, null, googleApiKey));
+    }
+    
+    private String normalizeLanguage(String language) {
+        return language != null ? language.toLowerCase() : "ko";
+    }
+    
     @Override
     public Object getApiUsageStatistics() {
         Map<String, Object> stats = new HashMap<>();
-        stats.put("google_places_calls", 0);
+        long googleCalls = (long) meterRegistry.find("location.external.upstream.calls").counters().stream()
+            .mapToDouble(counter -> counter.count()).sum();
+        long coalesced = (long) meterRegistry.find("location.external.coalesced").counters().stream()
+            .mapToDouble(counter -> counter.count()).sum();
+        stats.put("google_places_calls", googleCalls);
+        stats.put("google_places_coalesced_calls", coalesced);
         stats.put("kakao_map_calls", 0);
-        stats.put("total_calls", 0);
+        stats.put("total_calls", googleCalls);
         stats.put("last_reset", LocalDateTime.now());
         return stats;
     }
@@ -1055,8 +1088,8 @@ public class ExternalApiServiceImpl implements ExternalApiService {
             String radius = radiusMeters != null ? radiusMeters.toString() : "500"; // 기본 500m
             String type = "parking"; // Google Places의 주차장 타입
             
-            Map<String, Object> response = googlePlacesClient.searchNearbyPlaces(
-                location, Integer.parseInt(radius), type, null, "ko", null, googleApiKey
+            Map<String, Object> response = searchGoogleNearbyCoalesced(
+                location, Integer.parseInt(radius), type, null, "ko"
             );
             
             return parseNearbyParkingsResponse(response, latitude, longitude, limit);
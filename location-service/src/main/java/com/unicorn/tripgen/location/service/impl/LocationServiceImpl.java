@@ -3,17 +3,24 @@ package com.unicorn.tripgen.location.service.impl;
 import com.unicorn.tripgen.common.exception.BusinessException;
 import com.unicorn.tripgen.common.exception.ErrorCodes;
 import com.unicorn.tripgen.common.exception.NotFoundException;
+import com.unicorn.tripgen.location.config.FanOutExecutors;
 import com.unicorn.tripgen.location.dto.*;
 import com.unicorn.tripgen.location.service.LocationService;
 import com.unicorn.tripgen.location.service.ExternalApiService;
 import com.unicorn.tripgen.location.service.CacheService;
 import com.unicorn.tripgen.location.service.RouteService;
 import com.unicorn.tripgen.location.service.RecommendationProducerService;
+import com.unicorn.tripgen.location.service.WebSocketNotificationService;
 import com.unicorn.tripgen.location.entity.Location;
 import com.unicorn.tripgen.location.entity.LocationType;
 import com.unicorn.tripgen.location.repository.LocationRepository;
+import com.unicorn.tripgen.location.util.GeoHashUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +30,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.Map;
 
@@ -41,6 +51,39 @@ public class LocationServiceImpl implements LocationService {
     private final RouteService routeService;
     private final Environment environment;
     private final RecommendationProducerService recommendationProducerService;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final MeterRegistry meterRegistry;
+    private final FanOutExecutors fanOutExecutors;
+    
+    private static final int MAX_GOOGLE_NEARBY_RADIUS_METERS = 50000;
+    
+    @Value("${location.service.cache.nearby-cell-ttl:600}")
+    private int nearbyCellTtl;
+    
+    @Value("${location.service.search.cell-radius-ratio:0.25}")
+    private double cellRadiusRatio;
+    
+    @Value("${location.service.search.travel-time.refine-top-k:10}")
+    private int travelTimeRefineTopK;
+    
+    @Value("${location.service.search.travel-time.budget-ms:1500}")
+    private long travelTimeBudgetMs;
+    
+    @Value("${location.service.search.travel-time.detour-factor:1.3}")
+    private double travelTimeDetourFactor;
+    
+    @Value("${location.service.search.travel-time.max-concurrency:64}")
+    private int travelTimeMaxConcurrency;
+    
+    /**
+     * 전체 요청에 걸친 경로 조회 동시 실행 한도 (초과분은 추정값 사용)
+     */
+    private Semaphore routeRefinePermits;
+    
+    @PostConstruct
+    public void initRouteRefinePermits() {
+        routeRefinePermits = new Semaphore(travelTimeMaxConcurrency);
+    }
     
     // 구글 API 통일로 인해 한국 좌표 판별 불필요
     
@@ -66,48 +109,41 @@ public class LocationServiceImpl implements LocationService {
                 request.getTransportMode(), request.getTimeRange());
         
         try {
-            // 프로파일 기반 캐시 사용 여부 확인
-            String cacheKey = null;
-            if (isCacheEnabled()) {
-                cacheKey = buildNearbyCacheKey(request);
-                NearbyPlacesResponse cachedResult = cacheService.getNearbySearchResult(cacheKey);
-                if (cachedResult != null) {
-                    log.debug("Returning cached nearby search result");
-                    return cachedResult;
-                }
-            }
-            
             long startTime = System.currentTimeMillis();
             
+            double originLat = request.getOrigin().getLatitude().doubleValue();
+            double originLng = request.getOrigin().getLongitude().doubleValue();
+            
             // 반경 계산 (시간 기반)
             double radiusKm = calculateRadiusByTimeAndTransport(request.getTimeRange(), request.getTransportMode());
             
-            // 주변 장소 검색
-            List<NearbyPlacesResponse.NearbyPlace> nearbyPlaces = findNearbyPlaces(request, radiusKm);
+            // 셀 단위 후보 목록 조회 (페이징/필터 적용 전)
+            List<NearbyPlacesResponse.NearbyPlace> candidates = getCellCandidates(request, radiusKm);
             
-            // 검색 결과가 없는 경우에도 정상 처리
-            if (nearbyPlaces == null) {
-                nearbyPlaces = new ArrayList<>();
-            }
+            // 요청 좌표 기준 거리 재계산 및 반경 밖 후보 제외
+            List<NearbyPlacesResponse.NearbyPlace> nearbyPlaces = rankByDistance(candidates, originLat, originLng, radiusKm);
             
             log.debug("Found {} nearby places before filtering", nearbyPlaces.size());
             
-            // 경로 및 시간 정보 계산 (travel_time 정렬인 경우에만)
+            // 필터링
+            List<NearbyPlacesResponse.NearbyPlace> filteredPlaces = applyFilters(nearbyPlaces, request);
+            
+            // 경로 및 시간 정보 계산 (travel_time 정렬인 경우에만, 필터를 통과한 후보만 대상)
             if ("travel_time".equals(request.getSort())) {
-                enrichWithRouteInformation(nearbyPlaces, request);
+                enrichWithRouteInformation(filteredPlaces, request);
             }
             
             // 정렬 및 페이징
-            List<NearbyPlacesResponse.NearbyPlace> sortedPlaces = applySortingAndPaging(nearbyPlaces, request);
+            List<NearbyPlacesResponse.NearbyPlace> sortedPlaces = applySortingAndPaging(filteredPlaces, request);
             
             log.debug("Final filtered results: {}", sortedPlaces.size());
             
             // 응답 생성
             NearbyPlacesResponse response = NearbyPlacesResponse.builder()
-                .totalCount((long) nearbyPlaces.size())
+                .totalCount((long) filteredPlaces.size())
                 .page(request.getPage())
                 .size(request.getSize())
-                .hasNext(calculateHasNext(nearbyPlaces.size(), request.getPage(), request.getSize()))
+                .hasNext(calculateHasNext(filteredPlaces.size(), request.getPage(), request.getSize()))
                 .places(sortedPlaces)
                 .searchCriteria(buildSearchCriteria(request))
                 .executionTimeMs(System.currentTimeMillis() - startTime)
@@ -115,11 +151,6 @@ public class LocationServiceImpl implements LocationService {
                 .responseTime(LocalDateTime.now())
                 .build();
             
-            // 프로파일 기반 캐시 저장
-            if (isCacheEnabled() && cacheKey != null) {
-                cacheService.cacheNearbySearchResult(cacheKey, response, 600); // 10분 캐시
-            }
-            
             log.info("Nearby places search completed: {} results found", response.getTotalCount());
             return response;
             
@@ -129,6 +160,60 @@ public class LocationServiceImpl implements LocationService {
         }
     }
     
+    /**
+     * 요청 좌표가 속한 geohash 셀의 후보 목록 조회
+     * 셀 중심에서 (반경 + 셀 반대각선) 범위로 검색하므로 셀 내부 어느 좌표에서도 반경 내 장소를 모두 포함
+     */
+    private List<NearbyPlacesResponse.NearbyPlace> getCellCandidates(NearbyPlacesRequest request, double radiusKm) {
+        double originLat = request.getOrigin().getLatitude().doubleValue();
+        double originLng = request.getOrigin().getLongitude().doubleValue();
+        
+        int precision = GeoHashUtils.precisionForRadius(radiusKm, originLat, cellRadiusRatio);
+        String cell = GeoHashUtils.encode(originLat, originLng, precision);
+        
+        String cacheKey = null;
+        if (isCacheEnabled()) {
+            cacheKey = buildNearbyCellCacheKey(cell, request);
+            NearbyPlacesResponse cachedCell = cacheService.getNearbySearchResult(cacheKey);
+            if (cachedCell != null && cachedCell.getPlaces() != null) {
+                recordCellCacheAccess(precision, true);
+                log.debug("Returning cached nearby candidates: cell={}, count={}", cell, cachedCell.getPlaces().size());
+                return cachedCell.getPlaces();
+            }
+            recordCellCacheAccess(precision, false);
+        }
+        
+        double[] center = GeoHashUtils.decodeCenter(cell);
+        double fetchRadiusKm = radiusKm + GeoHashUtils.cellHalfDiagonalKm(precision, center[0]);
+        int fetchRadiusMeters = (int) Math.min(Math.ceil(fetchRadiusKm * 1000), MAX_GOOGLE_NEARBY_RADIUS_METERS);
+        
+        List<NearbyPlacesResponse.NearbyPlace> candidates = findNearbyPlaces(request, center[0], center[1], fetchRadiusMeters);
+        
+        // 후보 목록이 비어있으면 캐시하지 않음 (외부 API 오류 가능성)
+        if (cacheKey != null && !candidates.isEmpty()) {
+            NearbyPlacesResponse cellResult = NearbyPlacesResponse.builder()
+                .totalCount((long) candidates.size())
+                .places(candidates)
+                .dataSource("google")
+                .responseTime(LocalDateTime.now())
+                .build();
+            cacheService.cacheNearbySearchResult(cacheKey, cellResult, nearbyCellTtl);
+        }
+        
+        return candidates;
+    }
+    
+    /**
+     * 셀 캐시 조회 결과를 셀 크기(precision)별로 기록
+     * /actuator/metrics/location.nearby.cell.cache?tag=precision:6 로 셀 크기별 적중률 확인
+     */
+    private void recordCellCacheAccess(int precision, boolean hit) {
+        meterRegistry.counter("location.nearby.cell.cache",
+                "precision", String.valueOf(precision),
+                "result", hit ? "hit" : "miss")
+            .increment();
+    }
+    
     @Override
     public LocationDetailResponse getLocationDetail(String placeId, Boolean includeReviews, String language) {
         log.info("Getting location detail: placeId={}, includeReviews={}", placeId, includeReviews);
@@ -185,7 +270,7 @@ public class LocationServiceImpl implements LocationService {
     }
     
     @Override
-    public Object getLocationRecommendations(String placeId, String tripId) {
+    public Object getLocationRecommendations(String placeId, String tripId, String userId) {
         log.info("Getting location recommendations: placeId={}, tripId={}", placeId, tripId);
         
         try {
@@ -204,12 +289,18 @@ public class LocationServiceImpl implements LocationService {
                     .searchIntents(new String[]{"general"})
                     .build();
             
-            String requestId = recommendationProducerService.sendRecommendationRequest(placeId, tripId, searchContext);
+            String requestId = UUID.randomUUID().toString();
+            
+            // 결과 구독은 요청자 본인만 가능하도록 요청자 기록
+            // (결과가 발행 직후 도착해도 요청자 확인/완료 상태가 덮이지 않도록 발행 전에 기록)
+            webSocketNotificationService.registerRequestOwner(requestId, userId);
             
             // 처리 중 상태를 Redis에 저장
             String statusCacheKey = "rec_status_" + requestId;
             cacheService.cacheObject(statusCacheKey, "processing", 60); // 1분
             
+            recommendationProducerService.sendRecommendationRequest(requestId, placeId, tripId, searchContext);
+            
             log.info("AI recommendation request sent: requestId={}, placeId={}", requestId, placeId);
             
             // 비동기 처리 응답
@@ -253,12 +344,10 @@ public class LocationServiceImpl implements LocationService {
     
     // Helper methods
     
-    private String buildNearbyCacheKey(NearbyPlacesRequest request) {
-        return String.format("nearby:%s:%s:%d:%s:%d:%d:%s:%s:%s", 
-            request.getOrigin().getLatitude(), request.getOrigin().getLongitude(),
-            request.getTimeRange(), request.getTransportMode(),
-            request.getPage(), request.getSize(),
-            request.getMinRating(), request.getMaxPriceLevel(), request.getOpenNow());
+    private String buildNearbyCellCacheKey(String cell, NearbyPlacesRequest request) {
+        return String.format("nearby:cell:%s:%s:%s:%d:%s", 
+            cell, request.getCategory(), request.getTransportMode(),
+            request.getTimeRange(), request.getLanguage());
     }
     
     private String buildDetailCacheKey(String placeId, Boolean includeReviews, String language) {
@@ -300,22 +389,29 @@ public class LocationServiceImpl implements LocationService {
     // Private helper methods (stubs)
     private double calculateRadiusByTimeAndTransport(Integer timeRange, String transportMode) {
         // 교통수단과 시간에 따른 반경 계산
+        return timeRange * speedKmPerMinute(transportMode);
+    }
+    
+    /**
+     * 교통수단별 평균 이동 속도 (km/분)
+     */
+    private double speedKmPerMinute(String transportMode) {
         return switch (transportMode) {
-            case "walking" -> timeRange * 0.08; // 시속 5km 기준
-            case "public_transport" -> timeRange * 0.5; // 시속 30km 기준
-            case "car" -> timeRange * 0.8; // 시속 50km 기준
-            default -> timeRange * 0.3;
+            case "walking" -> 0.08; // 시속 5km 기준
+            case "public_transport" -> 0.5; // 시속 30km 기준
+            case "car" -> 0.8; // 시속 50km 기준
+            default -> 0.3;
         };
     }
     
-    private List<NearbyPlacesResponse.NearbyPlace> findNearbyPlaces(NearbyPlacesRequest request, double radiusKm) {
-        log.info("Finding nearby places: origin=({}, {}), radius={}km", 
-                request.getOrigin().getLatitude(), request.getOrigin().getLongitude(), radiusKm);
+    private List<NearbyPlacesResponse.NearbyPlace> findNearbyPlaces(NearbyPlacesRequest request, 
+                                                                   double latitude, double longitude, int radiusMeters) {
+        log.info("Finding nearby places: center=({}, {}), radius={}m", latitude, longitude, radiusMeters);
         
         try {
             // 모든 지역에서 Google Places API 사용 (속도 및 평점 정보 제공을 위해)
             List<NearbyPlacesResponse.NearbyPlace> results = new ArrayList<>();
-            List<NearbyPlacesResponse.NearbyPlace> googleResults = findNearbyPlacesWithGoogle(request, radiusKm);
+            List<NearbyPlacesResponse.NearbyPlace> googleResults = findNearbyPlacesWithGoogle(request, latitude, longitude, radiusMeters);
             
             if (googleResults != null) {
                 results.addAll(googleResults);
@@ -334,12 +430,14 @@ public class LocationServiceImpl implements LocationService {
     
     // 구글 API 통일로 인해 Kakao 검색 메서드 제거됨
     
-    private List<NearbyPlacesResponse.NearbyPlace> findNearbyPlacesWithGoogle(NearbyPlacesRequest request, double radiusKm) {
+    private List<NearbyPlacesResponse.NearbyPlace> findNearbyPlacesWithGoogle(NearbyPlacesRequest request,
+                                                                             double latitude, double longitude, int radiusMeters) {
         log.debug("Using Google Places API for nearby places search");
         
         try {
             // ExternalApiService를 통해 Google 주변 검색 수행
-            List<NearbyPlacesResponse.NearbyPlace> results = externalApiService.searchNearbyWithGoogle(request);
+            List<NearbyPlacesResponse.NearbyPlace> results = externalApiService.searchNearbyWithGoogle(
+                request, latitude, longitude, radiusMeters);
             
             // null 체크 및 안전한 반환
             if (results == null) {
@@ -375,8 +473,95 @@ public class LocationServiceImpl implements LocationService {
         }
     }
     
+    /**
+     * 이동 시간 정보 추가
+     * 1. 전체 후보에 직선 거리 기반 추정값을 즉시 설정
+     * 2. 거리순 상위 K개만 RouteService로 병렬 조회(가상 스레드)하여 마감 시간 내 도착한 결과로 교체
+     * 마감 시간을 넘기거나 실패한 후보, 경로 조회가 직선 거리 폴백을 돌려준 후보는 추정값을 유지
+     */
     private void enrichWithRouteInformation(List<NearbyPlacesResponse.NearbyPlace> places, NearbyPlacesRequest request) {
-        // 경로 정보 추가 로직
+        if (places == null || places.isEmpty()) {
+            return;
+        }
+        
+        long startTime = System.nanoTime();
+        double originLat = request.getOrigin().getLatitude().doubleValue();
+        double originLng = request.getOrigin().getLongitude().doubleValue();
+        String routeMode = toRouteMode(request.getTransportMode());
+        
+        // 1. 직선 거리 기반 추정값 (places는 rankByDistance에서 만든 복사본이므로 직접 수정)
+        double speed = speedKmPerMinute(request.getTransportMode());
+        for (NearbyPlacesResponse.NearbyPlace place : places) {
+            double estimatedKm = place.getDistance() / 1000.0 * travelTimeDetourFactor;
+            place.setTravelDistance((int) Math.round(estimatedKm * 1000));
+            place.setTravelTime((int) Math.max(1, Math.ceil(estimatedKm / speed)));
+            place.setTravelTimeEstimated(true);
+        }
+        
+        // 2. 상위 K개 실제 경로 조회
+        int topK = Math.min(travelTimeRefineTopK, places.size());
+        List<NearbyPlacesResponse.NearbyPlace> targets = new ArrayList<>();
+        List<CompletableFuture<Optional<RouteResponse>>> pending = new ArrayList<>();
+        for (NearbyPlacesResponse.NearbyPlace place : places.subList(0, topK)) {
+            if (!routeRefinePermits.tryAcquire()) {
+                log.debug("Route refine concurrency limit reached, keeping estimates for remaining candidates");
+                break;
+            }
+            RouteRequest routeRequest = RouteRequest.builder()
+                .fromLatitude(originLat)
+                .fromLongitude(originLng)
+                .toLatitude(place.getLatitude().doubleValue())
+                .toLongitude(place.getLongitude().doubleValue())
+                .mode(routeMode)
+                .build();
+            targets.add(place);
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return routeService.findRoute(routeRequest);
+                } finally {
+                    routeRefinePermits.release();
+                }
+            }, fanOutExecutors.enrichmentExecutor()));
+        }
+        
+        long deadline = System.currentTimeMillis() + travelTimeBudgetMs;
+        int refined = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            NearbyPlacesResponse.NearbyPlace place = targets.get(i);
+            try {
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                RouteResponse route = pending.get(i).get(remaining, TimeUnit.MILLISECONDS).orElse(null);
+                if (route != null && !route.isEstimated() && route.getDuration() != null) {
+                    place.setTravelTime((int) Math.max(1, Math.ceil(route.getDuration() / 60.0)));
+                    place.setTravelDistance(route.getDistance());
+                    place.setTravelTimeEstimated(false);
+                    refined++;
+                }
+            } catch (Exception e) {
+                // 마감 시간 초과 또는 경로 조회 실패 - 추정값 유지 (진행 중인 호출은 경로 캐시를 채우도록 둠)
+                log.debug("Route refinement skipped: placeId={}, reason={}", place.getPlaceId(), e.getMessage());
+            }
+        }
+        
+        int estimated = places.size() - refined;
+        meterRegistry.counter("location.nearby.travel_time.candidates", "result", "refined").increment(refined);
+        meterRegistry.counter("location.nearby.travel_time.candidates", "result", "estimated").increment(estimated);
+        Timer.builder("location.nearby.travel_time.enrichment")
+            .tag("transport", request.getTransportMode())
+            .register(meterRegistry)
+            .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        log.debug("Travel time enrichment: candidates={}, refined={}, estimated={}", places.size(), refined, estimated);
+    }
+    
+    /**
+     * 주변 검색 이동수단을 경로 조회 모드로 변환
+     */
+    private String toRouteMode(String transportMode) {
+        return switch (transportMode) {
+            case "walking" -> "walking";
+            case "public_transport" -> "transit";
+            default -> "driving";
+        };
     }
     
     
@@ -384,7 +569,35 @@ public class LocationServiceImpl implements LocationService {
         // AI 추천 정보 추가 로직
     }
     
-    private List<NearbyPlacesResponse.NearbyPlace> applySortingAndPaging(List<NearbyPlacesResponse.NearbyPlace> places, NearbyPlacesRequest request) {
+    /**
+     * 요청 좌표 기준으로 거리를 다시 계산하고 반경 밖 후보를 제외
+     */
+    private List<NearbyPlacesResponse.NearbyPlace> rankByDistance(List<NearbyPlacesResponse.NearbyPlace> candidates,
+                                                                 double originLat, double originLng, double radiusKm) {
+        if (candidates == null || candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<NearbyPlacesResponse.NearbyPlace> ranked = new ArrayList<>();
+        for (NearbyPlacesResponse.NearbyPlace place : candidates) {
+            if (place.getLatitude() == null || place.getLongitude() == null) {
+                continue;
+            }
+            double distanceKm = GeoHashUtils.distanceKm(originLat, originLng,
+                place.getLatitude().doubleValue(), place.getLongitude().doubleValue());
+            if (distanceKm > radiusKm) {
+                continue;
+            }
+            // 캐시된 후보 인스턴스는 다른 요청과 공유될 수 있으므로 복사본에 거리 설정
+            ranked.add(place.toBuilder()
+                .distance((int) Math.round(distanceKm * 1000))
+                .build());
+        }
+        ranked.sort(Comparator.comparing(NearbyPlacesResponse.NearbyPlace::getDistance));
+        return ranked;
+    }
+    
+    private List<NearbyPlacesResponse.NearbyPlace> applyFilters(List<NearbyPlacesResponse.NearbyPlace> places, NearbyPlacesRequest request) {
         // 빈 리스트 안전 처리
         if (places == null || places.isEmpty()) {
             log.debug("No places to filter, returning empty list");
@@ -395,14 +608,44 @@ public class LocationServiceImpl implements LocationService {
             .filter(place -> applyMinRatingFilter(place, request.getMinRating()))
             .filter(place -> applyMaxPriceLevelFilter(place, request.getMaxPriceLevel()))
             .filter(place -> applyOpenNowFilter(place, request.getOpenNow()))
-            .skip((long) (request.getPage() - 1) * request.getSize())
-            .limit(request.getSize())
             .collect(Collectors.toList());
-            
+        
         log.debug("Filtering applied: {} -> {} places", places.size(), filteredPlaces.size());
         return filteredPlaces;
     }
     
+    private List<NearbyPlacesResponse.NearbyPlace> applySortingAndPaging(List<NearbyPlacesResponse.NearbyPlace> places, NearbyPlacesRequest request) {
+        if (places.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        return places.stream()
+            .sorted(resolveSortComparator(request.getSort()))
+            .skip((long) (request.getPage() - 1) * request.getSize())
+            .limit(request.getSize())
+            .collect(Collectors.toList());
+    }
+    
+    private Comparator<NearbyPlacesResponse.NearbyPlace> resolveSortComparator(String sort) {
+        if (sort == null) {
+            sort = "distance";
+        }
+        return switch (sort) {
+            case "rating" -> Comparator.comparing(NearbyPlacesResponse.NearbyPlace::getRating,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+            case "reviews" -> Comparator.comparing(NearbyPlacesResponse.NearbyPlace::getReviewCount,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+            case "name" -> Comparator.comparing(NearbyPlacesResponse.NearbyPlace::getName,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+            case "travel_time" -> Comparator.comparing(NearbyPlacesResponse.NearbyPlace::getTravelTime,
+                    Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(NearbyPlacesResponse.NearbyPlace::getDistance,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            default -> Comparator.comparing(NearbyPlacesResponse.NearbyPlace::getDistance,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        };
+    }
+    
     private NearbyPlacesResponse.SearchCriteria buildSearchCriteria(NearbyPlacesRequest request) {
         return NearbyPlacesResponse.SearchCriteria.builder()
             .originLatitude(request.getOrigin().getLatitude())
@@ -1,180 +1,164 @@
 package com.unicorn.tripgen.location.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unicorn.tripgen.location.cache.CacheValueSerializer;
 import com.unicorn.tripgen.location.dto.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 캐시 서비스 구현체
+ * 캐시 엔트리는 태그(장소, 여행, 셀) 별 Set 인덱스에 등록되어 KEYS 없이 무효화
+ * 만료된 엔트리는 태그 Set에 남으므로 주기적으로 SSCAN하여 제거
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RedisCacheService implements CacheService {
     
+    private static final String TAG_KEY_PREFIX = "tag:";
+    private static final String METRIC_NAME = "location.cache.redis";
+    
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final CacheValueSerializer cacheValueSerializer;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${location.service.cache.tag-ttl:86400}")
+    private int tagTtlSeconds;
+    
+    @Value("${location.service.cache.scan-batch-size:500}")
+    private int scanBatchSize;
+    
+    @Value("${location.service.cache.tag-prune-interval-ms:600000}")
+    private long tagPruneIntervalMs;
+    
+    private ScheduledExecutorService tagPruneScheduler;
+    
+    @PostConstruct
+    public void init() {
+        tagPruneScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-tag-prune");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tagPruneScheduler.scheduleWithFixedDelay(this::pruneTagSets, tagPruneIntervalMs, tagPruneIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        tagPruneScheduler.shutdown();
+    }
     
     @Override
     public void cacheLocationSearchResult(String key, LocationSearchResponse result, int ttlSeconds) {
-        try {
-            String json = objectMapper.writeValueAsString(result);
-            redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttlSeconds));
-            log.debug("Cached location search result: key={}", key);
-        } catch (Exception e) {
-            log.error("Error caching location search result: key={}", key, e);
-        }
+        write(key, result, ttlSeconds, resolveTags(key), "location search result");
     }
     
     @Override
     public LocationSearchResponse getLocationSearchResult(String key) {
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                log.debug("Retrieved cached location search result: key={}", key);
-                return objectMapper.readValue(json, LocationSearchResponse.class);
-            }
-        } catch (Exception e) {
-            log.error("Error retrieving cached location search result: key={}", key, e);
-        }
-        return null;
+        return read(key, LocationSearchResponse.class, "location search result");
     }
     
     @Override
     public void cacheNearbySearchResult(String key, NearbyPlacesResponse result, int ttlSeconds) {
-        try {
-            String json = objectMapper.writeValueAsString(result);
-            redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttlSeconds));
-            log.debug("Cached nearby search result: key={}", key);
-        } catch (Exception e) {
-            log.error("Error caching nearby search result: key={}", key, e);
+        // 셀 후보에 포함된 장소도 태그로 등록하여 장소 단위 무효화 시 함께 제거
+        Set<String> tags = resolveTags(key);
+        if (result != null && result.getPlaces() != null) {
+            result.getPlaces().stream()
+                .map(NearbyPlacesResponse.NearbyPlace::getPlaceId)
+                .filter(Objects::nonNull)
+                .forEach(placeId -> tags.add(placeTag(placeId)));
         }
+        write(key, result, ttlSeconds, tags, "nearby search result");
     }
     
     @Override
     public NearbyPlacesResponse getNearbySearchResult(String key) {
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                log.debug("Retrieved cached nearby search result: key={}", key);
-                return objectMapper.readValue(json, NearbyPlacesResponse.class);
-            }
-        } catch (Exception e) {
-            log.error("Error retrieving cached nearby search result: key={}", key, e);
-        }
-        return null;
+        return read(key, NearbyPlacesResponse.class, "nearby search result");
     }
     
     @Override
     public void cacheLocationDetail(String key, LocationDetailResponse detail, int ttlSeconds) {
-        try {
-            String json = objectMapper.writeValueAsString(detail);
-            redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttlSeconds));
-            log.debug("Cached location detail: key={}", key);
-        } catch (Exception e) {
-            log.error("Error caching location detail: key={}", key, e);
-        }
+        write(key, detail, ttlSeconds, resolveTags(key), "location detail");
     }
     
     @Override
     public LocationDetailResponse getLocationDetail(String key) {
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                log.debug("Retrieved cached location detail: key={}", key);
-                return objectMapper.readValue(json, LocationDetailResponse.class);
-            }
-        } catch (Exception e) {
-            log.error("Error retrieving cached location detail: key={}", key, e);
-        }
-        return null;
+        return read(key, LocationDetailResponse.class, "location detail");
     }
     
     @Override
     public void cacheWeatherInfo(String key, WeatherResponse weather, int ttlSeconds) {
-        try {
-            String json = objectMapper.writeValueAsString(weather);
-            redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttlSeconds));
-            log.debug("Cached weather info: key={}", key);
-        } catch (Exception e) {
-            log.error("Error caching weather info: key={}", key, e);
-        }
+        write(key, weather, ttlSeconds, resolveTags(key), "weather info");
     }
     
     @Override
     public WeatherResponse getWeatherInfo(String key) {
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                log.debug("Retrieved cached weather info: key={}", key);
-                return objectMapper.readValue(json, WeatherResponse.class);
-            }
-        } catch (Exception e) {
-            log.error("Error retrieving cached weather info: key={}", key, e);
-        }
-        return null;
+        return read(key, WeatherResponse.class, "weather info");
     }
     
     @Override
     public void cacheRouteInfo(String key, RouteResponse route, int ttlSeconds) {
-        try {
-            String json = objectMapper.writeValueAsString(route);
-            redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttlSeconds));
-            log.debug("Cached route info: key={}", key);
-        } catch (Exception e) {
-            log.error("Error caching route info: key={}", key, e);
-        }
+        write(key, route, ttlSeconds, resolveTags(key), "route info");
     }
     
     @Override
     public RouteResponse getRouteInfo(String key) {
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                log.debug("Retrieved cached route info: key={}", key);
-                return objectMapper.readValue(json, RouteResponse.class);
-            }
-        } catch (Exception e) {
-            log.error("Error retrieving cached route info: key={}", key, e);
-        }
-        return null;
+        return read(key, RouteResponse.class, "route info");
     }
     
     @Override
     public void cacheObject(String key, Object value, int ttlSeconds) {
-        try {
-            String json = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttlSeconds));
-            log.debug("Cached object: key={}", key);
-        } catch (Exception e) {
-            log.error("Error caching object: key={}", key, e);
-        }
+        write(key, value, ttlSeconds, resolveTags(key), "object");
     }
     
     @Override
     public Object getObject(String key) {
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json != null) {
-                log.debug("Retrieved cached object: key={}", key);
-                return objectMapper.readValue(json, Object.class);
-            }
-        } catch (Exception e) {
-            log.error("Error retrieving cached object: key={}", key, e);
-        }
-        return null;
+        return read(key, Object.class, "object");
+    }
+    
+    /**
+     * 저장된 바이트 크기와 함께 조회 (L1 가중치를 다시 직렬화하지 않고 Redis에서 읽은 크기로 계산)
+     *
+     * @return 캐시에 없거나 조회에 실패하면 null
+     */
+    public <T> SizedValue<T> getSized(String key, Class<T> valueType) {
+        return readSized(key, valueType, valueType.getSimpleName());
     }
     
+    /**
+     * 조회된 값과 Redis에 저장된 바이트 크기 (압축된 경우 압축 후 크기)
+     */
+    public record SizedValue<T>(T value, int sizeBytes) {}
+    
     @Override
     public void evictCache(String key) {
         try {
-            Boolean deleted = redisTemplate.delete(key);
+            Boolean deleted = redisTemplate.unlink(key);
+            // 키 형식으로 알 수 있는 태그 Set에서도 제거 (그 외 태그는 주기 정리에서 제거)
+            for (String tag : resolveTags(key)) {
+                redisTemplate.opsForSet().remove(TAG_KEY_PREFIX + tag, key);
+            }
+            recordEvictions(Boolean.TRUE.equals(deleted) ? 1 : 0);
             log.debug("Evicted cache: key={}, deleted={}", key, deleted);
         } catch (Exception e) {
             log.error("Error evicting cache: key={}", key, e);
@@ -184,23 +168,39 @@ public class RedisCacheService implements CacheService {
     @Override
     public void evictLocationCache(String placeId) {
         try {
-            String[] patterns = {
-                "search:*:" + placeId + ":*",
-                "nearby:*:" + placeId + ":*",
-                "detail:" + placeId + ":*",
-                "ai_recommendation:" + placeId + "*"
-            };
-            
-            for (String pattern : patterns) {
-                evictCacheByPattern(pattern);
-            }
-            
-            log.debug("Evicted location cache for placeId: {}", placeId);
+            Set<String> evictedKeys = evictTag(placeTag(placeId));
+            evictUntaggedLocationCache(placeId);
+            log.debug("Evicted location cache for placeId: {}, taggedKeys={}", placeId, evictedKeys.size());
         } catch (Exception e) {
             log.error("Error evicting location cache: placeId={}", placeId, e);
         }
     }
     
+    /**
+     * 장소 관련 캐시 키 패턴 목록
+     */
+    public static String[] locationCachePatterns(String placeId) {
+        return new String[]{
+            "search:*:" + placeId + ":*",
+            "nearby:*:" + placeId + ":*",
+            "detail:" + placeId + ":*",
+            "ai_recommendation:" + placeId + "*"
+        };
+    }
+    
+    /**
+     * 태그 인덱스에 등록되지 않는 장소 관련 키 삭제 (검색 결과 등 - SCAN 기반)
+     */
+    public void evictUntaggedLocationCache(String placeId) {
+        String[] patterns = {
+            "search:*:" + placeId + ":*",
+            "nearby:*:" + placeId + ":*"
+        };
+        for (String pattern : patterns) {
+            evictCacheByPattern(pattern);
+        }
+    }
+    
     @Override
     public String[] getLocationCacheKeys(String placeId) {
         return new String[]{
@@ -209,34 +209,249 @@ public class RedisCacheService implements CacheService {
         };
     }
     
+    /**
+     * 패턴 기반 캐시 삭제 (태그가 없는 임의 패턴용)
+     * KEYS 대신 커서 기반 SCAN으로 조회하고 배치 단위 UNLINK로 삭제
+     */
     @Override
     public void evictCacheByPattern(String pattern) {
-        try {
-            Set<String> keys = redisTemplate.keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                Long deleted = redisTemplate.delete(keys);
-                log.debug("Evicted cache by pattern: pattern={}, deleted={}", pattern, deleted);
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanBatchSize).build();
+        long deleted = 0;
+        
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(scanBatchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= scanBatchSize) {
+                    deleted += unlinkBatch(batch);
+                    batch.clear();
+                }
             }
+            deleted += unlinkBatch(batch);
+            recordEvictions(deleted);
+            log.debug("Evicted cache by pattern: pattern={}, deleted={}", pattern, deleted);
         } catch (Exception e) {
             log.error("Error evicting cache by pattern: pattern={}", pattern, e);
         }
     }
     
+    /**
+     * 태그에 등록된 캐시 엔트리 일괄 삭제
+     *
+     * @param tag 태그 (예: place:{placeId}, trip:{tripId}, cell:{geohash})
+     * @return 삭제 대상이었던 캐시 키 목록
+     */
+    public Set<String> evictTag(String tag) {
+        String tagKey = TAG_KEY_PREFIX + tag;
+        Set<String> keys = redisTemplate.opsForSet().members(tagKey);
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptySet();
+        }
+        
+        List<String> targets = new ArrayList<>(keys);
+        targets.add(tagKey);
+        long deleted = unlinkBatch(targets);
+        // 태그 Set 자체는 삭제 건수에서 제외
+        recordEvictions(Math.max(0, deleted - 1));
+        log.debug("Evicted cache by tag: tag={}, keys={}", tag, keys.size());
+        return keys;
+    }
+    
+    /**
+     * 태그 Set에서 만료/삭제된 캐시 키 제거
+     * 태그 키는 SCAN, 멤버는 SSCAN으로 배치 단위 조회 후 파이프라인 EXISTS로 확인하여 SREM
+     */
+    void pruneTagSets() {
+        ScanOptions tagScan = ScanOptions.scanOptions().match(TAG_KEY_PREFIX + "*").count(scanBatchSize).build();
+        long removed = 0;
+        try (Cursor<String> tagKeys = redisTemplate.scan(tagScan)) {
+            while (tagKeys.hasNext()) {
+                removed += pruneTagSet(tagKeys.next());
+            }
+            if (removed > 0) {
+                meterRegistry.counter(METRIC_NAME, "result", "tag_pruned").increment(removed);
+            }
+            log.debug("Pruned cache tag sets: removedMembers={}", removed);
+        } catch (Exception e) {
+            log.warn("Error pruning cache tag sets: {}", e.getMessage());
+        }
+    }
+    
+    private long pruneTagSet(String tagKey) {
+        long removed = 0;
+        ScanOptions memberScan = ScanOptions.scanOptions().count(scanBatchSize).build();
+        try (Cursor<String> members = redisTemplate.opsForSet().scan(tagKey, memberScan)) {
+            List<String> batch = new ArrayList<>(scanBatchSize);
+            while (members.hasNext()) {
+                batch.add(members.next());
+                if (batch.size() >= scanBatchSize) {
+                    removed += removeMissingMembers(tagKey, batch);
+                    batch.clear();
+                }
+            }
+            removed += removeMissingMembers(tagKey, batch);
+        }
+        return removed;
+    }
+    
+    private long removeMissingMembers(String tagKey, List<String> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+        List<Object> exists = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                members.forEach(ops::hasKey);
+                return null;
+            }
+        });
+        List<Object> missing = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (!Boolean.TRUE.equals(exists.get(i))) {
+                missing.add(members.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        Long removed = redisTemplate.opsForSet().remove(tagKey, missing.toArray());
+        return removed != null ? removed : 0;
+    }
+    
+    /**
+     * 장소 태그 이름 생성
+     */
+    public static String placeTag(String placeId) {
+        return "place:" + placeId;
+    }
+    
     @Override
     public Object getCacheStatistics() {
-        // Redis 통계 정보 조회
-        return new Object() {
-            public String getStatus() { return "active"; }
-            public long getKeyCount() {
-                try {
-                    Set<String> keys = redisTemplate.keys("*");
-                    return keys != null ? keys.size() : 0;
-                } catch (Exception e) {
-                    log.error("Error getting key count", e);
-                    return 0;
+        // 키 전체 조회 없이 유지 중인 카운터와 DBSIZE(O(1))로 통계 구성
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("status", "active");
+        statistics.put("hitCount", count("hit"));
+        statistics.put("missCount", count("miss"));
+        statistics.put("writeCount", count("write"));
+        statistics.put("evictionCount", count("evict"));
+        statistics.put("errorCount", count("error"));
+        
+        long lookups = count("hit") + count("miss");
+        statistics.put("hitRate", lookups > 0 ? (double) count("hit") / lookups : 0.0);
+        
+        try {
+            statistics.put("keyCount", redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize()));
+        } catch (Exception e) {
+            log.error("Error getting key count", e);
+            statistics.put("keyCount", 0L);
+        }
+        statistics.put("info", "Redis cache service statistics");
+        return statistics;
+    }
+    
+    // Helper methods
+    
+    /**
+     * 값 저장과 태그 인덱스 등록을 하나의 파이프라인으로 처리
+     */
+    private void write(String key, Object value, int ttlSeconds, Set<String> tags, String type) {
+        try {
+            byte[] data = cacheValueSerializer.serialize(value);
+            byte[] member = key.getBytes(StandardCharsets.UTF_8);
+            binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                    ops.opsForValue().set(key, data, Duration.ofSeconds(ttlSeconds));
+                    for (String tag : tags) {
+                        String tagKey = TAG_KEY_PREFIX + tag;
+                        ops.opsForSet().add(tagKey, member);
+                        ops.expire(tagKey, Duration.ofSeconds(Math.max(tagTtlSeconds, ttlSeconds)));
+                    }
+                    return null;
                 }
+            });
+            record("write");
+            log.debug("Cached {}: key={}, tags={}", type, key, tags.size());
+        } catch (Exception e) {
+            record("error");
+            log.error("Error caching {}: key={}", type, key, e);
+        }
+    }
+    
+    private <T> T read(String key, Class<T> valueType, String type) {
+        SizedValue<T> sized = readSized(key, valueType, type);
+        return sized != null ? sized.value() : null;
+    }
+    
+    private <T> SizedValue<T> readSized(String key, Class<T> valueType, String type) {
+        try {
+            byte[] data = binaryRedisTemplate.opsForValue().get(key);
+            if (data != null) {
+                record("hit");
+                log.debug("Retrieved cached {}: key={}", type, key);
+                T value = cacheValueSerializer.deserialize(data, valueType);
+                return value != null ? new SizedValue<>(value, data.length) : null;
             }
-            public String getInfo() { return "Redis cache service statistics"; }
-        };
+            record("miss");
+        } catch (Exception e) {
+            record("error");
+            log.error("Error retrieving cached {}: key={}", type, key, e);
+        }
+        return null;
+    }
+    
+    /**
+     * 캐시 키 형식에서 태그 추출
+     * detail:{placeId}:..., place_detail:{placeId}, ai_recommendation:{placeId}[:{tripId}], nearby:cell:{geohash}:...
+     */
+    private Set<String> resolveTags(String key) {
+        Set<String> tags = new HashSet<>();
+        String[] parts = key.split(":");
+        if (parts.length < 2) {
+            return tags;
+        }
+        
+        switch (parts[0]) {
+            case "detail", "place_detail" -> tags.add(placeTag(parts[1]));
+            case "ai_recommendation" -> {
+                tags.add(placeTag(parts[1]));
+                if (parts.length > 2) {
+                    tags.add("trip:" + parts[2]);
+                }
+            }
+            case "nearby" -> {
+                if (parts.length > 2 && "cell".equals(parts[1])) {
+                    tags.add("cell:" + parts[2]);
+                }
+            }
+            default -> { }
+        }
+        return tags;
+    }
+    
+    private long unlinkBatch(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.unlink(keys);
+        return deleted != null ? deleted : 0;
+    }
+    
+    private void record(String result) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+    }
+    
+    private void recordEvictions(long deleted) {
+        if (deleted > 0) {
+            meterRegistry.counter(METRIC_NAME, "result", "evict").increment(deleted);
+        }
+    }
+    
+    private long count(String result) {
+        return (long) meterRegistry.counter(METRIC_NAME, "result", result).count();
     }
-}
\ No newline at end of file
+}
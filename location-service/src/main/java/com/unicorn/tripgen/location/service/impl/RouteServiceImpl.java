@@ -5,23 +5,38 @@ import com.unicorn.tripgen.location.client.GoogleRoutesClient;
 import com.unicorn.tripgen.location.client.KakaoMobilityClient;
 import com.unicorn.tripgen.location.client.TmapPedestrianClient;
 import com.unicorn.tripgen.location.client.TmapTransitClient;
+import com.unicorn.tripgen.location.config.FanOutExecutors;
+import com.unicorn.tripgen.location.dto.RouteMatrixRequest;
+import com.unicorn.tripgen.location.dto.RouteMatrixResponse;
 import com.unicorn.tripgen.location.dto.RouteRequest;
 import com.unicorn.tripgen.location.dto.RouteResponse;
 import com.unicorn.tripgen.location.entity.Route;
 import com.unicorn.tripgen.location.entity.TransportType;
 import com.unicorn.tripgen.location.repository.RouteRepository;
 import com.unicorn.tripgen.location.service.RouteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +49,11 @@ public class RouteServiceImpl implements RouteService {
     private final TmapTransitClient tmapTransitClient;
     private final TmapPedestrianClient tmapPedestrianClient;
     private final RouteRepository routeRepository;
+    private final CacheManager cacheManager;
+    private final FanOutExecutors fanOutExecutors;
+    private final MeterRegistry meterRegistry;
+    
+    private static final String ROUTE_CACHE_NAME = "route";
     
     @Value("${external.api.kakao.api-key:094feac895a3e4a6d7ffa66d877bf48f}")
     private String kakaoApiKey;
@@ -44,163 +64,60 @@ public class RouteServiceImpl implements RouteService {
     @Value("${external.api.tmap.app-key:your-tmap-app-key}")
     private String tmapAppKey;
     
+    @Value("${location.service.route.matrix.timeout-ms:10000}")
+    private long matrixTimeoutMs;
+    
+    @Value("${location.service.route.matrix.db-max-age-hours:24}")
+    private long matrixDbMaxAgeHours;
+    
+    @Value("${location.service.route.matrix.permit-wait-ms:3000}")
+    private long providerPermitWaitMs;
+    
+    @Value("${location.service.route.matrix.provider-limits.kakao:5}")
+    private int kakaoConcurrencyLimit;
+    
+    @Value("${location.service.route.matrix.provider-limits.tmap:5}")
+    private int tmapConcurrencyLimit;
+    
+    @Value("${location.service.route.matrix.provider-limits.google:10}")
+    private int googleConcurrencyLimit;
+    
+    private final Map<String, Semaphore> providerLimits = new HashMap<>();
+    
+    /**
+     * 경로 행렬 셀 결과 (경로 정보, 출처)
+     */
+    private record MatrixCell(RouteResponse route, String source) {}
+    
+    @PostConstruct
+    public void initProviderLimits() {
+        providerLimits.put("kakao", new Semaphore(kakaoConcurrencyLimit));
+        providerLimits.put("tmap", new Semaphore(tmapConcurrencyLimit));
+        providerLimits.put("google", new Semaphore(googleConcurrencyLimit));
+    }
+    
+    /**
+     * 외부 API 호출 중 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (저장/조회는 리포지토리 단위 트랜잭션)
+     * 직선 거리 폴백 결과는 캐시하지 않음
+     */
     @Override
-    @Transactional
     @Cacheable(value = "route", key = "#request.fromLatitude + ':' + #request.fromLongitude + ':' + " +
-                                      "#request.toLatitude + ':' + #request.toLongitude + ':' + #request.mode")
+                                      "#request.toLatitude + ':' + #request.toLongitude + ':' + #request.mode",
+               unless = "#result == null || #result.estimated")
     public RouteResponse getRoute(RouteRequest request) {
         log.info("경로 정보 조회 요청: from=({},{}), to=({},{}), mode={}", 
                 request.getFromLatitude(), request.getFromLongitude(),
                 request.getToLatitude(), request.getToLongitude(),
                 request.getMode());
         
+        if (!isSupportedMode(request.getMode())) {
+            // 지원하지 않는 모드
+            log.warn("지원하지 않는 이동 모드: {}", request.getMode());
+            return createFallbackResponse(request);
+        }
+        
         try {
-            Map<String, Object> response;
-            RouteResponse routeResponse;
-            
-            if ("driving".equalsIgnoreCase(request.getMode())) {
-                // 한국 좌표인지 확인
-                boolean isKorea = isKoreanCoordinate(request.getFromLatitude(), request.getFromLongitude()) 
-                        && isKoreanCoordinate(request.getToLatitude(), request.getToLongitude());
-                
-                
-                if (isKorea) {
-                    // 한국 내 자동차 경로는 Kakao Mobility API 사용
-                    String origin = String.format("%f,%f", request.getFromLongitude(), request.getFromLatitude());
-                    String destination = String.format("%f,%f", request.getToLongitude(), request.getToLatitude());
-                    String authorization = "KakaoAK " + kakaoApiKey;
-                    
-                    response = kakaoMobilityClient.getCarDirections(
-                            authorization, origin, destination, null, 
-                            "RECOMMEND", "GASOLINE", false, true, false);
-                    
-                    // Kakao 응답 파싱
-                    routeResponse = parseKakaoResponse(response, request.getMode());
-                } else {
-                    // 해외 자동차 경로는 Google Routes API 사용
-                    try {
-                        routeResponse = getGoogleRoutesDirections(request);
-                    } catch (Exception e) {
-                        log.error("Google Routes API 호출 실패, Directions API 폴백 사용: {}", e.getMessage());
-                        // 폴백: 기존 Directions API 사용
-                        String origin = String.format("%f,%f", request.getFromLatitude(), request.getFromLongitude());
-                        String destination = String.format("%f,%f", request.getToLatitude(), request.getToLongitude());
-                        response = googleDirectionsClient.getDirections(
-                                origin, destination, "driving", 
-                                googleApiKey, "ko", false);
-                        routeResponse = parseGoogleResponse(response, "driving");
-                    }
-                }
-                
-            } else if ("transit".equalsIgnoreCase(request.getMode())) {
-                // 대중교통은 한국 내에서는 TMAP API 사용
-                log.info("대중교통 모드로 TMAP Transit API 사용");
-                
-                // 한국 좌표인지 확인 (대략적인 한국 범위)
-                boolean isKorea = isKoreanCoordinate(request.getFromLatitude(), request.getFromLongitude()) 
-                        && isKoreanCoordinate(request.getToLatitude(), request.getToLongitude());
-                
-                if (isKorea) {
-                    try {
-                        // TMAP Transit API 요청
-                        Map<String, Object> tmapRequest = new HashMap<>();
-                        tmapRequest.put("startX", String.valueOf(request.getFromLongitude()));
-                        tmapRequest.put("startY", String.valueOf(request.getFromLatitude()));
-                        tmapRequest.put("endX", String.valueOf(request.getToLongitude()));
-                        tmapRequest.put("endY", String.valueOf(request.getToLatitude()));
-                        tmapRequest.put("count", 5);
-                        tmapRequest.put("lang", 0); // 한국어
-                        tmapRequest.put("format", "json");
-                        
-                        response = tmapTransitClient.getTransitRoutes(
-                                tmapAppKey, 
-                                "application/json",
-                                tmapRequest);
-                        
-                        // TMAP 응답 파싱
-                        routeResponse = parseTmapResponse(response);
-                    } catch (Exception e) {
-                        log.error("TMAP API 호출 실패, Google API로 폴백: {}", e.getMessage());
-                        // 폴백: Google API 사용
-                        String origin = String.format("%f,%f", request.getFromLatitude(), request.getFromLongitude());
-                        String destination = String.format("%f,%f", request.getToLatitude(), request.getToLongitude());
-                        response = googleDirectionsClient.getDirections(
-                                origin, destination, "transit", 
-                                googleApiKey, "ko", false);
-                        routeResponse = parseGoogleResponse(response, "transit");
-                    }
-                } else {
-                    // 해외 좌표는 Google Routes API v2 사용
-                    try {
-                        log.info("해외 좌표로 Google Routes API v2 사용 (대중교통)");
-                        routeResponse = getGoogleRoutesDirections(request);
-                    } catch (Exception e) {
-                        log.error("Google Routes API 호출 실패, Directions API 폴백 사용: {}", e.getMessage());
-                        // 폴백: 기존 Directions API 사용
-                        String origin = String.format("%f,%f", request.getFromLatitude(), request.getFromLongitude());
-                        String destination = String.format("%f,%f", request.getToLatitude(), request.getToLongitude());
-                        response = googleDirectionsClient.getDirections(
-                                origin, destination, "transit", 
-                                googleApiKey, "ko", false);
-                        routeResponse = parseGoogleResponse(response, "transit");
-                    }
-                }
-                
-            } else if ("walking".equalsIgnoreCase(request.getMode())) {
-                // 도보 모드 처리
-                log.info("도보 모드 처리");
-                
-                boolean isKorea = isKoreanCoordinate(request.getFromLatitude(), request.getFromLongitude()) 
-                        && isKoreanCoordinate(request.getToLatitude(), request.getToLongitude());
-                
-                if (isKorea) {
-                    // 한국 내 도보: TMAP 보행자 경로 API 사용
-                    try {
-                        log.info("한국 내 도보 경로 - TMAP 보행자 API 사용");
-                        
-                        Map<String, Object> tmapRequest = new HashMap<>();
-                        tmapRequest.put("startX", String.valueOf(request.getFromLongitude()));
-                        tmapRequest.put("startY", String.valueOf(request.getFromLatitude()));
-                        tmapRequest.put("endX", String.valueOf(request.getToLongitude()));
-                        tmapRequest.put("endY", String.valueOf(request.getToLatitude()));
-                        tmapRequest.put("startName", "출발지");
-                        tmapRequest.put("endName", "도착지");
-                        
-                        response = tmapPedestrianClient.getPedestrianRoute(
-                                "1",  // version
-                                tmapAppKey,
-                                "application/json",
-                                "application/json",
-                                tmapRequest);
-                        
-                        // TMAP 보행자 응답 파싱
-                        routeResponse = parseTmapPedestrianResponse(response);
-                    } catch (Exception e) {
-                        log.error("TMAP 보행자 API 호출 실패, 폴백 사용: {}", e.getMessage());
-                        return createFallbackResponse(request);
-                    }
-                } else {
-                    // 해외는 Google Routes API v2 사용
-                    try {
-                        log.info("해외 좌표로 Google Routes API v2 사용 (도보)");
-                        routeResponse = getGoogleRoutesDirections(request);
-                    } catch (Exception e) {
-                        log.error("Google Routes API 호출 실패, Directions API 폴백 사용: {}", e.getMessage());
-                        // 폴백: 기존 Directions API 사용
-                        String origin = String.format("%f,%f", request.getFromLatitude(), request.getFromLongitude());
-                        String destination = String.format("%f,%f", request.getToLatitude(), request.getToLongitude());
-                        response = googleDirectionsClient.getDirections(
-                                origin, destination, "walking", 
-                                googleApiKey, "ko", false);
-                        routeResponse = parseGoogleResponse(response, "walking");
-                    }
-                }
-                
-            } else {
-                // 지원하지 않는 모드
-                log.warn("지원하지 않는 이동 모드: {}", request.getMode());
-                return createFallbackResponse(request);
-            }
+            RouteResponse routeResponse = callRouteProvider(request);
             
             // DB에 경로 정보 저장
             saveRoute(request, routeResponse);
@@ -225,6 +142,404 @@ public class RouteServiceImpl implements RouteService {
         }
     }
     
+    @Override
+    public Optional<RouteResponse> findRoute(RouteRequest request) {
+        if (!isSupportedMode(request.getMode())) {
+            return Optional.empty();
+        }
+        
+        Cache routeCache = cacheManager.getCache(ROUTE_CACHE_NAME);
+        RouteResponse cached = getCachedRoute(routeCache, request);
+        if (cached != null && !cached.isEstimated()) {
+            return Optional.of(cached);
+        }
+        
+        try {
+            return Optional.of(callWithProviderLimit(request, routeCache));
+        } catch (Exception e) {
+            log.debug("경로 조회 실패 (폴백 없음): {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * 이동 수단과 지역에 맞는 외부 경로 API 호출 (실패 시 예외 발생)
+     */
+    private RouteResponse callRouteProvider(RouteRequest request) {
+        Map<String, Object> response;
+        RouteResponse routeResponse;
+        
+        if ("driving".equalsIgnoreCase(request.getMode())) {
+            // 한국 좌표인지 확인
+            boolean isKorea = isKoreanCoordinate(request.getFromLatitude(), request.getFromLongitude()) 
+                    && isKoreanCoordinate(request.getToLatitude(), request.getToLongitude());
+            
+            
+            if (isKorea) {
+                // 한국 내 자동차 경로는 Kakao Mobility API 사용
+                String origin = String.format("%f,%f", request.getFromLongitude(), request.getFromLatitude());
+                String destination = String.format("%f,%f", request.getToLongitude(), request.getToLatitude());
+                String authorization = "KakaoAK " + kakaoApiKey;
+                
+                response = kakaoMobilityClient.getCarDirections(
+                        authorization, origin, destination, null, 
+                        "RECOMMEND", "GASOLINE", false, true, false);
+                
+                // Kakao 응답 파싱
+                routeResponse = parseKakaoResponse(response, request.getMode());
+            } else {
+                // 해외 자동차 경로는 Google Routes API 사용
+                try {
+                    routeResponse = getGoogleRoutesDirections(request);
+                } catch (Exception e) {
+                    log.error("Google Routes API 호출 실패, Directions API 폴백 사용: {}", e.getMessage());
+                    // 폴백: 기존 Directions API 사용
+                    String origin = String.format("%f,%f", request.getFromLatitude(), request.getFromLongitude());
+                    String destination = String.format("%f,%f", request.getToLatitude(), request.getToLongitude());
+                    response = googleDirectionsClient.getDirections(
+                            origin, destination, "driving", 
+                            googleApiKey, "ko", false);
+                    routeResponse = parseGoogleResponse(response, "driving");
+                }
+            }
+        
+        } else if ("transit".equalsIgnoreCase(request.getMode())) {
+            // 대중교통은 한국 내에서는 TMAP API 사용
+            log.info("대중교통 모드로 TMAP Transit API 사용");
+            
+            // 한국 좌표인지 확인 (대략적인 한국 범위)
+            boolean isKorea = isKoreanCoordinate(request.getFromLatitude(), request.getFromLongitude()) 
+                    && isKoreanCoordinate(request.getToLatitude(), request.getToLongitude());
+            
+            if (isKorea) {
+                try {
+                    // TMAP Transit API 요청
+                    Map<String, Object> tmapRequest = new HashMap<>();
+                    tmapRequest.put("startX", String.valueOf(request.getFromLongitude()));
+                    tmapRequest.put("startY", String.valueOf(request.getFromLatitude()));
+                    tmapRequest.put("endX", String.valueOf(request.getToLongitude()));
+                    tmapRequest.put("endY", String.valueOf(request.getToLatitude()));
+                    tmapRequest.put("count", 5);
+                    tmapRequest.put("lang", 0); // 한국어
+                    tmapRequest.put("format", "json");
+                    
+                    response = tmapTransitClient.getTransitRoutes(
+                            tmapAppKey, 
+                            "application/json",
+                            tmapRequest);
+                    
+                    // TMAP 응답 파싱
+                    routeResponse = parseTmapResponse(response);
+                } catch (Exception e) {
+                    log.error("TMAP API 호출 실패, Google API로 폴백: {}", e.getMessage());
+                    // 폴백: Google API 사용
+                    String origin = String.format("%f,%f", request.getFromLatitude(), request.getFromLongitude());
+                    String destination = String.format("%f,%f", request.getToLatitude(), request.getToLongitude());
+                    response = googleDirectionsClient.getDirections(
+                            origin, destination, "transit", 
+                            googleApiKey, "ko", false);
+                    routeResponse = parseGoogleResponse(response, "transit");
+                }
+            } else {
+                // 해외 좌표는 Google Routes API v2 사용
+                try {
+                    log.info("해외 좌표로 Google Routes API v2 사용 (대중교통)");
+                    routeResponse = getGoogleRoutesDirections(request);
+                } catch (Exception e) {
+                    log.error("Google Routes API 호출 실패, Directions API 폴백 사용: {}", e.getMessage());
+                    // 폴백: 기존 Directions API 사용
+                    String origin = String.format("%f,%f", request.getFromLatitude(), request.getFromLongitude());
+                    String destination = String.format("%f,%f", request.getToLatitude(), request.getToLongitude());
+                    response = googleDirectionsClient.getDirections(
+                            origin, destination, "transit", 
+                            googleApiKey, "ko", false);
+                    routeResponse = parseGoogleResponse(response, "transit");
+                }
+            }
+        
+        } else if ("walking".equalsIgnoreCase(request.getMode())) {
+            // 도보 모드 처리
+            log.info("도보 모드 처리");
+            
+            boolean isKorea = isKoreanCoordinate(request.getFromLatitude(), request.getFromLongitude()) 
+                    && isKoreanCoordinate(request.getToLatitude(), request.getToLongitude());
+            
+            if (isKorea) {
+                // 한국 내 도보: TMAP 보행자 경로 API 사용
+                try {
+                    log.info("한국 내 도보 경로 - TMAP 보행자 API 사용");
+                    
+                    Map<String, Object> tmapRequest = new HashMap<>();
+                    tmapRequest.put("startX", String.valueOf(request.getFromLongitude()));
+                    tmapRequest.put("startY", String.valueOf(request.getFromLatitude()));
+                    tmapRequest.put("endX", String.valueOf(request.getToLongitude()));
+                    tmapRequest.put("endY", String.valueOf(request.getToLatitude()));
+                    tmapRequest.put("startName", "출발지");
+                    tmapRequest.put("endName", "도착지");
+                    
+                    response = tmapPedestrianClient.getPedestrianRoute(
+                            "1",  // version
+                            tmapAppKey,
+                            "application/json",
+                            "application/json",
+                            tmapRequest);
+                    
+                    // TMAP 보행자 응답 파싱
+                    routeResponse = parseTmapPedestrianResponse(response);
+                } catch (Exception e) {
+                    log.error("TMAP 보행자 API 호출 실패, 폴백 사용: {}", e.getMessage());
+                    throw new IllegalStateException("TMAP 보행자 경로 조회 실패", e);
+                }
+            } else {
+                // 해외는 Google Routes API v2 사용
+                try {
+                    log.info("해외 좌표로 Google Routes API v2 사용 (도보)");
+                    routeResponse = getGoogleRoutesDirections(request);
+                } catch (Exception e) {
+                    log.error("Google Routes API 호출 실패, Directions API 폴백 사용: {}", e.getMessage());
+                    // 폴백: 기존 Directions API 사용
+                    String origin = String.format("%f,%f", request.getFromLatitude(), request.getFromLongitude());
+                    String destination = String.format("%f,%f", request.getToLatitude(), request.getToLongitude());
+                    response = googleDirectionsClient.getDirections(
+                            origin, destination, "walking", 
+                            googleApiKey, "ko", false);
+                    routeResponse = parseGoogleResponse(response, "walking");
+                }
+            }
+        
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 이동 모드: " + request.getMode());
+        }
+        
+        return routeResponse;
+    }
+    
+    @Override
+    public RouteMatrixResponse getRouteMatrix(List<RouteMatrixRequest.Coordinate> origins,
+                                              List<RouteMatrixRequest.Coordinate> destinations, String mode) {
+        long startTime = System.currentTimeMillis();
+        String routeMode = mode != null ? mode : "driving";
+        log.info("경로 행렬 조회 요청: origins={}, destinations={}, mode={}", 
+                origins.size(), destinations.size(), routeMode);
+        
+        // 중복 좌표 쌍 제거
+        Map<String, RouteRequest> uniquePairs = new LinkedHashMap<>();
+        for (RouteMatrixRequest.Coordinate origin : origins) {
+            for (RouteMatrixRequest.Coordinate destination : destinations) {
+                RouteRequest request = RouteRequest.builder()
+                        .fromLatitude(origin.getLatitude())
+                        .fromLongitude(origin.getLongitude())
+                        .toLatitude(destination.getLatitude())
+                        .toLongitude(destination.getLongitude())
+                        .mode(routeMode)
+                        .build();
+                uniquePairs.putIfAbsent(pairKey(request), request);
+            }
+        }
+        
+        Map<String, MatrixCell> resolved = new HashMap<>();
+        
+        // 1. 동일 좌표 및 경로 캐시 조회
+        Cache routeCache = cacheManager.getCache(ROUTE_CACHE_NAME);
+        uniquePairs.forEach((key, request) -> {
+            if (coordinateId(request.getFromLatitude(), request.getFromLongitude())
+                    .equals(coordinateId(request.getToLatitude(), request.getToLongitude()))) {
+                resolved.put(key, new MatrixCell(RouteResponse.builder()
+                        .distance(0).duration(0)
+                        .distanceText(formatDistance(0)).durationText(formatDuration(0))
+                        .build(), "same"));
+                return;
+            }
+            RouteResponse cached = getCachedRoute(routeCache, request);
+            if (cached != null) {
+                resolved.put(key, new MatrixCell(cached, "cache"));
+            }
+        });
+        
+        // 2. 경로 DB 일괄 조회
+        resolveFromRepository(uniquePairs, resolved, routeMode);
+        
+        // 3. 나머지 쌍은 제공자별 동시성 제한 하에 병렬 호출
+        Map<String, CompletableFuture<RouteResponse>> pending = new LinkedHashMap<>();
+        uniquePairs.forEach((key, request) -> {
+            if (resolved.containsKey(key)) {
+                return;
+            }
+            if (!isSupportedMode(routeMode)) {
+                resolved.put(key, new MatrixCell(createFallbackResponse(request), "fallback"));
+                return;
+            }
+            pending.put(key, CompletableFuture.supplyAsync(
+                    () -> callWithProviderLimit(request, routeCache), fanOutExecutors.routeExecutor()));
+        });
+        
+        long deadline = startTime + matrixTimeoutMs;
+        pending.forEach((key, future) -> {
+            try {
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                resolved.put(key, new MatrixCell(future.get(remaining, TimeUnit.MILLISECONDS), "api"));
+            } catch (Exception e) {
+                // 셀 단위로 직선 거리 추정값 사용 (행렬 전체는 실패시키지 않음)
+                log.warn("경로 행렬 셀 조회 실패, 폴백 사용: key={}, reason={}", key, e.getMessage());
+                future.cancel(true);
+                resolved.put(key, new MatrixCell(createFallbackResponse(uniquePairs.get(key)), "fallback"));
+            }
+        });
+        
+        // 4. 밀집 행렬 구성
+        List<List<Integer>> durations = new ArrayList<>();
+        List<List<Integer>> distances = new ArrayList<>();
+        List<List<String>> sources = new ArrayList<>();
+        for (RouteMatrixRequest.Coordinate origin : origins) {
+            List<Integer> durationRow = new ArrayList<>();
+            List<Integer> distanceRow = new ArrayList<>();
+            List<String> sourceRow = new ArrayList<>();
+            for (RouteMatrixRequest.Coordinate destination : destinations) {
+                MatrixCell cell = resolved.get(pairKey(origin.getLatitude(), origin.getLongitude(),
+                        destination.getLatitude(), destination.getLongitude()));
+                durationRow.add(cell.route().getDuration());
+                distanceRow.add(cell.route().getDistance());
+                sourceRow.add(cell.source());
+            }
+            durations.add(durationRow);
+            distances.add(distanceRow);
+            sources.add(sourceRow);
+        }
+        
+        Map<String, Integer> sourceCounts = new HashMap<>();
+        resolved.values().forEach(cell -> sourceCounts.merge(cell.source(), 1, Integer::sum));
+        sourceCounts.forEach((source, count) ->
+                meterRegistry.counter("location.route.matrix.cells", "source", source).increment(count));
+        
+        RouteMatrixResponse response = RouteMatrixResponse.builder()
+                .mode(routeMode)
+                .durations(durations)
+                .distances(distances)
+                .sources(sources)
+                .uniquePairs(uniquePairs.size())
+                .cacheHits(sourceCounts.getOrDefault("cache", 0))
+                .dbHits(sourceCounts.getOrDefault("db", 0))
+                .apiCalls(pending.size())
+                .fallbacks(sourceCounts.getOrDefault("fallback", 0))
+                .executionTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+        
+        log.info("경로 행렬 조회 완료: pairs={}, cache={}, db={}, api={}, fallback={}, {}ms",
+                response.getUniquePairs(), response.getCacheHits(), response.getDbHits(),
+                response.getApiCalls(), response.getFallbacks(), response.getExecutionTimeMs());
+        return response;
+    }
+    
+    /**
+     * 경로 DB에서 최근 경로를 일괄 조회하여 미해결 쌍 채우기
+     */
+    private void resolveFromRepository(Map<String, RouteRequest> uniquePairs, Map<String, MatrixCell> resolved, String mode) {
+        Set<String> originIds = new HashSet<>();
+        Set<String> destinationIds = new HashSet<>();
+        uniquePairs.forEach((key, request) -> {
+            if (!resolved.containsKey(key)) {
+                originIds.add(coordinateId(request.getFromLatitude(), request.getFromLongitude()));
+                destinationIds.add(coordinateId(request.getToLatitude(), request.getToLongitude()));
+            }
+        });
+        if (originIds.isEmpty()) {
+            return;
+        }
+        
+        try {
+            List<Route> routes = routeRepository.findRecentByOriginsAndDestinations(
+                    originIds, destinationIds, convertToTransportType(mode),
+                    LocalDateTime.now().minusHours(matrixDbMaxAgeHours));
+            // 최신순 정렬이므로 먼저 나온 경로를 사용
+            for (Route route : routes) {
+                String key = route.getOriginId() + "|" + route.getDestinationId();
+                if (uniquePairs.containsKey(key) && !resolved.containsKey(key)) {
+                    resolved.put(key, new MatrixCell(convertToResponse(route), "db"));
+                }
+            }
+        } catch (Exception e) {
+            log.error("경로 DB 일괄 조회 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 제공자별 동시 호출 수를 제한하여 외부 경로 API 호출
+     */
+    private RouteResponse callWithProviderLimit(RouteRequest request, Cache routeCache) {
+        Semaphore permit = providerLimits.get(resolveProvider(request));
+        try {
+            if (!permit.tryAcquire(providerPermitWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("경로 API 동시 호출 한도 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("경로 API 호출 대기 중 인터럽트", e);
+        }
+        
+        try {
+            RouteResponse response = callRouteProvider(request);
+            saveRoute(request, response);
+            if (routeCache != null) {
+                routeCache.put(routeCacheKey(request), response);
+            }
+            return response;
+        } finally {
+            permit.release();
+        }
+    }
+    
+    private RouteResponse getCachedRoute(Cache routeCache, RouteRequest request) {
+        if (routeCache == null) {
+            return null;
+        }
+        try {
+            return routeCache.get(routeCacheKey(request), RouteResponse.class);
+        } catch (Exception e) {
+            log.debug("경로 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 이동 수단과 지역으로 호출될 경로 제공자 판별 (callRouteProvider와 동일한 규칙)
+     */
+    private String resolveProvider(RouteRequest request) {
+        boolean isKorea = isKoreanCoordinate(request.getFromLatitude(), request.getFromLongitude())
+                && isKoreanCoordinate(request.getToLatitude(), request.getToLongitude());
+        if (!isKorea) {
+            return "google";
+        }
+        return "driving".equalsIgnoreCase(request.getMode()) ? "kakao" : "tmap";
+    }
+    
+    /**
+     * getRoute의 @Cacheable 키와 동일한 형식
+     */
+    private String routeCacheKey(RouteRequest request) {
+        return request.getFromLatitude() + ":" + request.getFromLongitude() + ":" +
+               request.getToLatitude() + ":" + request.getToLongitude() + ":" + request.getMode();
+    }
+    
+    private String pairKey(RouteRequest request) {
+        return pairKey(request.getFromLatitude(), request.getFromLongitude(),
+                request.getToLatitude(), request.getToLongitude());
+    }
+    
+    private String pairKey(double fromLat, double fromLng, double toLat, double toLng) {
+        return coordinateId(fromLat, fromLng) + "|" + coordinateId(toLat, toLng);
+    }
+    
+    /**
+     * 좌표 기반 출발지/목적지 ID (경로 DB 저장 형식)
+     */
+    private String coordinateId(double latitude, double longitude) {
+        return String.format("%.6f,%.6f", latitude, longitude);
+    }
+    
+    private boolean isSupportedMode(String mode) {
+        return "driving".equalsIgnoreCase(mode) || "transit".equalsIgnoreCase(mode) || "walking".equalsIgnoreCase(mode);
+    }
+    
     private RouteResponse parseKakaoResponse(Map<String, Object> response, String mode) {
         RouteResponse.RouteResponseBuilder builder = RouteResponse.builder();
         
@@ -389,8 +704,8 @@ public class RouteServiceImpl implements RouteService {
     private void saveRoute(RouteRequest request, RouteResponse response) {
         try {
             // 좌표를 기반으로 origin/destination ID 생성
-            String originId = String.format("%.6f,%.6f", request.getFromLatitude(), request.getFromLongitude());
-            String destinationId = String.format("%.6f,%.6f", request.getToLatitude(), request.getToLongitude());
+            String originId = coordinateId(request.getFromLatitude(), request.getFromLongitude());
+            String destinationId = coordinateId(request.getToLatitude(), request.getToLongitude());
             
             Route route = Route.builder()
                     .routeId(UUID.randomUUID().toString())
@@ -413,8 +728,8 @@ public class RouteServiceImpl implements RouteService {
     private Route findCachedRoute(RouteRequest request) {
         try {
             // 좌표를 기반으로 origin/destination ID 생성
-            String originId = String.format("%.6f,%.6f", request.getFromLatitude(), request.getFromLongitude());
-            String destinationId = String.format("%.6f,%.6f", request.getToLatitude(), request.getToLongitude());
+            String originId = coordinateId(request.getFromLatitude(), request.getFromLongitude());
+            String destinationId = coordinateId(request.getToLatitude(), request.getToLongitude());
             
             return routeRepository.findByOriginDestinationAndType(
                     originId,
@@ -467,6 +782,7 @@ public class RouteServiceImpl implements RouteService {
                 .polyline(String.format("%f,%f|%f,%f", 
                         request.getFromLongitude(), request.getFromLatitude(),
                         request.getToLongitude(), request.getToLatitude()))
+                .estimated(true)
                 .build();
     }
     
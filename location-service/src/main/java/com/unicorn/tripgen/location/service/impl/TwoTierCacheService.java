@@ -0,0 +1,343 @@
+package com.unicorn.tripgen.location.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.unicorn.tripgen.location.dto.*;
+import com.unicorn.tripgen.location.service.CacheService;
+import com.unicorn.tripgen.location.service.RedisCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 2계층 캐시 서비스 구현체 (L1: 프로세스 내 Caffeine, L2: Redis)
+ * L1에는 역직렬화된 객체를 보관하므로 L1 적중 시 JSON 파싱이 발생하지 않음
+ * L1 객체는 요청 간 공유되므로 호출 측에서 수정하지 않아야 함
+ * near-cache 프로파일에서 기존 RedisCacheService 대신 사용
+ */
+@Service
+@Primary
+@Profile("near-cache")
+@RequiredArgsConstructor
+@Slf4j
+public class TwoTierCacheService implements CacheService, MessageListener {
+    
+    private static final char MESSAGE_SEPARATOR = '|';
+    private static final String INVALIDATE_KEY = "key:";
+    private static final String INVALIDATE_PATTERN = "pattern:";
+    private static final String INVALIDATE_PLACE = "place:";
+    
+    private final RedisCacheService redisCacheService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${location.service.cache.near-cache.max-weight-bytes:67108864}")
+    private long maxWeightBytes;
+    
+    @Value("${location.service.cache.near-cache.max-ttl:60}")
+    private int maxL1TtlSeconds;
+    
+    @Value("${location.service.cache.near-cache.invalidation-channel:location:cache:invalidation}")
+    private String invalidationChannel;
+    
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    private Cache<String, CachedValue> localCache;
+    
+    /**
+     * L1 캐시 엔트리 (역직렬화된 값, 가중치, TTL)
+     */
+    private record CachedValue(Object value, int weight, long ttlNanos) {}
+    
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher((String key, CachedValue entry) -> entry.weight())
+            .expireAfter(new Expiry<String, CachedValue>() {
+                @Override
+                public long expireAfterCreate(String key, CachedValue entry, long currentTime) {
+                    return entry.ttlNanos();
+                }
+                
+                @Override
+                public long expireAfterUpdate(String key, CachedValue entry, long currentTime, long currentDuration) {
+                    return entry.ttlNanos();
+                }
+                
+                @Override
+                public long expireAfterRead(String key, CachedValue entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        
+        // L1 hit/miss/eviction 지표 등록 (cache.gets, cache.evictions 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "location-l1");
+        
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+        log.info("Two-tier cache initialized: maxWeight={}bytes, maxL1Ttl={}s, channel={}",
+                maxWeightBytes, maxL1TtlSeconds, invalidationChannel);
+    }
+    
+    @Override
+    public void cacheLocationSearchResult(String key, LocationSearchResponse result, int ttlSeconds) {
+        redisCacheService.cacheLocationSearchResult(key, result, ttlSeconds);
+        putLocalAndPublish(key, result, ttlSeconds);
+    }
+    
+    @Override
+    public LocationSearchResponse getLocationSearchResult(String key) {
+        return get(key, LocationSearchResponse.class);
+    }
+    
+    @Override
+    public void cacheNearbySearchResult(String key, NearbyPlacesResponse result, int ttlSeconds) {
+        redisCacheService.cacheNearbySearchResult(key, result, ttlSeconds);
+        putLocalAndPublish(key, result, ttlSeconds);
+    }
+    
+    @Override
+    public NearbyPlacesResponse getNearbySearchResult(String key) {
+        return get(key, NearbyPlacesResponse.class);
+    }
+    
+    @Override
+    public void cacheLocationDetail(String key, LocationDetailResponse detail, int ttlSeconds) {
+        redisCacheService.cacheLocationDetail(key, detail, ttlSeconds);
+        putLocalAndPublish(key, detail, ttlSeconds);
+    }
+    
+    @Override
+    public LocationDetailResponse getLocationDetail(String key) {
+        return get(key, LocationDetailResponse.class);
+    }
+    
+    @Override
+    public void cacheWeatherInfo(String key, WeatherResponse weather, int ttlSeconds) {
+        redisCacheService.cacheWeatherInfo(key, weather, ttlSeconds);
+        putLocalAndPublish(key, weather, ttlSeconds);
+    }
+    
+    @Override
+    public WeatherResponse getWeatherInfo(String key) {
+        return get(key, WeatherResponse.class);
+    }
+    
+    @Override
+    public void cacheRouteInfo(String key, RouteResponse route, int ttlSeconds) {
+        redisCacheService.cacheRouteInfo(key, route, ttlSeconds);
+        putLocalAndPublish(key, route, ttlSeconds);
+    }
+    
+    @Override
+    public RouteResponse getRouteInfo(String key) {
+        return get(key, RouteResponse.class);
+    }
+    
+    @Override
+    public void cacheObject(String key, Object value, int ttlSeconds) {
+        // 상태값 등 다른 Pod에서 갱신되는 객체는 L1에 보관하지 않고 Redis에만 저장
+        redisCacheService.cacheObject(key, value, ttlSeconds);
+    }
+    
+    @Override
+    public Object getObject(String key) {
+        Object value = redisCacheService.getObject(key);
+        recordL2(value != null);
+        return value;
+    }
+    
+    @Override
+    public void evictCache(String key) {
+        redisCacheService.evictCache(key);
+        invalidateLocal(key);
+        publishInvalidation(INVALIDATE_KEY + key);
+    }
+    
+    @Override
+    public void evictLocationCache(String placeId) {
+        // 태그 인덱스로 삭제된 키(셀 후보 포함)와 장소 키 패턴을 모든 Pod의 L1에서 제거
+        try {
+            Set<String> evictedKeys = redisCacheService.evictTag(RedisCacheService.placeTag(placeId));
+            evictedKeys.forEach(this::invalidateLocal);
+            evictedKeys.forEach(key -> publishInvalidation(INVALIDATE_KEY + key));
+            redisCacheService.evictUntaggedLocationCache(placeId);
+        } catch (Exception e) {
+            log.error("Error evicting location cache: placeId={}", placeId, e);
+        }
+        invalidateLocalPlace(placeId);
+        publishInvalidation(INVALIDATE_PLACE + placeId);
+    }
+    
+    @Override
+    public String[] getLocationCacheKeys(String placeId) {
+        return redisCacheService.getLocationCacheKeys(placeId);
+    }
+    
+    @Override
+    public void evictCacheByPattern(String pattern) {
+        redisCacheService.evictCacheByPattern(pattern);
+        invalidateLocalPattern(pattern);
+        publishInvalidation(INVALIDATE_PATTERN + pattern);
+    }
+    
+    @Override
+    public Object getCacheStatistics() {
+        CacheStats stats = localCache.stats();
+        Map<String, Object> l1 = new LinkedHashMap<>();
+        l1.put("hitCount", stats.hitCount());
+        l1.put("missCount", stats.missCount());
+        l1.put("hitRate", stats.hitRate());
+        l1.put("evictionCount", stats.evictionCount());
+        l1.put("evictionWeight", stats.evictionWeight());
+        l1.put("estimatedSize", localCache.estimatedSize());
+        l1.put("maxWeightBytes", maxWeightBytes);
+        
+        Map<String, Object> l2 = new LinkedHashMap<>();
+        l2.put("hitCount", (long) meterRegistry.counter("location.cache.l2", "result", "hit").count());
+        l2.put("missCount", (long) meterRegistry.counter("location.cache.l2", "result", "miss").count());
+        l2.put("redis", redisCacheService.getCacheStatistics());
+        
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("status", "active");
+        statistics.put("l1", l1);
+        statistics.put("l2", l2);
+        return statistics;
+    }
+    
+    /**
+     * 다른 Pod에서 발행한 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            log.warn("Unknown cache invalidation message: {}", payload);
+            return;
+        }
+        
+        // 자신이 발행한 메시지는 이미 로컬에 반영되어 있으므로 무시
+        if (instanceId.equals(payload.substring(0, separator))) {
+            return;
+        }
+        
+        String body = payload.substring(separator + 1);
+        log.debug("Received cache invalidation: {}", body);
+        
+        if (body.startsWith(INVALIDATE_KEY)) {
+            invalidateLocal(body.substring(INVALIDATE_KEY.length()));
+        } else if (body.startsWith(INVALIDATE_PATTERN)) {
+            invalidateLocalPattern(body.substring(INVALIDATE_PATTERN.length()));
+        } else if (body.startsWith(INVALIDATE_PLACE)) {
+            invalidateLocalPlace(body.substring(INVALIDATE_PLACE.length()));
+        } else {
+            log.warn("Unknown cache invalidation message: {}", body);
+        }
+    }
+    
+    // Helper methods
+    
+    private <T> T get(String key, Class<T> type) {
+        CachedValue cached = localCache.getIfPresent(key);
+        if (cached != null && type.isInstance(cached.value())) {
+            return type.cast(cached.value());
+        }
+        
+        RedisCacheService.SizedValue<T> loaded = redisCacheService.getSized(key, type);
+        recordL2(loaded != null);
+        if (loaded == null) {
+            return null;
+        }
+        // Redis의 남은 TTL을 알 수 없으므로 L1 최대 TTL만 적용, 가중치는 Redis에서 읽은 바이트 크기 사용
+        putLocal(key, loaded.value(), loaded.sizeBytes(), maxL1TtlSeconds);
+        return loaded.value();
+    }
+    
+    private void putLocal(String key, Object value, int weight, int ttlSeconds) {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(Math.min(ttlSeconds, maxL1TtlSeconds));
+        localCache.put(key, new CachedValue(value, weight, ttlNanos));
+    }
+    
+    /**
+     * 값 갱신 시 로컬 L1에 저장하고 다른 Pod의 L1 복사본은 무효화
+     */
+    private void putLocalAndPublish(String key, Object value, int ttlSeconds) {
+        if (value != null) {
+            try {
+                putLocal(key, value, objectMapper.writeValueAsBytes(value).length, ttlSeconds);
+            } catch (Exception e) {
+                log.error("Error caching value in L1: key={}", key, e);
+            }
+        }
+        publishInvalidation(INVALIDATE_KEY + key);
+    }
+    
+    private void recordL2(boolean hit) {
+        meterRegistry.counter("location.cache.l2", "result", hit ? "hit" : "miss").increment();
+    }
+    
+    private void invalidateLocal(String key) {
+        localCache.invalidate(key);
+    }
+    
+    private void invalidateLocalPlace(String placeId) {
+        for (String pattern : RedisCacheService.locationCachePatterns(placeId)) {
+            invalidateLocalPattern(pattern);
+        }
+    }
+    
+    private void invalidateLocalPattern(String pattern) {
+        Pattern regex = globToRegex(pattern);
+        localCache.asMap().keySet().removeIf(key -> regex.matcher(key).matches());
+    }
+    
+    private void publishInvalidation(String message) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, instanceId + MESSAGE_SEPARATOR + message);
+        } catch (Exception e) {
+            log.error("Error publishing cache invalidation: {}", message, e);
+        }
+    }
+    
+    /**
+     * Redis glob 패턴(*, ?)을 정규식으로 변환
+     */
+    private Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,153 @@
+package com.unicorn.tripgen.location.util;
+
+/**
+ * Geohash 기반 공간 셀 유틸리티 클래스
+ * 주변 검색 캐시에서 요청 좌표를 셀 단위로 묶기 위해 사용
+ */
+public final class GeoHashUtils {
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    public static final int MIN_PRECISION = 3;
+    public static final int MAX_PRECISION = 8;
+
+    /**
+     * private 생성자 - 유틸리티 클래스이므로 인스턴스 생성 방지
+     */
+    private GeoHashUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 좌표를 geohash 문자열로 인코딩
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param precision geohash 길이
+     * @return geohash 문자열
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLng = mid;
+                } else {
+                    index = index << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * geohash 셀의 중심 좌표 계산
+     *
+     * @param geohash geohash 문자열
+     * @return 중심 좌표 (위도, 경도)
+     */
+    public static double[] decodeCenter(String geohash) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+        boolean evenBit = true;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            int index = BASE32.indexOf(geohash.charAt(i));
+            if (index < 0) {
+                throw new IllegalArgumentException("잘못된 geohash 문자입니다: " + geohash.charAt(i));
+            }
+            for (int shift = 4; shift >= 0; shift--) {
+                int bitValue = (index >> shift) & 1;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (bitValue == 1) minLng = mid; else maxLng = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (bitValue == 1) minLat = mid; else maxLat = mid;
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{(minLat + maxLat) / 2, (minLng + maxLng) / 2};
+    }
+
+    /**
+     * 셀 중심에서 꼭짓점까지의 거리 (km)
+     *
+     * @param precision geohash 길이
+     * @param latitude 기준 위도 (경도 방향 폭 보정용)
+     * @return 셀 대각선 길이의 절반 (km)
+     */
+    public static double cellHalfDiagonalKm(int precision, double latitude) {
+        int totalBits = precision * 5;
+        int lngBits = (totalBits + 1) / 2;
+        int latBits = totalBits / 2;
+        double heightKm = 180.0 / Math.pow(2, latBits) * KM_PER_DEGREE;
+        double widthKm = 360.0 / Math.pow(2, lngBits) * KM_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+        return Math.sqrt(heightKm * heightKm + widthKm * widthKm) / 2;
+    }
+
+    /**
+     * 검색 반경에 맞는 geohash 길이 선택
+     * 셀 반대각선이 (반경 × 비율) 이하가 되는 가장 큰 셀을 선택
+     *
+     * @param radiusKm 검색 반경 (km)
+     * @param latitude 기준 위도
+     * @param cellRadiusRatio 반경 대비 허용 셀 크기 비율
+     * @return geohash 길이
+     */
+    public static int precisionForRadius(double radiusKm, double latitude, double cellRadiusRatio) {
+        double maxHalfDiagonalKm = radiusKm * cellRadiusRatio;
+        for (int precision = MIN_PRECISION; precision < MAX_PRECISION; precision++) {
+            if (cellHalfDiagonalKm(precision, latitude) <= maxHalfDiagonalKm) {
+                return precision;
+            }
+        }
+        return MAX_PRECISION;
+    }
+
+    /**
+     * Haversine 공식을 사용한 두 좌표 간 거리 계산 (km)
+     *
+     * @param lat1 시작 위도
+     * @param lng1 시작 경도
+     * @param lat2 도착 위도
+     * @param lng2 도착 경도
+     * @return 거리 (km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
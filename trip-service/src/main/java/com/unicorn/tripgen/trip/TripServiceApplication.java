@@ -1,9 +1,11 @@
 package com.unicorn.tripgen.trip;
 
+import com.unicorn.tripgen.common.config.VirtualThreadPinningMonitor;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 
 /**
  * Trip Service Application
@@ -12,6 +14,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @SpringBootApplication
 @EnableFeignClients
 @EnableCaching
+@Import(VirtualThreadPinningMonitor.class)
 public class TripServiceApplication {
     
     public static void main(String[] args) {
@@ -9,7 +9,10 @@ import java.util.Objects;
  * 여행지 도메인 엔티티
  */
 @Entity
-@Table(name = "destinations")
+@Table(name = "destinations", indexes = {
+    // 여행 목록의 개수 서브쿼리 및 여행별 조회
+    @Index(name = "idx_destinations_trip_id", columnList = "trip_id")
+})
 public class Destination {
     @Id
     @Column(name = "destination_id")
@@ -93,6 +96,10 @@ public class Destination {
         this.checkInTime = checkInTime;
         this.checkOutTime = checkOutTime;
         calculateDates();
+        // 여행지는 여행 저장 시 함께 저장되므로 여행에 변경을 알림
+        if (trip != null) {
+            trip.markDestinationChanged();
+        }
     }
     
     /**
@@ -1,7 +1,11 @@
 package com.unicorn.tripgen.trip.biz.domain;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -9,7 +13,10 @@ import java.util.Objects;
  * 여행 멤버 도메인 엔티티
  */
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+    // 여행 목록의 개수 서브쿼리 및 여행별 조회
+    @Index(name = "idx_members_trip_id", columnList = "trip_id")
+})
 public class Member {
     @Id
     @Column(name = "member_id")
@@ -41,6 +48,10 @@ public class Member {
     @Column(name = "preference")
     private List<Preference> preferences = new ArrayList<>();
     
+    // 저장 시 Spring Data가 발행하는 여행 변경 이벤트 (상세 조회 캐시 무효화용)
+    @Transient
+    private List<TripChangedEvent> domainEvents = new ArrayList<>();
+    
     // JPA 기본 생성자
     protected Member() {}
     
@@ -62,6 +73,7 @@ public class Member {
         if (preferences != null) {
             member.preferences.addAll(preferences);
         }
+        member.registerTripChange();
         return member;
     }
     
@@ -75,6 +87,7 @@ public class Member {
         if (preferences != null) {
             member.preferences.addAll(preferences);
         }
+        member.registerTripChange();
         return member;
     }
     
@@ -100,6 +113,23 @@ public class Member {
         if (preferences != null) {
             this.preferences.addAll(preferences);
         }
+        registerTripChange();
+    }
+    
+    private void registerTripChange() {
+        if (domainEvents.isEmpty()) {
+            domainEvents.add(new TripChangedEvent(tripId));
+        }
+    }
+    
+    @DomainEvents
+    Collection<TripChangedEvent> domainEvents() {
+        return List.copyOf(domainEvents);
+    }
+    
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        domainEvents.clear();
     }
     
     /**
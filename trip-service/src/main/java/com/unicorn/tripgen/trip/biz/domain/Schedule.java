@@ -1,6 +1,8 @@
 package com.unicorn.tripgen.trip.biz.domain;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -10,8 +12,11 @@ import java.util.Objects;
  * 일정 도메인 엔티티
  */
 @Entity
-@Table(name = "schedules")
-public class Schedule {
+@Table(name = "schedules", indexes = {
+    // 일차별 조회 및 일차 단위 교체
+    @Index(name = "idx_schedules_trip_day", columnList = "trip_id, day")
+})
+public class Schedule implements Persistable<String> {
     @Id
     @Column(name = "schedule_id")
     private String scheduleId;
@@ -34,6 +39,14 @@ public class Schedule {
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<SchedulePlace> places;
     
+    // 이 일정을 만든 AI 생성 요청 ID (같은 생성 결과를 중복 저장하지 않도록 확인)
+    @Column(name = "generation_request_id")
+    private String generationRequestId;
+    
+    // 새로 생성한 일정이면 saveAll 시 merge(SELECT) 없이 바로 INSERT
+    @Transient
+    private boolean isNew = true;
+    
     // JPA 기본 생성자
     protected Schedule() {
         this.places = new ArrayList<>();
@@ -78,6 +91,7 @@ public class Schedule {
         if (places.size() >= 20) {
             throw new IllegalStateException("하루 일정에는 최대 20개의 장소만 포함할 수 있습니다");
         }
+        place.assignSchedule(this);
         this.places.add(place);
     }
     
@@ -121,6 +135,13 @@ public class Schedule {
         this.places.addAll(newPlaces);
     }
     
+    /**
+     * 생성 요청 ID 기록
+     */
+    public void markGeneratedBy(String requestId) {
+        this.generationRequestId = requestId;
+    }
+    
     /**
      * 총 예상 소요 시간 계산 (분)
      */
@@ -201,6 +222,26 @@ public class Schedule {
         return new ArrayList<>(places);
     }
     
+    public String getGenerationRequestId() {
+        return generationRequestId;
+    }
+    
+    @Override
+    public String getId() {
+        return scheduleId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
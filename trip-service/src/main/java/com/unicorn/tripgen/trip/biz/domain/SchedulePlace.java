@@ -8,7 +8,10 @@ import java.util.Objects;
  * 일정 내 장소 도메인 엔티티
  */
 @Entity
-@Table(name = "schedule_places")
+@Table(name = "schedule_places", indexes = {
+    // 일정별 장소 조회 및 일차 단위 삭제
+    @Index(name = "idx_schedule_places_schedule_id", columnList = "schedule_id")
+})
 public class SchedulePlace {
     @Id
     @Column(name = "place_id")
@@ -21,6 +24,10 @@ public class SchedulePlace {
     @Column(name = "schedule_id", insertable = false, updatable = false)
     private String scheduleId;
     
+    // AI 응답/Google Places의 장소 ID (여러 일차/여행에 같은 값이 올 수 있어 키로 사용하지 않음)
+    @Column(name = "external_place_id")
+    private String externalPlaceId;
+    
     @Column(name = "place_name", nullable = false)
     private String placeName;
     
@@ -100,6 +107,20 @@ public class SchedulePlace {
         this.order = order;
     }
     
+    /**
+     * 외부 장소 ID 연결
+     */
+    public void linkExternalPlace(String externalPlaceId) {
+        this.externalPlaceId = externalPlaceId;
+    }
+    
+    /**
+     * 소속 일정 설정 (Schedule.addPlace에서 호출 - schedule_id 컬럼은 이 연관관계로 저장됨)
+     */
+    void assignSchedule(Schedule schedule) {
+        this.schedule = schedule;
+    }
+    
     /**
      * 교통 정보 업데이트
      */
@@ -172,6 +193,10 @@ public class SchedulePlace {
         return scheduleId;
     }
     
+    public String getExternalPlaceId() {
+        return externalPlaceId;
+    }
+    
     public String getPlaceName() {
         return placeName;
     }
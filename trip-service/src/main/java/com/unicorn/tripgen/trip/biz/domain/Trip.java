@@ -1,18 +1,29 @@
 package com.unicorn.tripgen.trip.biz.domain;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * 여행 도메인 엔티티
  * Clean Architecture의 Domain Layer에 속하며 핵심 비즈니스 규칙을 포함
  */
 @Entity
-@Table(name = "trips")
+@Table(name = "trips", indexes = {
+    // 목록 조회 키셋 페이지네이션 (user_id, created_at, trip_id)
+    @Index(name = "idx_trips_user_created", columnList = "user_id, created_at, trip_id"),
+    // 이름순 목록 조회 (검색어 부분 일치는 TripSearchIndexInitializer의 trigram 인덱스 사용)
+    @Index(name = "idx_trips_user_name", columnList = "user_id, trip_name, trip_id")
+})
 public class Trip {
     @Id
     @Column(name = "trip_id")
@@ -59,6 +70,10 @@ public class Trip {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    // 저장 시 Spring Data가 발행하는 변경 이벤트 (상세 조회 캐시 무효화용)
+    @Transient
+    private List<TripChangedEvent> domainEvents = new ArrayList<>();
+    
     // JPA 기본 생성자
     protected Trip() {}
     
@@ -106,7 +121,7 @@ public class Trip {
     public void updateBasicInfo(String tripName, TransportMode transportMode) {
         this.tripName = validateTripName(tripName);
         this.transportMode = Objects.requireNonNull(transportMode, "교통수단은 필수입니다");
-        this.updatedAt = LocalDateTime.now();
+        markUpdated();
     }
     
     /**
@@ -114,7 +129,7 @@ public class Trip {
      */
     public void setDescription(String description) {
         this.description = description != null ? description.trim() : null;
-        this.updatedAt = LocalDateTime.now();
+        markUpdated();
     }
     
     /**
@@ -126,7 +141,7 @@ public class Trip {
         }
         this.startDate = startDate;
         this.endDate = endDate;
-        this.updatedAt = LocalDateTime.now();
+        markUpdated();
     }
     
     /**
@@ -138,7 +153,7 @@ public class Trip {
             throw new IllegalStateException("여행 멤버는 최대 10명까지 가능합니다");
         }
         this.members.add(member);
-        this.updatedAt = LocalDateTime.now();
+        markUpdated();
     }
     
     /**
@@ -147,7 +162,7 @@ public class Trip {
     public void removeMember(String memberId) {
         boolean removed = members.removeIf(member -> member.getMemberId().equals(memberId));
         if (removed) {
-            this.updatedAt = LocalDateTime.now();
+            markUpdated();
         }
     }
     
@@ -163,7 +178,7 @@ public class Trip {
         // JPA 양방향 관계 설정 - 매우 중요!
         destination.setTrip(this);
         updateTravelDates();
-        this.updatedAt = LocalDateTime.now();
+        markUpdated();
     }
     
     /**
@@ -180,36 +195,46 @@ public class Trip {
         });
         if (removed) {
             updateTravelDates();
-            this.updatedAt = LocalDateTime.now();
+            markUpdated();
         }
     }
     
     /**
-     * 여행지 일괄 업데이트 (JPA 양방향 관계 설정) - 날짜 계산은 Service Layer에서 처리
+     * 여행지 일괄 병합 (JPA 양방향 관계 설정) - 날짜 계산은 Service Layer에서 처리
+     * 목록에 없는 기존 여행지는 제거하고 새 여행지만 추가하며, 유지되는 여행지는 같은 엔티티를 그대로 사용하므로
+     * 변경된 행만 UPDATE 됨 (전체 삭제 후 재삽입하지 않음)
      */
-    public void updateDestinations(List<Destination> newDestinations) {
-        Objects.requireNonNull(newDestinations, "여행지 목록은 필수입니다");
-        if (newDestinations.size() > 10) {
+    public void mergeDestinations(List<Destination> orderedDestinations) {
+        Objects.requireNonNull(orderedDestinations, "여행지 목록은 필수입니다");
+        if (orderedDestinations.size() > 10) {
             throw new IllegalStateException("여행지는 최대 10개까지 가능합니다");
         }
         
-        // 기존 여행지들의 관계 해제
-        for (Destination dest : this.destinations) {
-            dest.setTrip(null);
+        Set<String> keepIds = new HashSet<>();
+        for (Destination dest : orderedDestinations) {
+            keepIds.add(dest.getDestinationId());
         }
         
-        this.destinations.clear();
+        // 목록에서 빠진 여행지 관계 해제 (orphanRemoval로 삭제)
+        Set<String> currentIds = new HashSet<>();
+        destinations.removeIf(dest -> {
+            if (!keepIds.contains(dest.getDestinationId())) {
+                dest.setTrip(null);
+                return true;
+            }
+            currentIds.add(dest.getDestinationId());
+            return false;
+        });
         
-        // 새 여행지들의 관계 설정
-        for (Destination dest : newDestinations) {
-            dest.setTrip(this);
+        // 새 여행지 관계 설정
+        for (Destination dest : orderedDestinations) {
+            if (!currentIds.contains(dest.getDestinationId())) {
+                dest.setTrip(this);
+                destinations.add(dest);
+            }
         }
         
-        this.destinations.addAll(newDestinations);
-        
-        // 일괄 업데이트에서는 날짜 계산을 Service Layer에 위임
-        // updateTravelDates()를 호출하지 않음 (recalculateDestinationDates에서 처리)
-        this.updatedAt = LocalDateTime.now();
+        markUpdated();
     }
     
     /**
@@ -218,7 +243,7 @@ public class Trip {
     public void markScheduleCreated() {
         this.hasSchedule = true;
         this.currentStep = "일정생성완료";
-        this.updatedAt = LocalDateTime.now();
+        markUpdated();
     }
     
     /**
@@ -226,7 +251,34 @@ public class Trip {
      */
     public void changeStatus(TripStatus newStatus) {
         this.status = Objects.requireNonNull(newStatus, "여행 상태는 필수입니다");
+        markUpdated();
+    }
+    
+    /**
+     * 변경 시각 갱신 및 변경 이벤트 등록
+     */
+    private void markUpdated() {
         this.updatedAt = LocalDateTime.now();
+        if (domainEvents.isEmpty()) {
+            domainEvents.add(new TripChangedEvent(tripId));
+        }
+    }
+    
+    /**
+     * 소속 여행지 정보 변경 반영 (Destination에서 호출)
+     */
+    void markDestinationChanged() {
+        markUpdated();
+    }
+    
+    @DomainEvents
+    Collection<TripChangedEvent> domainEvents() {
+        return List.copyOf(domainEvents);
+    }
+    
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        domainEvents.clear();
     }
     
     /**
@@ -0,0 +1,8 @@
+package com.unicorn.tripgen.trip.biz.domain;
+
+/**
+ * 여행 애그리거트 변경 이벤트
+ * 여행/멤버/여행지 변경이 커밋된 후 상세 조회 캐시를 무효화하는 데 사용
+ */
+public record TripChangedEvent(String tripId) {
+}
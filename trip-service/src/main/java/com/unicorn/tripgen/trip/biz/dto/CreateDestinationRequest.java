@@ -16,6 +16,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class CreateDestinationRequest {
     
+    // 일괄 업데이트에서만 사용: 유지할 기존 여행지 ID (없으면 새 여행지로 추가)
+    private String destinationId;
+    
     @NotBlank(message = "여행지명은 필수입니다")
     @Size(max = 20, message = "여행지명은 20자 이하여야 합니다")
     private String destinationName;
@@ -11,7 +11,8 @@ public record TripListResponse(
     List<TripSummaryDto> trips,
     int totalCount,
     int currentPage,
-    int totalPages
+    int totalPages,
+    String nextCursor
 ) {
     public static TripListResponse from(TripUseCase.TripListResult result) {
         List<TripSummaryDto> trips = result.trips().stream()
@@ -22,7 +23,8 @@ public record TripListResponse(
             trips,
             result.totalCount(),
             result.currentPage(),
-            result.totalPages()
+            result.totalPages(),
+            result.nextCursor()
         );
     }
     
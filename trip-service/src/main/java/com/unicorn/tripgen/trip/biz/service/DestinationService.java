@@ -5,6 +5,8 @@ import com.unicorn.tripgen.trip.biz.domain.Trip;
 import com.unicorn.tripgen.trip.biz.usecase.in.DestinationUseCase;
 import com.unicorn.tripgen.trip.biz.usecase.out.TripRepository;
 import com.unicorn.tripgen.trip.biz.exception.TripNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,7 +14,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -22,6 +27,7 @@ import java.util.UUID;
 public class DestinationService implements DestinationUseCase {
     
     private final TripRepository tripRepository;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public List<Destination> getTripDestinations(String tripId, String userId) {
@@ -130,6 +136,14 @@ public class DestinationService implements DestinationUseCase {
      */
     private void recalculateDestinationDates(Trip trip) {
         List<Destination> destinations = trip.getDestinations();
+        destinations.sort(Comparator.comparingInt(Destination::getOrder));
+        recalculateDestinationDates(trip, destinations);
+    }
+    
+    /**
+     * 정렬된 여행지 목록의 날짜를 한 번에 재계산
+     */
+    private void recalculateDestinationDates(Trip trip, List<Destination> destinations) {
         if (destinations.isEmpty()) return;
         
         // 첫 번째 여행지는 Trip의 startDate부터 시작
@@ -219,74 +233,79 @@ public class DestinationService implements DestinationUseCase {
     @Transactional
     public DestinationsBatchResult updateDestinationsBatch(UpdateDestinationsBatchCommand command) {
         log.info("Batch updating destinations for trip: {}", command.tripId());
+        Timer.Sample sample = Timer.start(meterRegistry);
         
         // 1. Trip 조회
         Trip trip = tripRepository.findByIdAndUserId(command.tripId(), command.userId())
             .orElseThrow(() -> new TripNotFoundException(command.tripId(), command.userId()));
         
-        log.info("Trip retrieved - ID: {}, Name: {}, StartDate: {}", 
-                 trip.getTripId(), trip.getTripName(), trip.getStartDate());
-        
-        // 2. 기존 Trip의 startDate 보존 (재계산 시 필요)
-        LocalDate originalStartDate = trip.getStartDate();
-        log.info("Trip startDate before update: {}", originalStartDate);
-        if (originalStartDate == null) {
+        // 2. 날짜 재계산 기준인 startDate 확인
+        if (trip.getStartDate() == null) {
             log.error("Trip startDate is null - Trip: {}, User: {}", command.tripId(), command.userId());
             throw new IllegalStateException("여행지 일괄 업데이트를 위해서는 여행 시작일이 먼저 설정되어야 합니다");
         }
         
-        // 3. 새로운 여행지 목록 생성
-        List<Destination> newDestinations = new ArrayList<>();
+        // 3. 요청 목록을 메모리에서 적용 (기존 여행지는 수정/순서 변경, ID가 없으면 새 여행지)
+        Map<String, Destination> existing = new HashMap<>();
+        for (Destination dest : trip.getDestinations()) {
+            existing.put(dest.getDestinationId(), dest);
+        }
+        
+        List<Destination> orderedDestinations = new ArrayList<>();
         int totalNights = 0;
+        int created = 0;
         
         for (DestinationInfo info : command.destinations()) {
-            String destinationId = UUID.randomUUID().toString();
-            int order = newDestinations.size() + 1;
-            Destination destination = Destination.create(
-                destinationId,
-                command.tripId(),
-                info.destinationName(),
-                info.nights(),
-                info.accommodation(),
-                info.checkInTime(),
-                info.checkOutTime(),
-                order
-            );
-            newDestinations.add(destination);
+            int order = orderedDestinations.size() + 1;
+            Destination destination;
+            if (info.destinationId() != null && !info.destinationId().isBlank()) {
+                destination = existing.remove(info.destinationId());
+                if (destination == null) {
+                    throw new IllegalArgumentException("여행지를 찾을 수 없습니다: " + info.destinationId());
+                }
+                destination.updateInfo(info.destinationName(), info.nights(),
+                                      info.accommodation(), info.checkInTime(), info.checkOutTime());
+                destination.updateOrder(order);
+            } else {
+                destination = Destination.create(
+                    UUID.randomUUID().toString(),
+                    command.tripId(),
+                    info.destinationName(),
+                    info.nights(),
+                    info.accommodation(),
+                    info.checkInTime(),
+                    info.checkOutTime(),
+                    order
+                );
+                created++;
+            }
+            orderedDestinations.add(destination);
             totalNights += info.nights();
         }
         
-        // 4. Trip의 여행지 목록을 새로운 목록으로 일괄 교체 (JPA 양방향 관계 설정 포함)
-        trip.updateDestinations(newDestinations);
-        log.info("Trip startDate after updateDestinations: {}", trip.getStartDate());
-        
-        // 5. Trip의 startDate 복원 (updateDestinations에서 손실될 가능성 대비)
-        if (trip.getStartDate() == null) {
-            log.info("Restoring startDate from {} to {}", trip.getStartDate(), originalStartDate);
-            trip.setTravelDates(originalStartDate, null);
-        }
+        // 4. 목록에 없는 여행지 제거 및 새 여행지 추가 (유지되는 여행지는 삭제/재삽입하지 않음)
+        trip.mergeDestinations(orderedDestinations);
         
-        // 6. 날짜 재계산
-        log.info("Trip startDate before recalculate: {}", trip.getStartDate());
-        recalculateDestinationDates(trip);
+        // 5. 날짜 체인은 모든 변경을 적용한 뒤 한 번만 재계산
+        recalculateDestinationDates(trip, orderedDestinations);
         
-        // 7. Trip 저장 (cascade로 destinations도 함께 저장)
+        // 6. Trip 저장 - 커밋 시 한 번의 flush로 INSERT/UPDATE/DELETE를 JDBC 배치로 전송
         tripRepository.save(trip);
         
-        // 6. 결과 반환
         LocalDate startDate = trip.getStartDate();
         LocalDate endDate = trip.getEndDate();
         
-        log.info("Batch update completed - {} destinations, total nights: {}", 
-                 newDestinations.size(), totalNights);
+        sample.stop(meterRegistry.timer("trip.destinations.batch.update"));
+        log.info("Batch update completed - {} destinations (created: {}, removed: {}), total nights: {}",
+                 orderedDestinations.size(), created, existing.size(), totalNights);
         
         return new DestinationsBatchResult(
             command.tripId(),
-            newDestinations,
+            orderedDestinations,
             totalNights,
             startDate != null ? startDate.toString() : null,
             endDate != null ? endDate.toString() : null,
             LocalDate.now().toString()
         );
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,8 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -19,6 +21,8 @@ import java.util.stream.Collectors;
 @Service
 public class ScheduleGenerationService {
     
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    
     private final AiServiceClient aiServiceClient;
     private final LocationServiceClient locationServiceClient;
     
@@ -36,11 +40,14 @@ public class ScheduleGenerationService {
         // 여행 정보를 AI 서비스 요청 형태로 변환
         AiServiceClient.ScheduleGenerationRequest request = new AiServiceClient.ScheduleGenerationRequest(
             trip.getTripId(),
+            trip.getTripName(),
             trip.getUserId(),
-            extractDestinationNames(trip.getDestinations()),
-            convertMemberProfiles(trip.getMembers()),
             trip.getTransportMode().name().toLowerCase(),
-            startTime,
+            formatTime(startTime),
+            convertMemberProfiles(trip.getMembers()),
+            convertDestinations(trip.getDestinations()),
+            trip.getStartDate(),
+            trip.getEndDate(),
             specialRequests
         );
         
@@ -61,11 +68,13 @@ public class ScheduleGenerationService {
             WeatherInfo weatherInfo = convertWeatherInfo(generated.weather());
             
             // 일정 생성
-            Schedule schedule = Schedule.create(scheduleId, tripId, generated.day(), date, generated.city(), weatherInfo);
+            Schedule schedule = Schedule.create(scheduleId, tripId, generated.day(), date,
+                                                generated.destinationName(), weatherInfo);
             
-            // 장소 정보 변환 및 추가
-            for (AiServiceClient.SchedulePlace aiPlace : generated.places()) {
-                SchedulePlace place = convertSchedulePlace(scheduleId, aiPlace);
+            // 장소 정보 변환 및 추가 (응답의 장소 목록 순서가 방문 순서)
+            List<AiServiceClient.SchedulePlace> places = generated.places() != null ? generated.places() : List.of();
+            for (int i = 0; i < places.size(); i++) {
+                SchedulePlace place = convertSchedulePlace(scheduleId, places.get(i), i + 1);
                 schedule.addPlace(place);
             }
             
@@ -76,12 +85,45 @@ public class ScheduleGenerationService {
     }
     
     /**
-     * 일자별 일정 재생성 요청
+     * 일정 생성 상태 조회
+     */
+    public Optional<AiServiceClient.GenerationStatus> getGenerationStatus(String requestId) {
+        return aiServiceClient.getGenerationStatus(requestId);
+    }
+    
+    /**
+     * 생성 완료된 일정을 조회하여 도메인 객체로 변환 (생성 요청 ID 기록)
+     */
+    public List<Schedule> fetchGeneratedSchedules(String tripId, String requestId) {
+        AiServiceClient.GeneratedScheduleResult generated = aiServiceClient.getGeneratedSchedule(requestId);
+        if (generated == null || generated.schedules() == null || generated.schedules().isEmpty()) {
+            return List.of();
+        }
+        
+        List<Schedule> schedules = convertToSchedules(tripId, generated.schedules());
+        schedules.forEach(schedule -> schedule.markGeneratedBy(requestId));
+        return schedules;
+    }
+    
+    /**
+     * 일자별 일정 재생성 요청 (연속성 유지를 위해 다른 일차의 장소 목록을 함께 전달)
      */
     public AiServiceClient.ScheduleGenerationResponse regenerateDaySchedule(
-            String tripId, int day, String specialRequests) {
+            String tripId, int day, String specialRequests, List<Schedule> existingSchedules) {
+        
+        List<AiServiceClient.ExistingSchedule> existing = existingSchedules.stream()
+            .filter(schedule -> schedule.getDay() != day)
+            .map(schedule -> new AiServiceClient.ExistingSchedule(
+                schedule.getDay(),
+                schedule.getPlaces().stream()
+                        .map(SchedulePlace::getPlaceName)
+                        .collect(Collectors.toList())
+            ))
+            .collect(Collectors.toList());
         
-        return aiServiceClient.regenerateDaySchedule(tripId, day, specialRequests);
+        return aiServiceClient.regenerateDaySchedule(
+            new AiServiceClient.RegenerationRequest(tripId, day, existing, specialRequests)
+        );
     }
     
     /**
@@ -102,14 +144,29 @@ public class ScheduleGenerationService {
     }
     
     /**
-     * 여행지 이름 목록 추출
+     * 여행지 정보 변환
      */
-    private List<String> extractDestinationNames(List<Destination> destinations) {
+    private List<AiServiceClient.DestinationInfo> convertDestinations(List<Destination> destinations) {
         return destinations.stream()
-                          .map(Destination::getDestinationName)
+                          .map(destination -> new AiServiceClient.DestinationInfo(
+                              destination.getDestinationName(),
+                              destination.getNights(),
+                              destination.getStartDate(),
+                              destination.getEndDate(),
+                              destination.getAccommodation(),
+                              formatTime(destination.getCheckInTime()),
+                              formatTime(destination.getCheckOutTime())
+                          ))
                           .collect(Collectors.toList());
     }
     
+    /**
+     * 시간을 HH:mm 문자열로 변환
+     */
+    private String formatTime(LocalTime time) {
+        return time != null ? time.format(TIME_FORMATTER) : null;
+    }
+    
     /**
      * 멤버 프로필 변환
      */
@@ -131,21 +188,21 @@ public class ScheduleGenerationService {
      * 날씨 정보 변환
      */
     private WeatherInfo convertWeatherInfo(AiServiceClient.WeatherInfo aiWeather) {
-        if (aiWeather == null) {
+        if (aiWeather == null || aiWeather.temperature() == null
+                || aiWeather.temperature().min() == null || aiWeather.temperature().max() == null) {
             return null;
         }
         return WeatherInfo.of(
             aiWeather.condition(),
-            aiWeather.minTemperature(),
-            aiWeather.maxTemperature(),
-            aiWeather.icon()
+            aiWeather.temperature().min(),
+            aiWeather.temperature().max()
         );
     }
     
     /**
      * 일정 장소 변환
      */
-    private SchedulePlace convertSchedulePlace(String scheduleId, AiServiceClient.SchedulePlace aiPlace) {
+    private SchedulePlace convertSchedulePlace(String scheduleId, AiServiceClient.SchedulePlace aiPlace, int order) {
         LocalTime startTime = LocalTime.parse(aiPlace.startTime());
         
         // 교통 정보 변환
@@ -171,8 +228,9 @@ public class ScheduleGenerationService {
             );
         }
         
-        return SchedulePlace.create(
-            aiPlace.placeId(),
+        // 일정 장소 ID는 항상 새로 발급 (AI 응답의 장소 ID는 외부 ID로만 보관)
+        SchedulePlace place = SchedulePlace.create(
+            UUID.randomUUID().toString(),
             scheduleId,
             aiPlace.placeName(),
             aiPlace.category(),
@@ -180,8 +238,10 @@ public class ScheduleGenerationService {
             aiPlace.duration(),
             transportation,
             healthConsideration,
-            aiPlace.order()
+            order
         );
+        place.linkExternalPlace(aiPlace.placeId());
+        return place;
     }
     
     /**
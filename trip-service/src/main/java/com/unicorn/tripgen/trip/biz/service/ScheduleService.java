@@ -1,63 +1,113 @@
 package com.unicorn.tripgen.trip.biz.service;
 
 import com.unicorn.tripgen.trip.biz.domain.Schedule;
+import com.unicorn.tripgen.trip.biz.domain.Trip;
+import com.unicorn.tripgen.trip.biz.exception.TripNotFoundException;
+import com.unicorn.tripgen.trip.biz.exception.UnauthorizedAccessException;
 import com.unicorn.tripgen.trip.biz.usecase.in.ScheduleUseCase;
+import com.unicorn.tripgen.trip.biz.usecase.out.AiServiceClient;
+import com.unicorn.tripgen.trip.biz.usecase.out.GenerationRequestStore;
+import com.unicorn.tripgen.trip.biz.usecase.out.ScheduleRepository;
+import com.unicorn.tripgen.trip.biz.usecase.out.TripRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ScheduleService implements ScheduleUseCase {
+    
+    private static final String STATUS_COMPLETED = "completed";
+    private static final String STATUS_FAILED = "failed";
+    private static final String STATUS_CANCELLED = "cancelled";
+    
+    private final ScheduleRepository scheduleRepository;
+    private final TripRepository tripRepository;
+    private final ScheduleGenerationService scheduleGenerationService;
+    private final GenerationRequestStore generationRequestStore;
+    private final MeterRegistry meterRegistry;
 
     @Override
-    @Transactional
     public GenerateScheduleResult generateSchedule(GenerateScheduleCommand command) {
         log.info("Generating schedule for trip: {}", command.tripId());
         
-        String requestId = UUID.randomUUID().toString();
+        Trip trip = tripRepository.findByIdAndUserId(command.tripId(), command.userId())
+            .orElseThrow(() -> new TripNotFoundException(command.tripId(), command.userId()));
         
-        // TODO: AI 서비스로 일정 생성 요청 전송 (비동기)
+        // AI 서비스로 일정 생성 요청 전송 (비동기 - 결과는 완료 알림 또는 일정 조회 시 저장)
+        AiServiceClient.ScheduleGenerationResponse response =
+            scheduleGenerationService.requestScheduleGeneration(trip, command.startTime(), command.specialRequests());
+        generationRequestStore.register(trip.getTripId(), response.requestId());
         
         return new GenerateScheduleResult(
-            requestId,
-            "processing",
-            "AI 일정 생성을 시작했습니다."
+            response.requestId(),
+            response.status(),
+            response.message()
         );
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<GenerationStatusResult> getGenerationStatus(String tripId, String requestId, String userId) {
         log.info("Getting generation status - tripId: {}, requestId: {}", tripId, requestId);
         
-        // TODO: 실제 구현 - AI 서비스에서 상태 조회
-        
-        return Optional.of(new GenerationStatusResult(
-            requestId,
-            "processing",
-            50,
-            "일정 생성 중입니다...",
-            60,
-            null
+        // 여행 소유자 확인
+        if (!tripRepository.isOwner(tripId, userId)) {
+            throw new UnauthorizedAccessException("여행에 대한 접근 권한이 없습니다");
+        }
+        
+        // 상태 조회만 수행 (결과 저장은 완료 알림 또는 일정 조회 시 처리)
+        Optional<AiServiceClient.GenerationStatus> status = scheduleGenerationService.getGenerationStatus(requestId);
+        
+        return status.map(current -> new GenerationStatusResult(
+            current.requestId(),
+            current.status(),
+            current.progress(),
+            current.currentStep(),
+            current.estimatedTime(),
+            current.error()
         ));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void handleGenerationStatusChanged(String requestId) {
+        // 이 서비스가 요청한 생성 작업만 처리 (추천 등 다른 AI 작업 알림은 무시)
+        generationRequestStore.findTripId(requestId)
+                              .ifPresent(tripId -> storeIfFinished(tripId, requestId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Schedule> getSchedules(String tripId, String userId, Integer day) {
         log.info("Getting schedules for trip: {}, day: {}", tripId, day);
         
-        // TODO: 실제 구현 - Repository에서 조회
-        
-        return new ArrayList<>();
+        // 여행 소유자 확인
+        if (!tripRepository.isOwner(tripId, userId)) {
+            throw new UnauthorizedAccessException("여행에 대한 접근 권한이 없습니다");
+        }
+        
+        // 완료 알림을 놓쳐 아직 저장되지 않은 생성 결과가 있으면 조회 전에 저장
+        // (AI 서비스 호출 중 커넥션을 잡지 않도록 트랜잭션 밖에서 실행, 조회는 각 쿼리의 읽기 트랜잭션 사용)
+        generationRequestStore.findRequestIds(tripId)
+                              .forEach(requestId -> storeIfFinished(tripId, requestId));
+        
+        // 일정과 장소를 한 번의 fetch join으로 조회 (일차/장소 순서로 정렬)
+        if (day != null) {
+            return scheduleRepository.findByTripIdAndDay(tripId, day)
+                                     .map(List::of)
+                                     .orElseGet(List::of);
+        }
+        return scheduleRepository.findByTripId(tripId);
     }
 
     @Override
@@ -65,36 +115,92 @@ public class ScheduleService implements ScheduleUseCase {
     public Schedule updateDaySchedule(UpdateScheduleCommand command) {
         log.info("Updating schedule for trip: {}, day: {}", command.tripId(), command.day());
         
-        // TODO: 실제 구현 - 일자별 일정 수정
+        // 여행 소유자 확인
+        if (!tripRepository.isOwner(command.tripId(), command.userId())) {
+            throw new UnauthorizedAccessException("여행에 대한 접근 권한이 없습니다");
+        }
         
-        String scheduleId = UUID.randomUUID().toString();
-        Schedule schedule = Schedule.create(
-            scheduleId,
-            command.tripId(),
-            command.day(),
-            LocalDate.now(), // TODO: 실제 날짜로 계산 필요
-            "Seoul", // TODO: 실제 도시 정보 필요
-            null // TODO: 날씨 정보 필요
-        );
+        Schedule schedule = scheduleRepository.findByTripIdAndDay(command.tripId(), command.day())
+            .orElseThrow(() -> new IllegalArgumentException(
+                String.format("%d일차 일정을 찾을 수 없습니다", command.day())));
+        
+        // 장소 순서 변경 (변경 감지로 커밋 시 함께 반영)
+        if (command.places() != null) {
+            for (PlaceOrder placeOrder : command.places()) {
+                schedule.updatePlaceOrder(placeOrder.placeId(), placeOrder.order());
+            }
+        }
         
         return schedule;
     }
 
     @Override
-    @Transactional
     public GenerateScheduleResult regenerateDaySchedule(RegenerateScheduleCommand command) {
         log.info("Regenerating schedule for trip: {}, day: {}", command.tripId(), command.day());
         
-        String requestId = UUID.randomUUID().toString();
+        // 여행 소유자 확인
+        if (!tripRepository.isOwner(command.tripId(), command.userId())) {
+            throw new UnauthorizedAccessException("여행에 대한 접근 권한이 없습니다");
+        }
         
-        // TODO: AI 서비스로 일자별 재생성 요청 전송
+        // AI 서비스로 일자별 재생성 요청 전송 (결과는 완료 알림 또는 일정 조회 시 해당 일차만 교체)
+        AiServiceClient.ScheduleGenerationResponse response = scheduleGenerationService.regenerateDaySchedule(
+            command.tripId(), command.day(), command.specialRequests(),
+            scheduleRepository.findByTripId(command.tripId())
+        );
+        generationRequestStore.register(command.tripId(), response.requestId());
         
         return new GenerateScheduleResult(
-            requestId,
-            "processing",
+            response.requestId(),
+            response.status(),
             String.format("%d일차 일정을 재생성 중입니다.", command.day())
         );
     }
+    
+    /**
+     * 생성 작업이 끝났으면 결과 저장 후 진행 중인 요청에서 제거 (실패/취소도 제거)
+     */
+    private void storeIfFinished(String tripId, String requestId) {
+        Optional<String> status = scheduleGenerationService.getGenerationStatus(requestId)
+                                                           .map(AiServiceClient.GenerationStatus::status);
+        if (status.isEmpty()) {
+            return;
+        }
+        
+        if (STATUS_COMPLETED.equalsIgnoreCase(status.get())) {
+            saveGeneratedSchedules(tripId, requestId);
+            generationRequestStore.remove(tripId, requestId);
+        } else if (STATUS_FAILED.equalsIgnoreCase(status.get()) || STATUS_CANCELLED.equalsIgnoreCase(status.get())) {
+            generationRequestStore.remove(tripId, requestId);
+        }
+    }
+    
+    /**
+     * 생성된 일정 저장 (재생성 요청이면 해당 일차만 교체)
+     * 결과 조회는 트랜잭션 밖에서, 일차 교체(벌크 삭제 + saveAll)와 일정 생성 여부 표시는 여행 행을 잠근 하나의 트랜잭션에서 실행
+     */
+    private void saveGeneratedSchedules(String tripId, String requestId) {
+        // 이미 저장된 결과면 AI 서비스 재조회 생략 (여러 Pod의 동시 처리는 replaceDays의 잠금 후 재확인으로 걸러짐)
+        if (scheduleRepository.existsByGenerationRequestId(tripId, requestId)) {
+            return;
+        }
+        
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Schedule> schedules = scheduleGenerationService.fetchGeneratedSchedules(tripId, requestId);
+        if (schedules.isEmpty()) {
+            log.warn("Generation completed without schedules - tripId: {}, requestId: {}", tripId, requestId);
+            return;
+        }
+        
+        if (!scheduleRepository.replaceDays(tripId, requestId, schedules)) {
+            return;
+        }
+        
+        int placeCount = schedules.stream().mapToInt(schedule -> schedule.getPlaces().size()).sum();
+        sample.stop(meterRegistry.timer("trip.schedules.save"));
+        log.info("Generated schedules saved - tripId: {}, requestId: {}, days: {}, places: {}",
+                 tripId, requestId, schedules.size(), placeCount);
+    }
 
     @Override
     public ExportScheduleResult exportSchedule(ExportScheduleCommand command) {
@@ -2,18 +2,24 @@ package com.unicorn.tripgen.trip.biz.service;
 
 import com.unicorn.tripgen.trip.biz.domain.Trip;
 import com.unicorn.tripgen.trip.biz.domain.TripStatus;
+import com.unicorn.tripgen.trip.biz.exception.TripException;
 import com.unicorn.tripgen.trip.biz.exception.TripNotFoundException;
 import com.unicorn.tripgen.trip.biz.usecase.in.TripUseCase;
+import com.unicorn.tripgen.trip.biz.usecase.out.TripDetailCache;
 import com.unicorn.tripgen.trip.biz.usecase.out.TripRepository;
 import com.unicorn.tripgen.trip.biz.dto.TripDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,51 +31,111 @@ import java.util.UUID;
 public class TripService implements TripUseCase {
     
     private final TripRepository tripRepository;
+    private final TripDetailCache tripDetailCache;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public TripListResult getTripList(GetTripListQuery query) {
         log.info("Getting trip list for user: {}", query.userId());
         
-        // Repository에서 여행 목록 조회
-        List<Trip> trips = tripRepository.findByUserId(
-            query.userId(), 
-            query.status(), 
-            query.search(), 
-            query.sort(), 
-            query.page(), 
-            query.size()
-        );
+        String sort = (query.sort() == null || query.sort().isEmpty()) ? "latest" : query.sort();
+        boolean keysetSortable = "latest".equals(sort) || "oldest".equals(sort);
+        boolean useCursor = query.cursor() != null && !query.cursor().isBlank();
+        
+        if (useCursor && !keysetSortable) {
+            throw new TripException("커서 페이지네이션은 최신순/오래된순 정렬에서만 지원합니다");
+        }
+        
+        // 목록 행 조회 (멤버/목적지 수와 일정 여부를 쿼리에서 계산 - 여행별 컬렉션 로딩 없음)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<TripRepository.TripListItem> items;
+        boolean hasNext;
+        if (useCursor) {
+            TripListCursor cursor = TripListCursor.decode(query.cursor());
+            // 다른 정렬/필터로 발급된 커서는 엉뚱한 페이지를 돌려주므로 거부
+            if (!cursor.matches(sort, query.status(), query.search())) {
+                throw new TripException("커서가 현재 정렬/필터 조건과 일치하지 않습니다");
+            }
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            items = tripRepository.findListItemsByUserIdAfter(
+                query.userId(),
+                query.status(),
+                query.search(),
+                "oldest".equals(sort),
+                cursor.createdAt(),
+                cursor.tripId(),
+                query.size() + 1
+            );
+            hasNext = items.size() > query.size();
+            if (hasNext) {
+                items = items.subList(0, query.size());
+            }
+        } else {
+            items = tripRepository.findListItemsByUserId(
+                query.userId(),
+                query.status(),
+                query.search(),
+                sort,
+                query.page(),
+                query.size()
+            );
+            hasNext = false;
+        }
+        sample.stop(meterRegistry.timer("trip.list.query", "pagination", useCursor ? "keyset" : "offset"));
         
         // 총 개수 조회
         int totalCount = tripRepository.countByUserId(query.userId(), query.status(), query.search());
         int totalPages = (int) Math.ceil((double) totalCount / query.size());
+        if (!useCursor) {
+            hasNext = (long) query.page() * query.size() < totalCount;
+        }
         
-        // Trip 엔티티를 TripSummary로 변환
-        List<TripSummary> tripSummaries = trips.stream()
-            .map(trip -> new TripSummary(
-                trip.getTripId(),
-                trip.getTripName(),
-                trip.getStatus(),
-                trip.getCurrentStep(),
-                trip.getStartDate() != null ? trip.getStartDate().toString() : null,
-                trip.getEndDate() != null ? trip.getEndDate().toString() : null,
-                trip.getMembers().size(),
-                trip.getDestinations().size(),
-                calculateProgress(trip),
-                trip.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                trip.getUpdatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+        List<TripSummary> tripSummaries = items.stream()
+            .map(item -> new TripSummary(
+                item.tripId(),
+                item.tripName(),
+                item.status(),
+                item.currentStep(),
+                item.startDate() != null ? item.startDate().toString() : null,
+                item.endDate() != null ? item.endDate().toString() : null,
+                item.memberCount(),
+                item.destinationCount(),
+                calculateProgress(item.memberCount(), item.destinationCount(), item.hasSchedule()),
+                item.createdAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                item.updatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
             ))
             .toList();
         
-        return new TripListResult(tripSummaries, totalCount, query.page(), totalPages);
+        // 최신순/오래된순이면 마지막 행 기준 커서 제공 (다음 페이지부터 키셋으로 조회 가능)
+        String nextCursor = null;
+        if (keysetSortable && hasNext && !items.isEmpty()) {
+            TripRepository.TripListItem last = items.get(items.size() - 1);
+            nextCursor = new TripListCursor(
+                sort, TripListCursor.filterOf(query.status(), query.search()), last.createdAt(), last.tripId()
+            ).encode();
+        }
+        
+        return new TripListResult(tripSummaries, totalCount, query.page(), totalPages, nextCursor);
     }
 
     @Override
     public Optional<TripDetailResponse> getTripDetail(String tripId, String userId) {
         log.info("Getting trip detail - tripId: {}, userId: {}", tripId, userId);
         
-        return tripRepository.findByIdAndUserId(tripId, userId)
-                           .map(TripDetailResponse::from);
+        // 조립된 상세 정보 캐시 (다른 사용자의 여행이면 DB 조회와 동일하게 없음으로 응답)
+        Optional<TripDetailCache.CachedTripDetail> cached = tripDetailCache.find(tripId);
+        if (cached.isPresent()) {
+            return userId.equals(cached.get().userId())
+                ? Optional.of(cached.get().detail())
+                : Optional.empty();
+        }
+        
+        // DB 조회 전에 버전을 읽어 조회 중 커밋된 변경이 있으면 저장한 결과가 무효가 되도록 함
+        long version = tripDetailCache.currentVersion(tripId);
+        Optional<TripDetailResponse> detail = tripRepository.findByIdAndUserId(tripId, userId)
+                                                            .map(TripDetailResponse::from);
+        detail.ifPresent(response -> tripDetailCache.put(tripId, userId, response, version));
+        return detail;
     }
 
     @Override
@@ -158,25 +224,62 @@ public class TripService implements TripUseCase {
     /**
      * 여행 진행률 계산
      */
-    private int calculateProgress(Trip trip) {
+    private int calculateProgress(int memberCount, int destinationCount, boolean hasSchedule) {
         // 기본 설정 (여행 생성): 10%
         int progress = 10;
         
         // 멤버가 있으면: +20%
-        if (!trip.getMembers().isEmpty()) {
+        if (memberCount > 0) {
             progress += 20;
         }
         
         // 목적지가 있으면: +30%
-        if (!trip.getDestinations().isEmpty()) {
+        if (destinationCount > 0) {
             progress += 30;
         }
         
         // 일정이 있으면: +40%
-        if (trip.hasSchedule()) {
+        if (hasSchedule) {
             progress += 40;
         }
         
         return Math.min(progress, 100);
     }
+    
+    /**
+     * 여행 목록 커서 (발급 시 정렬/필터와 마지막 행의 생성 시각, 여행 ID)
+     * 필터(상태, 검색어)는 구분자와 겹치지 않도록 Base64로 묶어서 저장
+     */
+    private record TripListCursor(String sort, String filter, LocalDateTime createdAt, String tripId) {
+        
+        static String filterOf(TripStatus status, String search) {
+            String raw = (status != null ? status.name() : "") + "\n" + (search != null ? search : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        boolean matches(String sort, TripStatus status, String search) {
+            return this.sort.equals(sort) && filter.equals(filterOf(status, search));
+        }
+        
+        String encode() {
+            String raw = String.join("|",
+                sort, filter, createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), tripId);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static TripListCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 4);
+                return new TripListCursor(
+                    parts[0],
+                    parts[1],
+                    LocalDateTime.parse(parts[2], DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    parts[3]
+                );
+            } catch (RuntimeException e) {
+                throw new TripException("유효하지 않은 커서입니다");
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -56,9 +56,10 @@ public interface DestinationUseCase {
     ) {}
     
     /**
-     * 여행지 정보
+     * 여행지 정보 (destinationId가 있으면 기존 여행지 수정, 없으면 새 여행지)
      */
     record DestinationInfo(
+        String destinationId,
         String destinationName,
         int nights,
         String accommodation,
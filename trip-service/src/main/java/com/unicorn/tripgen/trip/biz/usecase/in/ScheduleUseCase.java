@@ -150,6 +150,11 @@ public interface ScheduleUseCase {
      */
     Optional<GenerationStatusResult> getGenerationStatus(String tripId, String requestId, String userId);
     
+    /**
+     * 일정 생성 상태 변경 처리 (완료되면 결과 저장)
+     */
+    void handleGenerationStatusChanged(String requestId);
+    
     /**
      * 생성된 일정 목록 조회
      */
@@ -24,7 +24,8 @@ public interface TripUseCase {
         String search,
         String sort,
         int page,
-        int size
+        int size,
+        String cursor
     ) {}
     
     /**
@@ -34,7 +35,8 @@ public interface TripUseCase {
         List<TripSummary> trips,
         int totalCount,
         int currentPage,
-        int totalPages
+        int totalPages,
+        String nextCursor
     ) {}
     
     /**
@@ -1,6 +1,6 @@
 package com.unicorn.tripgen.trip.biz.usecase.out;
 
-import java.time.LocalTime;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,15 +10,18 @@ import java.util.Optional;
 public interface AiServiceClient {
     
     /**
-     * 일정 생성 요청
+     * 일정 생성 요청 (ai-service GenerateScheduleRequest 형식)
      */
     record ScheduleGenerationRequest(
         String tripId,
+        String tripName,
         String userId,
-        List<String> destinations,
-        List<MemberProfile> members,
         String transportMode,
-        LocalTime startTime,
+        String startTime,
+        List<MemberProfile> members,
+        List<DestinationInfo> destinations,
+        LocalDate startDate,
+        LocalDate endDate,
         String specialRequests
     ) {}
     
@@ -33,6 +36,37 @@ public interface AiServiceClient {
         List<String> preferences
     ) {}
     
+    /**
+     * 여행지 정보
+     */
+    record DestinationInfo(
+        String destinationName,
+        int nights,
+        LocalDate startDate,
+        LocalDate endDate,
+        String accommodation,
+        String checkInTime,
+        String checkOutTime
+    ) {}
+    
+    /**
+     * 일자별 일정 재생성 요청 (ai-service RegenerateScheduleRequest 형식)
+     */
+    record RegenerationRequest(
+        String tripId,
+        int day,
+        List<ExistingSchedule> existingSchedules,
+        String specialRequests
+    ) {}
+    
+    /**
+     * 연속성 유지를 위해 전달하는 기존 일정
+     */
+    record ExistingSchedule(
+        int day,
+        List<String> places
+    ) {}
+    
     /**
      * 일정 생성 응답
      */
@@ -49,18 +83,28 @@ public interface AiServiceClient {
         String requestId,
         String status,
         int progress,
-        String message,
+        String currentStep,
         Integer estimatedTime,
         String error
     ) {}
     
     /**
-     * 생성된 일정 정보
+     * 생성된 일정 결과 (ai-service GeneratedScheduleResponse 형식)
+     */
+    record GeneratedScheduleResult(
+        String requestId,
+        String tripId,
+        String status,
+        List<GeneratedSchedule> schedules
+    ) {}
+    
+    /**
+     * 생성된 일자별 일정
      */
     record GeneratedSchedule(
         int day,
         String date,
-        String city,
+        String destinationName,
         WeatherInfo weather,
         List<SchedulePlace> places
     ) {}
@@ -70,13 +114,19 @@ public interface AiServiceClient {
      */
     record WeatherInfo(
         String condition,
-        double minTemperature,
-        double maxTemperature,
-        String icon
+        TemperatureInfo temperature
+    ) {}
+    
+    /**
+     * 온도 정보
+     */
+    record TemperatureInfo(
+        Double min,
+        Double max
     ) {}
     
     /**
-     * 일정 장소
+     * 일정 장소 (순서는 목록 순서)
      */
     record SchedulePlace(
         String placeId,
@@ -85,8 +135,7 @@ public interface AiServiceClient {
         String startTime,
         int duration,
         TransportationInfo transportation,
-        HealthConsiderationInfo healthConsideration,
-        int order
+        HealthConsiderationInfo healthConsideration
     ) {}
     
     /**
@@ -164,12 +213,12 @@ public interface AiServiceClient {
     /**
      * 생성된 일정 조회
      */
-    List<GeneratedSchedule> getGeneratedSchedule(String requestId);
+    GeneratedScheduleResult getGeneratedSchedule(String requestId);
     
     /**
      * 일자별 일정 재생성 요청
      */
-    ScheduleGenerationResponse regenerateDaySchedule(String tripId, int day, String specialRequests);
+    ScheduleGenerationResponse regenerateDaySchedule(RegenerationRequest request);
     
     /**
      * 장소 추천 정보 생성 요청
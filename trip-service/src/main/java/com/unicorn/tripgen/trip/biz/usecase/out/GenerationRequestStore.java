@@ -0,0 +1,35 @@
+package com.unicorn.tripgen.trip.biz.usecase.out;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 진행 중인 일정 생성 요청 저장소 인터페이스 (Output Port)
+ * 생성 요청 ID와 여행 ID를 연결해 두어, 생성 완료 알림이나 일정 조회 시 결과를 저장할 여행을 찾음
+ *
+ * 저장된 결과는 생성 요청 ID로 중복 저장이 걸러지므로 여러 Pod가 같은 요청을 처리해도 무방
+ */
+public interface GenerationRequestStore {
+    
+    /**
+     * 진행 중인 생성 요청 등록
+     */
+    void register(String tripId, String requestId);
+    
+    /**
+     * 생성 요청의 여행 ID 조회
+     *
+     * @return 등록되지 않았거나 이미 처리된 요청이면 empty
+     */
+    Optional<String> findTripId(String requestId);
+    
+    /**
+     * 여행의 진행 중인 생성 요청 ID 목록 조회
+     */
+    Set<String> findRequestIds(String tripId);
+    
+    /**
+     * 처리가 끝난 생성 요청 제거 (완료 후 저장, 실패/취소)
+     */
+    void remove(String tripId, String requestId);
+}
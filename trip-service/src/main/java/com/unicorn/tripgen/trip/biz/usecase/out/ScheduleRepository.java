@@ -26,15 +26,30 @@ public interface ScheduleRepository {
     Optional<Schedule> findById(String scheduleId);
     
     /**
-     * 여행의 모든 일정 조회 (일차 순으로)
+     * 여행의 모든 일정 조회 (일차 순으로, 장소 포함)
      */
     List<Schedule> findByTripId(String tripId);
     
     /**
-     * 여행의 특정 일차 일정 조회
+     * 여행의 특정 일차 일정 조회 (장소 포함)
      */
     Optional<Schedule> findByTripIdAndDay(String tripId, int day);
     
+    /**
+     * 생성 결과로 일차 단위 일정 교체 (목록에 포함된 일차의 기존 일정/장소를 삭제하고 일괄 저장)
+     * 여행 행을 잠근 하나의 트랜잭션에서 실행되어 교체 중인 일차가 비어 보이지 않고,
+     * 같은 생성 요청의 결과가 이미 저장되어 있으면 아무것도 하지 않음
+     * 처음 저장되는 일정이면 같은 트랜잭션에서 여행의 일정 생성 여부도 함께 표시
+     * 
+     * @return 이번 호출에서 저장했으면 true
+     */
+    boolean replaceDays(String tripId, String generationRequestId, List<Schedule> schedules);
+    
+    /**
+     * 생성 요청의 결과가 이미 저장되었는지 확인
+     */
+    boolean existsByGenerationRequestId(String tripId, String requestId);
+    
     /**
      * 여행의 일정 개수 조회
      */
@@ -0,0 +1,44 @@
+package com.unicorn.tripgen.trip.biz.usecase.out;
+
+import com.unicorn.tripgen.trip.biz.dto.TripDetailResponse;
+
+import java.util.Optional;
+
+/**
+ * 여행 상세 조회 캐시 인터페이스 (Output Port)
+ * 조립된 TripDetailResponse를 여행 ID별로 버전과 함께 보관
+ *
+ * 변경 커밋 시 버전이 증가하므로, 변경 전에 DB에서 읽은 결과를 늦게 저장하더라도
+ * 저장 시점의 버전이 현재 버전과 달라 조회되지 않음
+ */
+public interface TripDetailCache {
+    
+    /**
+     * 현재 버전 조회 (DB 조회 전에 읽어 put에 전달)
+     *
+     * @return 현재 버전, 캐시를 사용할 수 없으면 -1
+     */
+    long currentVersion(String tripId);
+    
+    /**
+     * 현재 버전과 일치하는 상세 정보 조회
+     */
+    Optional<CachedTripDetail> find(String tripId);
+    
+    /**
+     * 상세 정보 저장
+     *
+     * @param version DB 조회 전에 읽은 버전
+     */
+    void put(String tripId, String userId, TripDetailResponse detail, long version);
+    
+    /**
+     * 버전 증가 및 저장된 상세 정보 삭제
+     */
+    void invalidate(String tripId);
+    
+    /**
+     * 캐시된 상세 정보 (소유자 확인용 사용자 ID 포함)
+     */
+    record CachedTripDetail(String userId, TripDetailResponse detail) {}
+}
@@ -3,6 +3,8 @@ package com.unicorn.tripgen.trip.biz.usecase.out;
 import com.unicorn.tripgen.trip.biz.domain.Trip;
 import com.unicorn.tripgen.trip.biz.domain.TripStatus;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,12 +30,20 @@ public interface TripRepository {
     Optional<Trip> findByIdAndUserId(String tripId, String userId);
     
     /**
-     * 사용자의 여행 목록 조회 (페이징)
+     * 사용자의 여행 목록 행 조회 (페이지 번호 방식, 컬렉션 로딩 없음)
      */
-    List<Trip> findByUserId(String userId, TripStatus status, String search, String sort, int page, int size);
+    List<TripListItem> findListItemsByUserId(String userId, TripStatus status, String search, String sort, int page, int size);
     
     /**
-     * 사용자의 총 여행 개수
+     * 사용자의 여행 목록 행 조회 (생성 시각/여행 ID 키셋)
+     *
+     * @param ascending 오래된순이면 true (커서 이후), 최신순이면 false (커서 이전)
+     */
+    List<TripListItem> findListItemsByUserIdAfter(String userId, TripStatus status, String search, boolean ascending,
+                                                  LocalDateTime cursorCreatedAt, String cursorTripId, int size);
+    
+    /**
+     * 사용자의 총 여행 개수 (목록 화면용 - 짧은 TTL로 캐시된 근사값일 수 있음)
      */
     int countByUserId(String userId, TripStatus status, String search);
     
@@ -56,4 +66,21 @@ public interface TripRepository {
      * 여행 ID 생성
      */
     String generateTripId();
+    
+    /**
+     * 여행 목록 행 (목록 화면용 읽기 모델 - 멤버/목적지 수와 일정 여부는 쿼리에서 계산)
+     */
+    record TripListItem(
+        String tripId,
+        String tripName,
+        TripStatus status,
+        String currentStep,
+        LocalDate startDate,
+        LocalDate endDate,
+        int memberCount,
+        int destinationCount,
+        boolean hasSchedule,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {}
 }
\ No newline at end of file
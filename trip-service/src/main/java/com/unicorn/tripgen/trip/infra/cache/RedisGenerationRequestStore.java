@@ -0,0 +1,81 @@
+package com.unicorn.tripgen.trip.infra.cache;
+
+import com.unicorn.tripgen.trip.biz.usecase.out.GenerationRequestStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 기반 진행 중인 일정 생성 요청 저장소
+ * - trip:generation:request:{requestId}: 여행 ID
+ * - trip:generation:pending:{tripId}: 진행 중인 생성 요청 ID (Set)
+ *
+ * 완료 알림을 놓쳐 처리되지 않은 요청도 TTL 후 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisGenerationRequestStore implements GenerationRequestStore {
+    
+    private static final String REQUEST_KEY_PREFIX = "trip:generation:request:";
+    private static final String PENDING_KEY_PREFIX = "trip:generation:pending:";
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    @Value("${trip.service.schedule-generation-pending-ttl:86400}")
+    private long pendingTtlSeconds;
+    
+    @Override
+    public void register(String tripId, String requestId) {
+        if (tripId == null || requestId == null) {
+            return;
+        }
+        try {
+            Duration ttl = Duration.ofSeconds(pendingTtlSeconds);
+            String pendingKey = PENDING_KEY_PREFIX + tripId;
+            redisTemplate.opsForValue().set(REQUEST_KEY_PREFIX + requestId, tripId, ttl);
+            redisTemplate.opsForSet().add(pendingKey, requestId);
+            redisTemplate.expire(pendingKey, ttl);
+        } catch (Exception e) {
+            // 등록에 실패해도 상태 조회 후 일정 조회 시 저장되지 않을 뿐 생성 요청은 유지
+            log.warn("Failed to register generation request: {}, trip: {}, reason: {}", requestId, tripId, e.getMessage());
+        }
+    }
+    
+    @Override
+    public Optional<String> findTripId(String requestId) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(REQUEST_KEY_PREFIX + requestId));
+        } catch (Exception e) {
+            log.warn("Failed to read generation request: {}, reason: {}", requestId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public Set<String> findRequestIds(String tripId) {
+        try {
+            Set<String> requestIds = redisTemplate.opsForSet().members(PENDING_KEY_PREFIX + tripId);
+            return requestIds != null ? requestIds : Set.of();
+        } catch (Exception e) {
+            log.warn("Failed to read pending generation requests for trip: {}, reason: {}", tripId, e.getMessage());
+            return Set.of();
+        }
+    }
+    
+    @Override
+    public void remove(String tripId, String requestId) {
+        try {
+            redisTemplate.delete(REQUEST_KEY_PREFIX + requestId);
+            redisTemplate.opsForSet().remove(PENDING_KEY_PREFIX + tripId, requestId);
+        } catch (Exception e) {
+            log.warn("Failed to remove generation request: {}, reason: {}", requestId, e.getMessage());
+        }
+    }
+}
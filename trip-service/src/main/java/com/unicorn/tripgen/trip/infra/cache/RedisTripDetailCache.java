@@ -0,0 +1,141 @@
+package com.unicorn.tripgen.trip.infra.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unicorn.tripgen.trip.biz.domain.TripChangedEvent;
+import com.unicorn.tripgen.trip.biz.dto.TripDetailResponse;
+import com.unicorn.tripgen.trip.biz.usecase.out.TripDetailCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 기반 여행 상세 조회 캐시
+ * - trip:detail:{tripId}: 상세 정보와 저장 당시 버전 (JSON)
+ * - trip:detail:version:{tripId}: 현재 버전 (변경 커밋마다 INCR)
+ *
+ * 여행/멤버/여행지 변경은 TripChangedEvent로 전달되며 커밋 후에만 무효화
+ *
+ * 지표: trip.detail.cache{result=hit|miss|stale} (적중률), trip.detail.cache.invalidations
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisTripDetailCache implements TripDetailCache {
+    
+    private static final String DETAIL_KEY_PREFIX = "trip:detail:";
+    private static final String VERSION_KEY_PREFIX = "trip:detail:version:";
+    
+    // 버전 키는 상세 정보보다 충분히 오래 유지 (만료 후 번호가 재사용되지 않도록)
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+    
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${trip.service.cache.trip-detail-ttl:1800}")
+    private long detailTtlSeconds;
+    
+    @Override
+    public long currentVersion(String tripId) {
+        try {
+            return parseVersion(redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + tripId));
+        } catch (Exception e) {
+            log.warn("Failed to read trip detail version: {}, reason: {}", tripId, e.getMessage());
+            return -1;
+        }
+    }
+    
+    @Override
+    public Optional<CachedTripDetail> find(String tripId) {
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue()
+                    .multiGet(List.of(DETAIL_KEY_PREFIX + tripId, VERSION_KEY_PREFIX + tripId));
+        } catch (Exception e) {
+            log.warn("Failed to read cached trip detail: {}, reason: {}", tripId, e.getMessage());
+            return Optional.empty();
+        }
+        
+        String payload = values != null ? values.get(0) : null;
+        if (payload == null) {
+            record("miss");
+            return Optional.empty();
+        }
+        
+        try {
+            Entry entry = objectMapper.readValue(payload, Entry.class);
+            // 저장 이후 변경이 커밋되었으면 버전이 다르므로 사용하지 않음
+            if (entry.version() != parseVersion(values.get(1))) {
+                record("stale");
+                return Optional.empty();
+            }
+            record("hit");
+            return Optional.of(new CachedTripDetail(entry.userId(), entry.detail()));
+        } catch (Exception e) {
+            log.warn("Failed to deserialize cached trip detail: {}, reason: {}", tripId, e.getMessage());
+            record("miss");
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void put(String tripId, String userId, TripDetailResponse detail, long version) {
+        if (version < 0) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(new Entry(version, userId, detail));
+            redisTemplate.opsForValue().set(DETAIL_KEY_PREFIX + tripId, payload, Duration.ofSeconds(detailTtlSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to cache trip detail: {}, reason: {}", tripId, e.getMessage());
+        }
+    }
+    
+    @Override
+    public void invalidate(String tripId) {
+        try {
+            String versionKey = VERSION_KEY_PREFIX + tripId;
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, VERSION_TTL);
+            redisTemplate.delete(DETAIL_KEY_PREFIX + tripId);
+            meterRegistry.counter("trip.detail.cache.invalidations").increment();
+        } catch (Exception e) {
+            // 삭제에 실패해도 상세 정보는 TTL 후 만료
+            log.warn("Failed to invalidate cached trip detail: {}, reason: {}", tripId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 여행 변경 커밋 후 무효화 (트랜잭션 밖에서 발행된 경우 즉시 무효화)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTripChanged(TripChangedEvent event) {
+        if (event.tripId() != null) {
+            invalidate(event.tripId());
+        }
+    }
+    
+    private long parseVersion(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+    
+    private void record(String result) {
+        meterRegistry.counter("trip.detail.cache", "result", result).increment();
+    }
+    
+    private record Entry(long version, String userId, TripDetailResponse detail) {
+    }
+}
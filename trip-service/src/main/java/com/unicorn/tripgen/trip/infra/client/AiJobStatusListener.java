@@ -0,0 +1,38 @@
+package com.unicorn.tripgen.trip.infra.client;
+
+import com.unicorn.tripgen.trip.biz.usecase.in.ScheduleUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AI 작업 상태 변경 알림 수신
+ * ai-service가 상태 채널에 발행하는 "{requestId}|{발행 시각}" 메시지를 받아 생성 완료 시 일정을 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiJobStatusListener implements MessageListener {
+    
+    public static final String STATUS_CHANNEL = "ai:job:status";
+    
+    private final ScheduleUseCase scheduleUseCase;
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('|');
+        String requestId = separator > 0 ? body.substring(0, separator) : body;
+        
+        try {
+            scheduleUseCase.handleGenerationStatusChanged(requestId);
+        } catch (Exception e) {
+            // 저장하지 못한 결과는 일정 조회 시 다시 저장 시도
+            log.warn("Failed to handle generation status change: {}, reason: {}", requestId, e.getMessage());
+        }
+    }
+}
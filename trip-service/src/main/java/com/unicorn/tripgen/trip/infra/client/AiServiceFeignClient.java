@@ -4,7 +4,6 @@ import com.unicorn.tripgen.trip.biz.usecase.out.AiServiceClient;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,14 +22,11 @@ public interface AiServiceFeignClient extends AiServiceClient {
     
     @Override
     @GetMapping("/api/v1/schedules/{requestId}")
-    List<GeneratedSchedule> getGeneratedSchedule(@PathVariable String requestId);
+    GeneratedScheduleResult getGeneratedSchedule(@PathVariable String requestId);
     
     @Override
-    @PostMapping("/api/v1/schedules/regenerate/{tripId}/day/{day}")
-    ScheduleGenerationResponse regenerateDaySchedule(
-            @PathVariable String tripId, 
-            @PathVariable int day, 
-            @RequestParam String specialRequests);
+    @PostMapping("/api/v1/schedules/regenerate")
+    ScheduleGenerationResponse regenerateDaySchedule(@RequestBody RegenerationRequest request);
     
     @Override
     @PostMapping("/api/v1/recommendations/generate")
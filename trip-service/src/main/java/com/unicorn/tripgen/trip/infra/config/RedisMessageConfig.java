@@ -0,0 +1,25 @@
+package com.unicorn.tripgen.trip.infra.config;
+
+import com.unicorn.tripgen.trip.infra.client.AiJobStatusListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정
+ * AI 작업 상태 변경 알림을 구독하여 일정 생성이 완료되면 결과를 저장
+ */
+@Configuration
+public class RedisMessageConfig {
+    
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       AiJobStatusListener statusListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(statusListener, new ChannelTopic(AiJobStatusListener.STATUS_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,46 @@
+package com.unicorn.tripgen.trip.infra.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여행명 검색용 trigram 인덱스 생성
+ * 여행 목록의 부분 일치 검색(trip_name LIKE '%검색어%')은 B-tree 인덱스를 사용할 수 없으므로
+ * pg_trgm GIN 인덱스를 사용자 ID와 함께 구성하여 사용자 범위 안에서 검색
+ *
+ * 테이블은 Hibernate가 생성하므로 Flyway 마이그레이션 대신 기동 후 IF NOT EXISTS로 생성
+ * 확장 생성 권한이 없는 환경에서는 경고만 남기고 기존 방식(순차 필터)으로 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripSearchIndexInitializer implements ApplicationRunner {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${trip.service.search.trigram-index-enabled:true}")
+    private boolean enabled;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gin");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_trips_user_name_trgm " +
+                    "ON trips USING gin (user_id, trip_name gin_trgm_ops)");
+            log.info("Trip name trigram index is ready");
+        } catch (Exception e) {
+            log.warn("Failed to create trip name trigram index, search falls back to sequential filtering: {}",
+                    e.getMessage());
+        }
+    }
+}
@@ -149,6 +149,7 @@ public class DestinationController {
                                              LocalTime.parse(req.getCheckOutTime()) : null;
                                          
                                          return new DestinationUseCase.DestinationInfo(
+                                             req.getDestinationId(),
                                              req.getDestinationName(),
                                              req.getNights(),
                                              req.getAccommodation(),
@@ -45,12 +45,13 @@ public class TripController {
             @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "latest") String sort,
             @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 대신 사용)") @RequestParam(required = false) String cursor,
             @AuthenticationPrincipal UserDetails userDetails) {
         
         TripStatus tripStatus = "all".equals(status) ? null : TripStatus.valueOf(status.toUpperCase());
         
         TripUseCase.GetTripListQuery query = new TripUseCase.GetTripListQuery(
-            userDetails.getUsername(), tripStatus, search, sort, page, size
+            userDetails.getUsername(), tripStatus, search, sort, page, size, cursor
         );
         
         TripUseCase.TripListResult result = tripUseCase.getTripList(query);
@@ -1,9 +1,11 @@
 package com.unicorn.tripgen.trip.infra.repository;
 
 import com.unicorn.tripgen.trip.biz.domain.Member;
+import com.unicorn.tripgen.trip.biz.domain.TripChangedEvent;
 import com.unicorn.tripgen.trip.biz.usecase.out.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +23,7 @@ import java.util.UUID;
 public class MemberRepositoryImpl implements MemberRepository {
     
     private final MemberJpaRepository memberJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public Member save(Member member) {
@@ -56,12 +59,15 @@ public class MemberRepositoryImpl implements MemberRepository {
     public void delete(Member member) {
         log.debug("Deleting member: {}", member.getMemberId());
         memberJpaRepository.delete(member);
+        // 삭제는 도메인 메서드를 거치지 않으므로 변경 이벤트를 직접 발행
+        eventPublisher.publishEvent(new TripChangedEvent(member.getTripId()));
     }
     
     @Override
     public void deleteByTripId(String tripId) {
         log.debug("Deleting all members for trip: {}", tripId);
         memberJpaRepository.deleteByTripId(tripId);
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
     }
     
     @Override
@@ -2,8 +2,12 @@ package com.unicorn.tripgen.trip.infra.repository;
 
 import com.unicorn.tripgen.trip.biz.domain.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,14 +19,41 @@ import java.util.Optional;
 public interface ScheduleJpaRepository extends JpaRepository<Schedule, String> {
     
     /**
-     * 여행의 모든 일정 조회 (일차별로 정렬)
+     * 여행의 모든 일정을 장소와 함께 조회 (일차/장소 순서로 정렬, 단일 쿼리)
      */
-    List<Schedule> findByTripIdOrderByDayAsc(String tripId);
+    @Query("SELECT s FROM Schedule s LEFT JOIN FETCH s.places p " +
+           "WHERE s.tripId = :tripId " +
+           "ORDER BY s.day ASC, p.order ASC")
+    List<Schedule> findWithPlacesByTripId(@Param("tripId") String tripId);
     
     /**
-     * 여행의 특정 일차 일정 조회
+     * 여행의 특정 일차 일정을 장소와 함께 조회 (장소 순서로 정렬)
      */
-    Optional<Schedule> findByTripIdAndDay(String tripId, int day);
+    @Query("SELECT s FROM Schedule s LEFT JOIN FETCH s.places p " +
+           "WHERE s.tripId = :tripId AND s.day = :day " +
+           "ORDER BY p.order ASC")
+    Optional<Schedule> findWithPlacesByTripIdAndDay(@Param("tripId") String tripId, @Param("day") int day);
+    
+    /**
+     * 여행의 지정 일차 장소 일괄 삭제 (일정 삭제 전에 실행)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SchedulePlace p WHERE p.scheduleId IN " +
+           "(SELECT s.scheduleId FROM Schedule s WHERE s.tripId = :tripId AND s.day IN :days)")
+    int deletePlacesByTripIdAndDays(@Param("tripId") String tripId, @Param("days") Collection<Integer> days);
+    
+    /**
+     * 여행의 지정 일차 일정 일괄 삭제
+     * 같은 ID로 다시 저장할 수 있도록 영속성 컨텍스트를 비움
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Schedule s WHERE s.tripId = :tripId AND s.day IN :days")
+    int deleteByTripIdAndDays(@Param("tripId") String tripId, @Param("days") Collection<Integer> days);
+    
+    /**
+     * 생성 요청의 결과가 이미 저장되었는지 확인
+     */
+    boolean existsByTripIdAndGenerationRequestId(String tripId, String generationRequestId);
     
     /**
      * 여행의 일정 개수 조회
@@ -1,14 +1,18 @@
 package com.unicorn.tripgen.trip.infra.repository;
 
 import com.unicorn.tripgen.trip.biz.domain.Schedule;
+import com.unicorn.tripgen.trip.biz.domain.Trip;
 import com.unicorn.tripgen.trip.biz.usecase.out.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Schedule Repository 구현체
@@ -21,6 +25,7 @@ import java.util.UUID;
 public class ScheduleRepositoryImpl implements ScheduleRepository {
     
     private final ScheduleJpaRepository scheduleJpaRepository;
+    private final TripJpaRepository tripJpaRepository;
     
     @Override
     public Schedule save(Schedule schedule) {
@@ -43,13 +48,57 @@ public class ScheduleRepositoryImpl implements ScheduleRepository {
     @Override
     public List<Schedule> findByTripId(String tripId) {
         log.debug("Finding schedules for trip: {}", tripId);
-        return scheduleJpaRepository.findByTripIdOrderByDayAsc(tripId);
+        return scheduleJpaRepository.findWithPlacesByTripId(tripId);
     }
     
     @Override
     public Optional<Schedule> findByTripIdAndDay(String tripId, int day) {
         log.debug("Finding schedule for trip: {} and day: {}", tripId, day);
-        return scheduleJpaRepository.findByTripIdAndDay(tripId, day);
+        return scheduleJpaRepository.findWithPlacesByTripIdAndDay(tripId, day);
+    }
+    
+    @Override
+    @Transactional
+    public boolean replaceDays(String tripId, String generationRequestId, List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return false;
+        }
+        
+        // 여행 행을 잠가 동시 저장의 중복 실행을 막고, 잠금 획득 후 저장 여부를 다시 확인
+        Optional<Trip> trip = tripJpaRepository.findByIdForUpdate(tripId);
+        if (trip.isEmpty()) {
+            log.debug("Trip not found while replacing schedules: {}", tripId);
+            return false;
+        }
+        if (scheduleJpaRepository.existsByTripIdAndGenerationRequestId(tripId, generationRequestId)) {
+            log.debug("Generation result already stored for trip: {}, requestId: {}", tripId, generationRequestId);
+            return false;
+        }
+        
+        Set<Integer> days = schedules.stream()
+                                     .map(Schedule::getDay)
+                                     .collect(Collectors.toSet());
+        
+        // 벌크 삭제 (행마다 조회/삭제하지 않음) 후 새 일정/장소를 JDBC 배치 INSERT
+        int deletedPlaces = scheduleJpaRepository.deletePlacesByTripIdAndDays(tripId, days);
+        int deletedSchedules = scheduleJpaRepository.deleteByTripIdAndDays(tripId, days);
+        List<Schedule> saved = scheduleJpaRepository.saveAll(schedules);
+        
+        // 일정 생성 여부도 잠근 여행 행에서 같은 트랜잭션으로 반영 (일정 저장과 함께 커밋/롤백)
+        if (!trip.get().hasSchedule()) {
+            trip.get().markScheduleCreated();
+            tripJpaRepository.save(trip.get());
+        }
+        
+        log.debug("Replaced schedules for trip: {}, days: {}, deleted: {} schedules / {} places, inserted: {}",
+                 tripId, days, deletedSchedules, deletedPlaces, saved.size());
+        return true;
+    }
+    
+    @Override
+    public boolean existsByGenerationRequestId(String tripId, String requestId) {
+        log.debug("Checking if generation result is stored for trip: {}, requestId: {}", tripId, requestId);
+        return scheduleJpaRepository.existsByTripIdAndGenerationRequestId(tripId, requestId);
     }
     
     @Override
@@ -2,13 +2,16 @@ package com.unicorn.tripgen.trip.infra.repository;
 
 import com.unicorn.tripgen.trip.biz.domain.Trip;
 import com.unicorn.tripgen.trip.biz.domain.TripStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,26 +22,85 @@ import java.util.Optional;
 @Repository
 public interface TripJpaRepository extends JpaRepository<Trip, String> {
     
+    /**
+     * 여행 목록 Projection 조회 컬럼 (멤버/목적지 수는 서브쿼리로 계산)
+     */
+    String SUMMARY_SELECT = "SELECT t.tripId AS tripId, t.tripName AS tripName, t.status AS status, " +
+           "t.currentStep AS currentStep, t.startDate AS startDate, t.endDate AS endDate, " +
+           "(SELECT COUNT(m) FROM Member m WHERE m.tripId = t.tripId) AS memberCount, " +
+           "(SELECT COUNT(d) FROM Destination d WHERE d.tripId = t.tripId) AS destinationCount, " +
+           "t.hasSchedule AS hasSchedule, t.createdAt AS createdAt, t.updatedAt AS updatedAt " +
+           "FROM Trip t WHERE t.userId = :userId " +
+           "AND (:status IS NULL OR t.status = :status) " +
+           "AND (:search IS NULL OR t.tripName LIKE %:search%) ";
+    
     /**
      * 사용자 ID와 여행 ID로 조회
      */
     Optional<Trip> findByTripIdAndUserId(String tripId, String userId);
     
     /**
-     * 사용자의 여행 목록 조회 (상태별, 검색어 포함)
+     * 여행 행 잠금 조회 (SELECT ... FOR UPDATE, 같은 여행의 일정 교체를 직렬화)
      */
-    @Query("SELECT t FROM Trip t WHERE t.userId = :userId " +
-           "AND (:status IS NULL OR t.status = :status) " +
-           "AND (:search IS NULL OR t.tripName LIKE %:search%) " +
-           "ORDER BY " +
-           "CASE WHEN :sort = 'latest' THEN t.createdAt END DESC, " +
-           "CASE WHEN :sort = 'oldest' THEN t.createdAt END ASC, " +
-           "CASE WHEN :sort = 'name' THEN t.tripName END ASC")
-    Page<Trip> findByUserIdWithFilters(@Param("userId") String userId,
-                                      @Param("status") TripStatus status,
-                                      @Param("search") String search,
-                                      @Param("sort") String sort,
-                                      Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Trip t WHERE t.tripId = :tripId")
+    Optional<Trip> findByIdForUpdate(@Param("tripId") String tripId);
+    
+    /**
+     * 사용자의 여행 목록 Projection 조회 (최신순, 페이지 번호 방식)
+     * 정렬별로 쿼리를 분리하여 (user_id, created_at, trip_id) 인덱스 순서로 조회
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY t.createdAt DESC, t.tripId DESC")
+    List<TripSummaryProjection> findSummariesLatest(@Param("userId") String userId,
+                                                    @Param("status") TripStatus status,
+                                                    @Param("search") String search,
+                                                    Pageable pageable);
+    
+    /**
+     * 사용자의 여행 목록 Projection 조회 (오래된순, 페이지 번호 방식)
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY t.createdAt ASC, t.tripId ASC")
+    List<TripSummaryProjection> findSummariesOldest(@Param("userId") String userId,
+                                                    @Param("status") TripStatus status,
+                                                    @Param("search") String search,
+                                                    Pageable pageable);
+    
+    /**
+     * 사용자의 여행 목록 Projection 조회 (이름순, 페이지 번호 방식)
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY t.tripName ASC, t.tripId ASC")
+    List<TripSummaryProjection> findSummariesByName(@Param("userId") String userId,
+                                                    @Param("status") TripStatus status,
+                                                    @Param("search") String search,
+                                                    Pageable pageable);
+    
+    /**
+     * 사용자의 여행 목록 Projection 조회 (최신순 키셋 - 커서보다 이전에 생성된 여행)
+     */
+    @Query(SUMMARY_SELECT +
+           "AND (t.createdAt < :cursorCreatedAt " +
+           "OR (t.createdAt = :cursorCreatedAt AND t.tripId < :cursorTripId)) " +
+           "ORDER BY t.createdAt DESC, t.tripId DESC")
+    List<TripSummaryProjection> findSummariesBefore(@Param("userId") String userId,
+                                                    @Param("status") TripStatus status,
+                                                    @Param("search") String search,
+                                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                    @Param("cursorTripId") String cursorTripId,
+                                                    Pageable pageable);
+    
+    /**
+     * 사용자의 여행 목록 Projection 조회 (오래된순 키셋 - 커서보다 이후에 생성된 여행)
+     */
+    @Query(SUMMARY_SELECT +
+           "AND (t.createdAt > :cursorCreatedAt " +
+           "OR (t.createdAt = :cursorCreatedAt AND t.tripId > :cursorTripId)) " +
+           "ORDER BY t.createdAt ASC, t.tripId ASC")
+    List<TripSummaryProjection> findSummariesAfter(@Param("userId") String userId,
+                                                   @Param("status") TripStatus status,
+                                                   @Param("search") String search,
+                                                   @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                   @Param("cursorTripId") String cursorTripId,
+                                                   Pageable pageable);
     
     /**
      * 사용자의 여행 개수 조회 (상태별, 검색어 포함)
@@ -1,15 +1,22 @@
 package com.unicorn.tripgen.trip.infra.repository;
 
 import com.unicorn.tripgen.trip.biz.domain.Trip;
+import com.unicorn.tripgen.trip.biz.domain.TripChangedEvent;
 import com.unicorn.tripgen.trip.biz.domain.TripStatus;
 import com.unicorn.tripgen.trip.biz.usecase.out.TripRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,12 +31,21 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TripRepositoryImpl implements TripRepository {
     
+    private static final String COUNT_KEY_PREFIX = "trip:count:";
+    
     private final TripJpaRepository tripJpaRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${trip.service.cache.trip-list-ttl:300}")
+    private long countTtlSeconds;
     
     @Override
     public Trip save(Trip trip) {
         log.debug("Saving trip: {}", trip.getTripId());
-        return tripJpaRepository.save(trip);
+        Trip saved = tripJpaRepository.save(trip);
+        evictCountAfterCommit(trip.getUserId());
+        return saved;
     }
     
     @Override
@@ -45,32 +61,83 @@ public class TripRepositoryImpl implements TripRepository {
     }
     
     @Override
-    public List<Trip> findByUserId(String userId, TripStatus status, String search, String sort, int page, int size) {
-        log.debug("Finding trips for user: {}, status: {}, search: {}, sort: {}, page: {}, size: {}", 
+    public List<TripListItem> findListItemsByUserId(String userId, TripStatus status, String search, String sort,
+                                                    int page, int size) {
+        log.debug("Finding trip list items for user: {}, status: {}, search: {}, sort: {}, page: {}, size: {}",
                  userId, status, search, sort, page, size);
         
-        // 기본값 설정
-        String sortCriteria = (sort == null || sort.isEmpty()) ? "latest" : sort;
-        
         // Pageable 생성 (Spring Data는 0-based indexing)
         Pageable pageable = PageRequest.of(page - 1, size);
         
-        Page<Trip> tripPage = tripJpaRepository.findByUserIdWithFilters(userId, status, search, sortCriteria, pageable);
-        return tripPage.getContent();
+        // 정렬별 쿼리 (CASE 정렬식은 인덱스를 사용할 수 없음)
+        String sortCriteria = (sort == null || sort.isEmpty()) ? "latest" : sort;
+        List<TripSummaryProjection> rows = switch (sortCriteria) {
+            case "oldest" -> tripJpaRepository.findSummariesOldest(userId, status, search, pageable);
+            case "name" -> tripJpaRepository.findSummariesByName(userId, status, search, pageable);
+            default -> tripJpaRepository.findSummariesLatest(userId, status, search, pageable);
+        };
+        
+        return rows.stream()
+                   .map(this::toListItem)
+                   .toList();
+    }
+    
+    @Override
+    public List<TripListItem> findListItemsByUserIdAfter(String userId, TripStatus status, String search,
+                                                         boolean ascending, LocalDateTime cursorCreatedAt,
+                                                         String cursorTripId, int size) {
+        log.debug("Finding trip list items for user: {} after cursor: {}/{}, ascending: {}, size: {}",
+                 userId, cursorCreatedAt, cursorTripId, ascending, size);
+        
+        // 키셋 조건으로 시작 위치를 정하므로 OFFSET 없이 첫 페이지로 제한
+        Pageable limit = PageRequest.of(0, size);
+        List<TripSummaryProjection> rows = ascending
+            ? tripJpaRepository.findSummariesAfter(userId, status, search, cursorCreatedAt, cursorTripId, limit)
+            : tripJpaRepository.findSummariesBefore(userId, status, search, cursorCreatedAt, cursorTripId, limit);
+        
+        return rows.stream()
+                   .map(this::toListItem)
+                   .toList();
     }
     
     @Override
     public int countByUserId(String userId, TripStatus status, String search) {
         log.debug("Counting trips for user: {}, status: {}, search: {}", userId, status, search);
         
-        long count = tripJpaRepository.countByUserIdWithFilters(userId, status, search);
-        return (int) count;
+        // 페이지를 넘길 때마다 COUNT 쿼리를 반복하지 않도록 사용자별 해시에 필터 조합별로 캐시
+        String key = COUNT_KEY_PREFIX + userId;
+        String field = (status != null ? status.name() : "ALL") + "|" + (search != null ? search : "");
+        try {
+            Object cached = redisTemplate.opsForHash().get(key, field);
+            if (cached != null) {
+                return Integer.parseInt(cached.toString());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read cached trip count for user: {}, reason: {}", userId, e.getMessage());
+        }
+        
+        int count = (int) tripJpaRepository.countByUserIdWithFilters(userId, status, search);
+        
+        try {
+            redisTemplate.opsForHash().put(key, field, String.valueOf(count));
+            // TTL은 해시 생성 시 한 번만 설정 (여행 변경 시에는 해시 전체를 삭제)
+            Long ttl = redisTemplate.getExpire(key);
+            if (ttl == null || ttl < 0) {
+                redisTemplate.expire(key, Duration.ofSeconds(countTtlSeconds));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to cache trip count for user: {}, reason: {}", userId, e.getMessage());
+        }
+        return count;
     }
     
     @Override
     public void delete(Trip trip) {
         log.debug("Deleting trip: {}", trip.getTripId());
         tripJpaRepository.delete(trip);
+        evictCountAfterCommit(trip.getUserId());
+        // 삭제는 도메인 메서드를 거치지 않으므로 변경 이벤트를 직접 발행
+        eventPublisher.publishEvent(new TripChangedEvent(trip.getTripId()));
     }
     
     @Override
@@ -91,4 +158,47 @@ public class TripRepositoryImpl implements TripRepository {
         log.debug("Generated trip id: {}", tripId);
         return tripId;
     }
+    
+    /**
+     * 사용자의 여행 개수 캐시 삭제 (트랜잭션 커밋 후 - 커밋 전 조회가 이전 개수를 다시 캐시하지 않도록)
+     */
+    private void evictCountAfterCommit(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCount(userId);
+                }
+            });
+        } else {
+            evictCount(userId);
+        }
+    }
+    
+    private void evictCount(String userId) {
+        try {
+            redisTemplate.delete(COUNT_KEY_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("Failed to evict cached trip count for user: {}, reason: {}", userId, e.getMessage());
+        }
+    }
+    
+    private TripListItem toListItem(TripSummaryProjection row) {
+        return new TripListItem(
+            row.getTripId(),
+            row.getTripName(),
+            row.getStatus(),
+            row.getCurrentStep(),
+            row.getStartDate(),
+            row.getEndDate(),
+            row.getMemberCount() != null ? row.getMemberCount().intValue() : 0,
+            row.getDestinationCount() != null ? row.getDestinationCount().intValue() : 0,
+            Boolean.TRUE.equals(row.getHasSchedule()),
+            row.getCreatedAt(),
+            row.getUpdatedAt()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.unicorn.tripgen.trip.infra.repository;
+
+import com.unicorn.tripgen.trip.biz.domain.TripStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 여행 목록 조회용 Projection
+ * 멤버/목적지 수와 일정 여부를 쿼리에서 계산하여 컬렉션 지연 로딩 없이 한 번에 조회
+ */
+public interface TripSummaryProjection {
+    
+    String getTripId();
+    
+    String getTripName();
+    
+    TripStatus getStatus();
+    
+    String getCurrentStep();
+    
+    LocalDate getStartDate();
+    
+    LocalDate getEndDate();
+    
+    Long getMemberCount();
+    
+    Long getDestinationCount();
+    
+    Boolean getHasSchedule();
+    
+    LocalDateTime getCreatedAt();
+    
+    LocalDateTime getUpdatedAt();
+}
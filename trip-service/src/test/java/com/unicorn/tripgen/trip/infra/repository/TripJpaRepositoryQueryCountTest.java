@@ -0,0 +1,137 @@
+package com.unicorn.tripgen.trip.infra.repository;
+
+import com.unicorn.tripgen.trip.biz.domain.Destination;
+import com.unicorn.tripgen.trip.biz.domain.Gender;
+import com.unicorn.tripgen.trip.biz.domain.HealthStatus;
+import com.unicorn.tripgen.trip.biz.domain.Member;
+import com.unicorn.tripgen.trip.biz.domain.TransportMode;
+import com.unicorn.tripgen.trip.biz.domain.Trip;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여행 목록 Projection 쿼리가 페이지당 SQL 한 번으로 조회되는지 검증
+ * (멤버/목적지 컬렉션 지연 로딩이나 멤버 선호도 EAGER 로딩이 추가 쿼리를 만들지 않는지 Hibernate 통계로 확인)
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+class TripJpaRepositoryQueryCountTest {
+    
+    private static final String USER_ID = "user-1";
+    private static final int TRIP_COUNT = 5;
+    
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+    
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+    
+    /**
+     * 애플리케이션 설정(Feign, 캐시 등) 대신 JPA 구성만 로드
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = Trip.class)
+    @EnableJpaRepositories(basePackageClasses = TripJpaRepository.class)
+    static class JpaTestConfiguration {
+    }
+    
+    @Autowired
+    private TripJpaRepository tripJpaRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= TRIP_COUNT; i++) {
+            entityManager.persist(tripWith("trip-" + i, USER_ID, i, i % 3 + 1));
+        }
+        entityManager.persist(tripWith("trip-other", "user-2", 2, 2));
+        entityManager.flush();
+        entityManager.clear();
+        
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+    
+    @Test
+    void offsetPageIsLoadedWithSingleStatement() {
+        List<TripSummaryProjection> page = tripJpaRepository.findSummariesLatest(
+            USER_ID, null, null, PageRequest.of(0, 3));
+        Map<String, Long> memberCounts = page.stream()
+            .collect(Collectors.toMap(TripSummaryProjection::getTripId, TripSummaryProjection::getMemberCount));
+        page.forEach(TripSummaryProjection::getDestinationCount);
+        
+        assertThat(page).hasSize(3);
+        assertThat(memberCounts).allSatisfy((tripId, count) ->
+            assertThat(count).isEqualTo(Long.parseLong(tripId.substring("trip-".length()))));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void keysetPageIsLoadedWithSingleStatement() {
+        List<TripSummaryProjection> first = tripJpaRepository.findSummariesLatest(
+            USER_ID, null, null, PageRequest.of(0, 2));
+        TripSummaryProjection last = first.get(first.size() - 1);
+        statistics.clear();
+        
+        List<TripSummaryProjection> next = tripJpaRepository.findSummariesBefore(
+            USER_ID, null, null, last.getCreatedAt(), last.getTripId(), PageRequest.of(0, 2));
+        
+        assertThat(next).hasSize(2)
+                        .extracting(TripSummaryProjection::getTripId)
+                        .doesNotContainAnyElementsOf(first.stream().map(TripSummaryProjection::getTripId).toList());
+        assertThat(next).allSatisfy(row -> assertThat(row.getDestinationCount()).isPositive());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    private Trip tripWith(String tripId, String userId, int memberCount, int destinationCount) {
+        Trip trip = Trip.create(tripId, "여행 " + tripId, userId, TransportMode.PUBLIC);
+        for (int i = 1; i <= memberCount; i++) {
+            trip.addMember(Member.createWithTrip(tripId + "-member-" + i, trip, "멤버" + i, 30,
+                                                 Gender.MALE, HealthStatus.GOOD, List.of()));
+        }
+        for (int i = 1; i <= destinationCount; i++) {
+            trip.addDestination(Destination.create(tripId + "-destination-" + i, tripId, "여행지" + i, 1,
+                                                   null, LocalTime.of(15, 0), LocalTime.of(11, 0), i));
+        }
+        return trip;
+    }
+}